@@ -0,0 +1,43 @@
+package com.nhl.dflib.csv;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @since 0.8
+ */
+class CountingInputStream extends FilterInputStream {
+
+    private CsvStatsTracker tracker;
+
+    CountingInputStream(InputStream in, CsvStatsTracker tracker) {
+        super(in);
+        this.tracker = tracker;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            tracker.bytesProcessed(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0) {
+            tracker.bytesProcessed(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        tracker.bytesProcessed(skipped);
+        return skipped;
+    }
+}
@@ -0,0 +1,43 @@
+package com.nhl.dflib.csv;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * @since 0.8
+ */
+class CountingReader extends FilterReader {
+
+    private CsvStatsTracker tracker;
+
+    CountingReader(Reader in, CsvStatsTracker tracker) {
+        super(in);
+        this.tracker = tracker;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int c = super.read();
+        if (c >= 0) {
+            tracker.bytesProcessed(1);
+        }
+        return c;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        int read = super.read(cbuf, off, len);
+        if (read > 0) {
+            tracker.bytesProcessed(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        tracker.bytesProcessed(skipped);
+        return skipped;
+    }
+}
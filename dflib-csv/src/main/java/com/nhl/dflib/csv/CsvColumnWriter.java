@@ -0,0 +1,150 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.QuoteMode;
+
+import java.io.IOException;
+
+/**
+ * Writes values of a single DataFrame column to CSV. Primitive columns are formatted directly into the output buffer,
+ * without boxing. All other columns are formatted via commons-csv {@link CSVFormat}, that quotes and escapes the
+ * values only when needed.
+ *
+ * @since 0.8
+ */
+abstract class CsvColumnWriter {
+
+    // chars that may appear in String representation of Java primitive numbers
+    private static final String NUMBER_CHARS = "0123456789-.EINaefinty";
+
+    static CsvColumnWriter forColumn(Series<?> column, CSVFormat format) {
+
+        if (canWriteNumbersDirectly(format)) {
+
+            Character quote = quoteNumbers(format) ? format.getQuoteCharacter() : null;
+            char delimiter = format.getDelimiter();
+
+            if (column instanceof IntSeries) {
+                return new IntColumnWriter((IntSeries) column, delimiter, quote);
+            }
+
+            if (column instanceof LongSeries) {
+                return new LongColumnWriter((LongSeries) column, delimiter, quote);
+            }
+
+            if (column instanceof DoubleSeries) {
+                return new DoubleColumnWriter((DoubleSeries) column, delimiter, quote);
+            }
+        }
+
+        return new ObjectColumnWriter(column, format);
+    }
+
+    // numbers can bypass CSVFormat as long as no formatting chars can possibly appear in them
+    private static boolean canWriteNumbersDirectly(CSVFormat format) {
+        return NUMBER_CHARS.indexOf(format.getDelimiter()) < 0
+                && (format.getQuoteCharacter() == null || NUMBER_CHARS.indexOf(format.getQuoteCharacter()) < 0)
+                && (format.getEscapeCharacter() == null || NUMBER_CHARS.indexOf(format.getEscapeCharacter()) < 0);
+    }
+
+    private static boolean quoteNumbers(CSVFormat format) {
+        QuoteMode mode = format.getQuoteMode();
+        return format.getQuoteCharacter() != null && (mode == QuoteMode.ALL || mode == QuoteMode.ALL_NON_NULL);
+    }
+
+    abstract void write(CsvOutputBuffer out, int row, boolean newRecord) throws IOException;
+
+    static class ObjectColumnWriter extends CsvColumnWriter {
+
+        private Series<?> column;
+        private CSVFormat format;
+
+        ObjectColumnWriter(Series<?> column, CSVFormat format) {
+            this.column = column;
+            this.format = format;
+        }
+
+        @Override
+        void write(CsvOutputBuffer out, int row, boolean newRecord) throws IOException {
+            format.print(column.get(row), out, newRecord);
+        }
+    }
+
+    static abstract class PrimitiveColumnWriter extends CsvColumnWriter {
+
+        private char delimiter;
+        private Character quote;
+
+        PrimitiveColumnWriter(char delimiter, Character quote) {
+            this.delimiter = delimiter;
+            this.quote = quote;
+        }
+
+        @Override
+        void write(CsvOutputBuffer out, int row, boolean newRecord) throws IOException {
+
+            if (!newRecord) {
+                out.append(delimiter);
+            }
+
+            if (quote != null) {
+                out.append(quote);
+                writeValue(out, row);
+                out.append(quote);
+            } else {
+                writeValue(out, row);
+            }
+        }
+
+        abstract void writeValue(CsvOutputBuffer out, int row) throws IOException;
+    }
+
+    static class IntColumnWriter extends PrimitiveColumnWriter {
+
+        private IntSeries column;
+
+        IntColumnWriter(IntSeries column, char delimiter, Character quote) {
+            super(delimiter, quote);
+            this.column = column;
+        }
+
+        @Override
+        void writeValue(CsvOutputBuffer out, int row) throws IOException {
+            out.appendInt(column.getInt(row));
+        }
+    }
+
+    static class LongColumnWriter extends PrimitiveColumnWriter {
+
+        private LongSeries column;
+
+        LongColumnWriter(LongSeries column, char delimiter, Character quote) {
+            super(delimiter, quote);
+            this.column = column;
+        }
+
+        @Override
+        void writeValue(CsvOutputBuffer out, int row) throws IOException {
+            out.appendLong(column.getLong(row));
+        }
+    }
+
+    static class DoubleColumnWriter extends PrimitiveColumnWriter {
+
+        private DoubleSeries column;
+
+        DoubleColumnWriter(DoubleSeries column, char delimiter, Character quote) {
+            super(delimiter, quote);
+            this.column = column;
+        }
+
+        @Override
+        void writeValue(CsvOutputBuffer out, int row) throws IOException {
+            out.appendDouble(column.getDouble(row));
+        }
+    }
+}
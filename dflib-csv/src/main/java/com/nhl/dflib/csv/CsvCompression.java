@@ -0,0 +1,106 @@
+package com.nhl.dflib.csv;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression formats recognized by the CSV loader and saver. When reading, the format is detected from the "magic"
+ * bytes at the beginning of the stream. When writing, the format is determined from the file extension. Compressed
+ * streams are (de)compressed on a separate thread, so that the CSV parsing or formatting can run in parallel with it.
+ *
+ * @since 0.8
+ */
+enum CsvCompression {
+
+    NONE {
+        @Override
+        InputStream decompress(InputStream in) {
+            return in;
+        }
+
+        @Override
+        OutputStream compress(OutputStream out) {
+            return out;
+        }
+
+        @Override
+        ByteBuffer compress(ByteBuffer bytes) {
+            return bytes;
+        }
+    },
+
+    GZIP {
+        @Override
+        InputStream decompress(InputStream in) throws IOException {
+            return new ReadAheadInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE, QUEUE_SIZE);
+        }
+
+        @Override
+        OutputStream compress(OutputStream out) throws IOException {
+            return new WriteBehindOutputStream(new GZIPOutputStream(out, BUFFER_SIZE), BUFFER_SIZE, QUEUE_SIZE);
+        }
+
+        @Override
+        ByteBuffer compress(ByteBuffer bytes) throws IOException {
+
+            // each block becomes a separate gzip "member". Concatenated members form a valid gzip stream
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.remaining() / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE)) {
+                gzip.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            }
+
+            return ByteBuffer.wrap(out.toByteArray());
+        }
+    };
+
+    static final int MAGIC_LENGTH = 2;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int QUEUE_SIZE = 4;
+
+    static CsvCompression forFileName(String fileName) {
+        return fileName.toLowerCase().endsWith(".gz") ? GZIP : NONE;
+    }
+
+    /**
+     * Detects compression format by peeking into the first few bytes of the stream. The bytes are pushed back, so the
+     * stream can be read from the beginning after this call.
+     */
+    static CsvCompression detect(PushbackInputStream in) throws IOException {
+
+        byte[] magic = new byte[MAGIC_LENGTH];
+
+        int len = 0;
+        while (len < MAGIC_LENGTH) {
+            int read = in.read(magic, len, MAGIC_LENGTH - len);
+            if (read < 0) {
+                break;
+            }
+
+            len += read;
+        }
+
+        in.unread(magic, 0, len);
+
+        return len == MAGIC_LENGTH
+                && (magic[0] & 0xff) == (GZIPInputStream.GZIP_MAGIC & 0xff)
+                && (magic[1] & 0xff) == (GZIPInputStream.GZIP_MAGIC >> 8)
+                ? GZIP
+                : NONE;
+    }
+
+    abstract InputStream decompress(InputStream in) throws IOException;
+
+    abstract OutputStream compress(OutputStream out) throws IOException;
+
+    /**
+     * Compresses a standalone block of bytes (that must be backed by an array).
+     */
+    abstract ByteBuffer compress(ByteBuffer bytes) throws IOException;
+}
@@ -6,7 +6,9 @@ import com.nhl.dflib.DoubleValueMapper;
 import com.nhl.dflib.Index;
 import com.nhl.dflib.IntValueMapper;
 import com.nhl.dflib.LongValueMapper;
+import com.nhl.dflib.RowPredicate;
 import com.nhl.dflib.ValueMapper;
+import com.nhl.dflib.ValuePredicate;
 import com.nhl.dflib.sample.Sampler;
 import com.nhl.dflib.series.builder.BooleanMappedAccumulator;
 import com.nhl.dflib.series.builder.DoubleMappedAccumulator;
@@ -19,8 +21,11 @@ import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVRecord;
 
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -46,12 +51,18 @@ public class CsvLoader {
     private int rowSampleSize;
     private Random rowsSampleRandom;
 
+    private List<Function<Index, RowPredicate>> rowFilters;
+
+    private CsvStatsListener statsListener;
+    private long statsIntervalMs;
+
     // storing converters as list to ensure predictable resolution order when the user supplies overlapping converters
     private List<AccumPair> builders;
 
     public CsvLoader() {
         this.format = CSVFormat.DEFAULT;
         this.builders = new ArrayList<>();
+        this.rowFilters = new ArrayList<>();
     }
 
     /**
@@ -96,6 +107,68 @@ public class CsvLoader {
         return this;
     }
 
+    /**
+     * Configures CSV loader to only include rows matching the condition. The condition is evaluated while the CSV is
+     * being parsed, before a row is added to the DataFrame, so rejected rows are never stored in memory, and the
+     * columns that the condition does not check are never converted for them. The value passed to the condition is
+     * already converted to the column type (e.g. an Integer for the columns configured via {@link #intColumn(String)}).
+     * If called multiple times, all conditions must match for the row to be included.
+     *
+     * @param column    the name of a column in the loaded DataFrame to check
+     * @param condition a predicate applied to the column value
+     * @return this loader instance
+     * @since 0.8
+     */
+    public <V> CsvLoader filterRows(String column, ValuePredicate<V> condition) {
+        rowFilters.add(i -> RowPredicate.forColumn(i.position(column), condition));
+        return this;
+    }
+
+    /**
+     * Configures CSV loader to only include rows matching the condition. Works the same way as
+     * {@link #filterRows(String, ValuePredicate)}, only the column is referenced by its position in the loaded DataFrame.
+     *
+     * @param column    the position of a column in the loaded DataFrame to check
+     * @param condition a predicate applied to the column value
+     * @return this loader instance
+     * @since 0.8
+     */
+    public <V> CsvLoader filterRows(int column, ValuePredicate<V> condition) {
+        rowFilters.add(i -> RowPredicate.forColumn(column, condition));
+        return this;
+    }
+
+    /**
+     * Configures CSV loader to only include rows matching the condition. The condition is evaluated while the CSV is
+     * being parsed. The row passed to the condition has the structure of the loaded DataFrame, and its values are
+     * converted to the column types lazily, so the columns that the condition does not read are never converted for
+     * rejected rows. If called multiple times, all conditions must match for the row to be included.
+     *
+     * @param condition a predicate applied to each CSV row
+     * @return this loader instance
+     * @since 0.8
+     */
+    public CsvLoader filterRows(RowPredicate condition) {
+        rowFilters.add(i -> condition);
+        return this;
+    }
+
+    /**
+     * Registers a listener that will be receiving periodic reports of the loading progress, such as the number of
+     * bytes and rows read, and the time spent converting each column. When no listener is registered, the loader
+     * doesn't collect any stats.
+     *
+     * @param listener   a listener of the loading progress
+     * @param intervalMs how often the progress should be reported
+     * @return this loader instance
+     * @since 0.8
+     */
+    public CsvLoader statsListener(CsvStatsListener listener, long intervalMs) {
+        this.statsListener = Objects.requireNonNull(listener);
+        this.statsIntervalMs = intervalMs;
+        return this;
+    }
+
     /**
      * @deprecated since 0.7 in favor of {@link #header(String...)}
      */
@@ -148,109 +221,109 @@ public class CsvLoader {
     }
 
     public CsvLoader columnType(int column, ValueMapper<String, ?> typeConverter) {
-        return columnType(column, new ObjectMappedAccumulator<>(typeConverter));
+        return columnType(i -> column, typeConverter, new ObjectMappedAccumulator<>(typeConverter));
     }
 
     public CsvLoader columnType(String column, ValueMapper<String, ?> typeConverter) {
-        return columnType(column, new ObjectMappedAccumulator<>(typeConverter));
+        return columnType(i -> i.position(column), typeConverter, new ObjectMappedAccumulator<>(typeConverter));
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader intColumn(int column) {
-        return columnType(column, new IntMappedAccumulator<>(IntValueMapper.fromString()));
+        return intColumn(i -> column, IntValueMapper.fromString());
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader intColumn(String column) {
-        return columnType(column, new IntMappedAccumulator<>(IntValueMapper.fromString()));
+        return intColumn(i -> i.position(column), IntValueMapper.fromString());
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader intColumn(int column, int forNull) {
-        return columnType(column, new IntMappedAccumulator<>(IntValueMapper.fromString(forNull)));
+        return intColumn(i -> column, IntValueMapper.fromString(forNull));
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader intColumn(String column, int forNull) {
-        return columnType(column, new IntMappedAccumulator<>(IntValueMapper.fromString(forNull)));
+        return intColumn(i -> i.position(column), IntValueMapper.fromString(forNull));
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader longColumn(int column) {
-        return columnType(column, new LongMappedAccumulator<>(LongValueMapper.fromString()));
+        return longColumn(i -> column, LongValueMapper.fromString());
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader longColumn(String column) {
-        return columnType(column, new LongMappedAccumulator(LongValueMapper.fromString()));
+        return longColumn(i -> i.position(column), LongValueMapper.fromString());
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader longColumn(int column, long forNull) {
-        return columnType(column, new LongMappedAccumulator(LongValueMapper.fromString(forNull)));
+        return longColumn(i -> column, LongValueMapper.fromString(forNull));
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader longColumn(String column, long forNull) {
-        return columnType(column, new LongMappedAccumulator(LongValueMapper.fromString(forNull)));
+        return longColumn(i -> i.position(column), LongValueMapper.fromString(forNull));
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader doubleColumn(int column) {
-        return columnType(column, new DoubleMappedAccumulator(DoubleValueMapper.fromString()));
+        return doubleColumn(i -> column, DoubleValueMapper.fromString());
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader doubleColumn(String column) {
-        return columnType(column, new DoubleMappedAccumulator(DoubleValueMapper.fromString()));
+        return doubleColumn(i -> i.position(column), DoubleValueMapper.fromString());
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader doubleColumn(int column, double forNull) {
-        return columnType(column, new DoubleMappedAccumulator(DoubleValueMapper.fromString(forNull)));
+        return doubleColumn(i -> column, DoubleValueMapper.fromString(forNull));
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader doubleColumn(String column, double forNull) {
-        return columnType(column, new DoubleMappedAccumulator(DoubleValueMapper.fromString(forNull)));
+        return doubleColumn(i -> i.position(column), DoubleValueMapper.fromString(forNull));
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader booleanColumn(int column) {
-        return columnType(column, new BooleanMappedAccumulator<>(BooleanValueMapper.fromString()));
+        return booleanColumn(i -> column, BooleanValueMapper.fromString());
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader booleanColumn(String column) {
-        return columnType(column, new BooleanMappedAccumulator<>(BooleanValueMapper.fromString()));
+        return booleanColumn(i -> i.position(column), BooleanValueMapper.fromString());
     }
 
     /**
@@ -261,50 +334,65 @@ public class CsvLoader {
      * @since 0.6
      */
     public CsvLoader numColumn(int column, Class<? extends Number> type) {
-        return columnType(column, numBuilder(type));
+        return columnType(column, numMapper(type));
     }
 
     /**
      * @since 0.6
      */
     public CsvLoader numColumn(String column, Class<? extends Number> type) {
-        return columnType(column, numBuilder(type));
+        return columnType(column, numMapper(type));
     }
 
-    private CsvLoader columnType(int column, SeriesBuilder<String, ?> columnBuilder) {
-        builders.add(new AccumPair(i -> column, columnBuilder));
-        return this;
+    private CsvLoader intColumn(Function<Index, Integer> positionResolver, IntValueMapper<String> mapper) {
+        return columnType(positionResolver, mapper::map, new IntMappedAccumulator<>(mapper));
+    }
+
+    private CsvLoader longColumn(Function<Index, Integer> positionResolver, LongValueMapper<String> mapper) {
+        return columnType(positionResolver, mapper::map, new LongMappedAccumulator<>(mapper));
+    }
+
+    private CsvLoader doubleColumn(Function<Index, Integer> positionResolver, DoubleValueMapper<String> mapper) {
+        return columnType(positionResolver, mapper::map, new DoubleMappedAccumulator<>(mapper));
+    }
+
+    private CsvLoader booleanColumn(Function<Index, Integer> positionResolver, BooleanValueMapper<String> mapper) {
+        return columnType(positionResolver, mapper::map, new BooleanMappedAccumulator<>(mapper));
     }
 
-    private CsvLoader columnType(String column, SeriesBuilder<String, ?> columnBuilder) {
-        builders.add(new AccumPair(i -> i.position(column), columnBuilder));
+    private CsvLoader columnType(
+            Function<Index, Integer> positionResolver,
+            ValueMapper<String, ?> converter,
+            SeriesBuilder<String, ?> columnBuilder) {
+
+        builders.add(new AccumPair(positionResolver, converter, columnBuilder));
         return this;
     }
 
-    private SeriesBuilder<String, ?> numBuilder(Class<? extends Number> type) {
+    private ValueMapper<String, ?> numMapper(Class<? extends Number> type) {
 
         if (Integer.class.equals(type)) {
-            return new ObjectMappedAccumulator<>(ValueMapper.stringToInt());
+            return ValueMapper.stringToInt();
         }
 
         if (Long.class.equals(type)) {
-            return new ObjectMappedAccumulator<>(ValueMapper.stringToLong());
+            return ValueMapper.stringToLong();
         }
 
         if (Double.class.equals(type)) {
-            return new ObjectMappedAccumulator<>(ValueMapper.stringToDouble());
+            return ValueMapper.stringToDouble();
         }
 
         if (Float.class.equals(type)) {
-            return new ObjectMappedAccumulator<>(ValueMapper.stringToFloat());
+            return ValueMapper.stringToFloat();
         }
 
         if (BigDecimal.class.equals(type)) {
-            return new ObjectMappedAccumulator<>(ValueMapper.stringToBigDecimal());
+            return ValueMapper.stringToBigDecimal();
         }
 
         if (BigInteger.class.equals(type)) {
-            return new ObjectMappedAccumulator<>(ValueMapper.stringToBigInteger());
+            return ValueMapper.stringToBigInteger();
         }
 
         throw new IllegalArgumentException("Can't map numeric type to a string converter: " + type);
@@ -389,23 +477,38 @@ public class CsvLoader {
         return this;
     }
 
+    /**
+     * Loads a DataFrame from a CSV file. If the file is compressed with gzip (which is detected from the file
+     * contents, regardless of the file name), it is decompressed on a separate thread while being parsed.
+     */
     public DataFrame load(File file) {
-        try (Reader r = new FileReader(file)) {
-            return load(r);
+        CsvStatsTracker tracker = createStatsTracker();
+        try (Reader r = openReader(file, tracker)) {
+            return load(r, tracker);
         } catch (IOException e) {
             throw new RuntimeException("Error reading file: " + file, e);
         }
     }
 
+    /**
+     * Loads a DataFrame from a CSV file. If the file is compressed with gzip (which is detected from the file
+     * contents, regardless of the file name), it is decompressed on a separate thread while being parsed.
+     */
     public DataFrame load(String filePath) {
-        try (Reader r = new FileReader(filePath)) {
-            return load(r);
+        CsvStatsTracker tracker = createStatsTracker();
+        try (Reader r = openReader(new File(filePath), tracker)) {
+            return load(r, tracker);
         } catch (IOException e) {
             throw new RuntimeException("Error reading file: " + filePath, e);
         }
     }
 
     public DataFrame load(Reader reader) {
+        CsvStatsTracker tracker = createStatsTracker();
+        return load(tracker != null ? new CountingReader(reader, tracker) : reader, tracker);
+    }
+
+    private DataFrame load(Reader reader, CsvStatsTracker tracker) {
         try {
             Iterator<CSVRecord> it = format.parse(reader).iterator();
 
@@ -413,22 +516,53 @@ public class CsvLoader {
             Index unfilteredHeader = unfilteredHeader(it);
             ColumnFilterPair pair = filterHeader(unfilteredHeader);
 
+            if (tracker != null) {
+                tracker.start(pair.header);
+            }
+
+            DataFrame df;
             if (!it.hasNext()) {
-                return DataFrame.newFrame(pair.header).empty();
+                df = DataFrame.newFrame(pair.header).empty();
+            } else {
+                SeriesBuilder<String, ?>[] accumulators = createAccumulators(pair.header);
+                CsvRowFilter rowFilter = createRowFilter(pair);
+                CsvLoaderWorker worker = rowSampleSize > 0
+                        ? new SamplingCsvLoaderWorker(pair.header, pair.csvPositions, accumulators, rowFilter, tracker, rowSampleSize, rowsSampleRandom)
+                        : new CsvLoaderWorker(pair.header, pair.csvPositions, accumulators, rowFilter, tracker);
+
+                df = worker.load(it);
             }
 
-            SeriesBuilder<String, ?>[] accumulators = createAccumulators(pair.header);
-            CsvLoaderWorker worker = rowSampleSize > 0
-                    ? new SamplingCsvLoaderWorker(pair.header, pair.csvPositions, accumulators, rowSampleSize, rowsSampleRandom)
-                    : new CsvLoaderWorker(pair.header, pair.csvPositions, accumulators);
+            if (tracker != null) {
+                tracker.finish();
+            }
 
-            return worker.load(it);
+            return df;
 
         } catch (IOException e) {
             throw new RuntimeException("Error reading CSV", e);
         }
     }
 
+    private CsvStatsTracker createStatsTracker() {
+        return statsListener != null ? new CsvStatsTracker(statsListener, statsIntervalMs) : null;
+    }
+
+    private Reader openReader(File file, CsvStatsTracker tracker) throws IOException {
+
+        InputStream fileIn = tracker != null
+                ? new CountingInputStream(new FileInputStream(file), tracker)
+                : new FileInputStream(file);
+
+        PushbackInputStream in = new PushbackInputStream(fileIn, CsvCompression.MAGIC_LENGTH);
+        try {
+            return new InputStreamReader(CsvCompression.detect(in).decompress(in));
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
     private void rewind(Iterator<CSVRecord> it) {
         for (int i = 0; i < skipRows && it.hasNext(); i++) {
             it.next();
@@ -531,12 +665,49 @@ public class CsvLoader {
         return builders;
     }
 
+    private CsvRowFilter createRowFilter(ColumnFilterPair pair) {
+
+        if (rowFilters.isEmpty()) {
+            return null;
+        }
+
+        Index columns = pair.header;
+        RowPredicate predicate = rowFilters.get(0).apply(columns);
+        for (int i = 1; i < rowFilters.size(); i++) {
+            predicate = predicate.and(rowFilters.get(i).apply(columns));
+        }
+
+        return new CsvRowFilter(new CsvRowProxy(columns, pair.csvPositions, createConverters(columns)), predicate);
+    }
+
+    private ValueMapper<String, ?>[] createConverters(Index columns) {
+
+        int w = columns.size();
+        ValueMapper<String, ?>[] converters = new ValueMapper[w];
+
+        // there may be overlapping pairs... the last one wins (same as with the accumulators)
+        for (AccumPair p : this.builders) {
+            converters[p.positionResolver.apply(columns)] = p.converter;
+        }
+
+        // columns with no explicit type are Strings
+        for (int i = 0; i < w; i++) {
+            if (converters[i] == null) {
+                converters[i] = s -> s;
+            }
+        }
+
+        return converters;
+    }
+
     private class AccumPair {
         Function<Index, Integer> positionResolver;
+        ValueMapper<String, ?> converter;
         SeriesBuilder<String, ?> builder;
 
-        AccumPair(Function<Index, Integer> positionResolver, SeriesBuilder<String, ?> builder) {
+        AccumPair(Function<Index, Integer> positionResolver, ValueMapper<String, ?> converter, SeriesBuilder<String, ?> builder) {
             this.positionResolver = positionResolver;
+            this.converter = converter;
             this.builder = builder;
         }
     }
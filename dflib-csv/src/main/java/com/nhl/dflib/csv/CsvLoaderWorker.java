@@ -13,11 +13,21 @@ class CsvLoaderWorker {
     protected SeriesBuilder<String, ?>[] accumulators;
     protected Index columns;
     protected int[] csvPositions;
+    protected CsvRowFilter rowFilter;
+    protected CsvStatsTracker tracker;
+
+    CsvLoaderWorker(
+            Index columns,
+            int[] csvPositions,
+            SeriesBuilder<String, ?>[] accumulators,
+            CsvRowFilter rowFilter,
+            CsvStatsTracker tracker) {
 
-    CsvLoaderWorker(Index columns, int[] csvPositions, SeriesBuilder<String, ?>[] accumulators) {
         this.columns = columns;
         this.csvPositions = csvPositions;
         this.accumulators = accumulators;
+        this.rowFilter = rowFilter;
+        this.tracker = tracker;
     }
 
     DataFrame load(Iterator<CSVRecord> it) {
@@ -28,10 +38,23 @@ class CsvLoaderWorker {
     protected void consumeCSV(Iterator<CSVRecord> it) {
         int width = columns.size();
         while (it.hasNext()) {
-            addRow(width, it.next());
+            CSVRecord row = it.next();
+            if (accept(row)) {
+                addRow(width, row);
+            }
         }
     }
 
+    protected boolean accept(CSVRecord row) {
+        boolean accepted = rowFilter == null || rowFilter.test(row);
+
+        if (tracker != null) {
+            tracker.rowParsed(accepted);
+        }
+
+        return accepted;
+    }
+
     protected DataFrame toDataFrame() {
         int width = columns.size();
         Series<?>[] series = new Series[width];
@@ -43,8 +66,31 @@ class CsvLoaderWorker {
     }
 
     protected void addRow(int width, CSVRecord row) {
+
+        if (tracker != null) {
+            tracker.rowConverted();
+            if (tracker.timeLastRow()) {
+                addRowTimed(width, row);
+                return;
+            }
+        }
+
         for (int i = 0; i < width; i++) {
             accumulators[i].add(row.get(csvPositions[i]));
         }
     }
+
+    private void addRowTimed(int width, CSVRecord row) {
+
+        long t0 = System.nanoTime();
+        for (int i = 0; i < width; i++) {
+            accumulators[i].add(row.get(csvPositions[i]));
+
+            long t1 = System.nanoTime();
+            tracker.columnTimed(i, t1 - t0);
+            t0 = t1;
+        }
+
+        tracker.rowTimed();
+    }
 }
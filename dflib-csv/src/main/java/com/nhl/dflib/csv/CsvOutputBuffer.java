@@ -0,0 +1,174 @@
+package com.nhl.dflib.csv;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * A reusable char buffer for CSV output, that formats primitive numbers directly into its internal array, without
+ * creating intermediate Strings or wrapper objects. When full, the buffer is flushed to the target Appendable as a
+ * single large chunk.
+ *
+ * @since 0.8
+ */
+class CsvOutputBuffer implements Appendable {
+
+    // large enough for any int or long, including the sign
+    private static final int MAX_INTEGRAL_LENGTH = 20;
+
+    private Appendable target;
+    private CsvStatsTracker tracker;
+    private char[] buffer;
+    private int len;
+
+    // reused to format doubles without creating Strings
+    private StringBuilder doubleFormatter;
+
+    CsvOutputBuffer(Appendable target, int capacity, CsvStatsTracker tracker) {
+        this.target = target;
+        this.tracker = tracker;
+        this.buffer = new char[Math.max(capacity, MAX_INTEGRAL_LENGTH)];
+        this.doubleFormatter = new StringBuilder(32);
+    }
+
+    @Override
+    public CsvOutputBuffer append(CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public CsvOutputBuffer append(CharSequence csq, int start, int end) throws IOException {
+
+        int csqLen = end - start;
+        if (csqLen > buffer.length - len) {
+            flush();
+
+            // too big to buffer, so bypass the buffer
+            if (csqLen > buffer.length) {
+                target.append(csq, start, end);
+
+                if (tracker != null) {
+                    tracker.bytesProcessed(csqLen);
+                }
+
+                return this;
+            }
+        }
+
+        if (csq instanceof String) {
+            ((String) csq).getChars(start, end, buffer, len);
+            len += csqLen;
+        } else {
+            for (int i = start; i < end; i++) {
+                buffer[len++] = csq.charAt(i);
+            }
+        }
+
+        return this;
+    }
+
+    @Override
+    public CsvOutputBuffer append(char c) throws IOException {
+        if (len == buffer.length) {
+            flush();
+        }
+
+        buffer[len++] = c;
+        return this;
+    }
+
+    CsvOutputBuffer appendInt(int value) throws IOException {
+
+        if (value == Integer.MIN_VALUE) {
+            return append(Integer.toString(value));
+        }
+
+        ensureCapacity(MAX_INTEGRAL_LENGTH);
+
+        if (value < 0) {
+            buffer[len++] = '-';
+            value = -value;
+        }
+
+        int start = len;
+        do {
+            buffer[len++] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+
+        reverse(start, len - 1);
+        return this;
+    }
+
+    CsvOutputBuffer appendLong(long value) throws IOException {
+
+        if (value == Long.MIN_VALUE) {
+            return append(Long.toString(value));
+        }
+
+        ensureCapacity(MAX_INTEGRAL_LENGTH);
+
+        if (value < 0) {
+            buffer[len++] = '-';
+            value = -value;
+        }
+
+        int start = len;
+        do {
+            buffer[len++] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+
+        reverse(start, len - 1);
+        return this;
+    }
+
+    CsvOutputBuffer appendDouble(double value) throws IOException {
+
+        // produces the same output as Double.toString(..)
+        doubleFormatter.setLength(0);
+        doubleFormatter.append(value);
+
+        int dLen = doubleFormatter.length();
+        ensureCapacity(dLen);
+        doubleFormatter.getChars(0, dLen, buffer, len);
+        len += dLen;
+        return this;
+    }
+
+    /**
+     * Writes the buffered chars to the target. Doesn't flush the target itself.
+     */
+    void flush() throws IOException {
+
+        if (len == 0) {
+            return;
+        }
+
+        if (target instanceof Writer) {
+            ((Writer) target).write(buffer, 0, len);
+        } else {
+            target.append(CharBuffer.wrap(buffer, 0, len));
+        }
+
+        if (tracker != null) {
+            tracker.bytesProcessed(len);
+        }
+
+        len = 0;
+    }
+
+    private void ensureCapacity(int chars) throws IOException {
+        if (chars > buffer.length - len) {
+            flush();
+        }
+    }
+
+    private void reverse(int from, int to) {
+        while (from < to) {
+            char c = buffer[from];
+            buffer[from++] = buffer[to];
+            buffer[to--] = c;
+        }
+    }
+}
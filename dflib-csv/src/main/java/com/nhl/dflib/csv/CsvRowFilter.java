@@ -0,0 +1,24 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.RowPredicate;
+import org.apache.commons.csv.CSVRecord;
+
+/**
+ * Checks raw CSV records against a user-provided condition before they are added to the DataFrame being loaded.
+ *
+ * @since 0.8
+ */
+class CsvRowFilter {
+
+    private CsvRowProxy proxy;
+    private RowPredicate predicate;
+
+    CsvRowFilter(CsvRowProxy proxy, RowPredicate predicate) {
+        this.proxy = proxy;
+        this.predicate = predicate;
+    }
+
+    boolean test(CSVRecord record) {
+        return predicate.test(proxy.rewind(record));
+    }
+}
@@ -0,0 +1,54 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.Index;
+import com.nhl.dflib.ValueMapper;
+import com.nhl.dflib.row.RowBuilder;
+import com.nhl.dflib.row.RowProxy;
+import org.apache.commons.csv.CSVRecord;
+
+/**
+ * A {@link RowProxy} over a raw CSV record that has the structure of the DataFrame being loaded. Values are converted
+ * to the column types on demand, so the columns that are never read are never converted.
+ *
+ * @since 0.8
+ */
+class CsvRowProxy implements RowProxy {
+
+    private Index columns;
+    private int[] csvPositions;
+    private ValueMapper<String, ?>[] converters;
+    private CSVRecord record;
+
+    CsvRowProxy(Index columns, int[] csvPositions, ValueMapper<String, ?>[] converters) {
+        this.columns = columns;
+        this.csvPositions = csvPositions;
+        this.converters = converters;
+    }
+
+    @Override
+    public Index getIndex() {
+        return columns;
+    }
+
+    @Override
+    public Object get(int columnPos) {
+        return converters[columnPos].map(record.get(csvPositions[columnPos]));
+    }
+
+    @Override
+    public Object get(String columnName) {
+        return get(columns.position(columnName));
+    }
+
+    @Override
+    public void copyRange(RowBuilder to, int fromOffset, int toOffset, int len) {
+        for (int i = 0; i < len; i++) {
+            to.set(i + toOffset, get(i + fromOffset));
+        }
+    }
+
+    CsvRowProxy rewind(CSVRecord record) {
+        this.record = record;
+        return this;
+    }
+}
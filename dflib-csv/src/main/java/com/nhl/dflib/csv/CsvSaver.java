@@ -1,21 +1,51 @@
 package com.nhl.dflib.csv;
 
 import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.GroupBy;
 import com.nhl.dflib.Index;
-import com.nhl.dflib.row.RowProxy;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class CsvSaver {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // the number of rows formatted by a single task when saving a single file in parallel
+    private static final int CHUNK_SIZE = 50_000;
+    // report saved rows to the stats tracker in batches of 1024
+    private static final int STATS_BATCH_MASK = 1023;
+    private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
+
     private CSVFormat format;
     private boolean createMissingDirs;
 
+    private CsvStatsListener statsListener;
+    private long statsIntervalMs;
+
     public CsvSaver() {
         this.format = CSVFormat.DEFAULT;
     }
@@ -44,35 +74,58 @@ public class CsvSaver {
         return this;
     }
 
+    /**
+     * Registers a listener that will be receiving periodic reports of the saving progress, such as the number of rows
+     * and chars written. When no listener is registered, the saver doesn't collect any stats.
+     *
+     * @param listener   a listener of the saving progress
+     * @param intervalMs how often the progress should be reported
+     * @return this saver instance
+     * @since 0.8
+     */
+    public CsvSaver statsListener(CsvStatsListener listener, long intervalMs) {
+        this.statsListener = Objects.requireNonNull(listener);
+        this.statsIntervalMs = intervalMs;
+        return this;
+    }
+
+    /**
+     * Saves a DataFrame to a CSV file. If the file name ends with ".gz", the output is compressed with gzip. Compression
+     * is done on a separate thread, in parallel with CSV formatting.
+     */
     public void save(DataFrame df, File file) {
 
         if (createMissingDirs) {
-            File dir = file.getParentFile();
-            if (dir != null) {
-                dir.mkdirs();
-            }
+            mkdirs(file.getParentFile());
         }
 
-        try (FileWriter out = new FileWriter(file)) {
+        try (Writer out = openWriter(file)) {
             save(df, out);
         } catch (IOException e) {
             throw new RuntimeException("Error writing CSV to " + file + ": " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Saves a DataFrame to a CSV file. If the file name ends with ".gz", the output is compressed with gzip. Compression
+     * is done on a separate thread, in parallel with CSV formatting.
+     */
     public void save(DataFrame df, String fileName) {
         save(df, new File(fileName));
     }
 
     public void save(DataFrame df, Appendable out) {
 
+        CsvStatsTracker tracker = createStatsTracker(df);
+
         try {
-            CSVPrinter printer = new CSVPrinter(out, format);
-            printHeader(printer, df.getColumnsIndex());
+            CsvOutputBuffer buffer = new CsvOutputBuffer(out, BUFFER_SIZE, tracker);
+            printHeader(buffer, df.getColumnsIndex());
+            printRows(buffer, new RowRange(df, 0, df.height()), tracker);
+            buffer.flush();
 
-            int len = df.width();
-            for (RowProxy r : df) {
-                printRow(printer, r, len);
+            if (tracker != null) {
+                tracker.finish();
             }
 
         } catch (IOException e) {
@@ -87,17 +140,321 @@ public class CsvSaver {
         return out.toString();
     }
 
-    private void printHeader(CSVPrinter printer, Index index) throws IOException {
+    /**
+     * Saves a DataFrame to a directory as a number of "part" CSV files, each containing a contiguous range of rows and
+     * its own header. The files are named "part-00000.csv", "part-00001.csv", etc. and are written in parallel.
+     *
+     * @param df    DataFrame to save
+     * @param dir   a directory where the part files should be created
+     * @param parts the number of parts to split the DataFrame into. Fewer parts are created if the DataFrame has fewer
+     *              rows than that.
+     * @since 0.8
+     */
+    public void saveParts(DataFrame df, File dir, int parts) {
+        List<RowRange> ranges = splitByRowCount(df, partSize(df.height(), parts));
+        saveParts(ranges, dir, Math.min(ranges.size(), MAX_THREADS));
+    }
+
+    /**
+     * Saves a DataFrame to a directory as a number of "part" CSV files, one file per distinct value of the specified
+     * column, in the order of {@link DataFrame#group(String, String...)}. The files are named "part-00000.csv",
+     * "part-00001.csv", etc. and are written in parallel.
+     *
+     * @param df       DataFrame to save
+     * @param dir      a directory where the part files should be created
+     * @param byColumn a column whose values define the parts
+     * @since 0.8
+     */
+    public void saveParts(DataFrame df, File dir, String byColumn) {
+        List<RowRange> ranges = splitByColumn(df, byColumn);
+        saveParts(ranges, dir, Math.min(ranges.size(), MAX_THREADS));
+    }
+
+    /**
+     * Saves a DataFrame to a single CSV file, formatting its row ranges in parallel, and writing them to the file in
+     * order. If the file name ends with ".gz", each range is also compressed in parallel, resulting in a valid
+     * multi-member gzip file.
+     *
+     * @param df      DataFrame to save
+     * @param file    a file to save to
+     * @param threads the number of formatting threads
+     * @since 0.8
+     */
+    public void saveParallel(DataFrame df, File file, int threads) {
+        saveParallel(splitByRowCount(df, CHUNK_SIZE), file, threads);
+    }
+
+    /**
+     * Saves a DataFrame to a single CSV file, with rows grouped by the values of the specified column, in the order of
+     * {@link DataFrame#group(String, String...)}. Works the same way as {@link #saveParallel(DataFrame, File, int)},
+     * formatting the groups in parallel, and writing them to the file in order.
+     *
+     * @param df       DataFrame to save
+     * @param file     a file to save to
+     * @param byColumn a column whose values define the row grouping
+     * @param threads  the number of formatting threads
+     * @since 0.8
+     */
+    public void saveParallel(DataFrame df, File file, String byColumn, int threads) {
+
+        List<RowRange> chunks = new ArrayList<>();
+        for (RowRange group : splitByColumn(df, byColumn)) {
+            chunks.addAll(splitByRowCount(group.df, CHUNK_SIZE));
+        }
+
+        saveParallel(chunks, file, threads);
+    }
+
+    private void saveParts(List<RowRange> ranges, File dir, int threads) {
+
+        CsvStatsTracker tracker = createStatsTracker(ranges.get(0).df);
+
+        if (createMissingDirs) {
+            mkdirs(dir);
+        }
+
+        int len = ranges.size();
+        List<Callable<Void>> tasks = new ArrayList<>(len);
+        for (int i = 0; i < len; i++) {
+
+            RowRange range = ranges.get(i);
+            File file = new File(dir, String.format("part-%05d.csv", i));
+
+            tasks.add(() -> {
+                try (Writer out = openWriter(file)) {
+                    CsvOutputBuffer buffer = new CsvOutputBuffer(out, BUFFER_SIZE, tracker);
+                    printHeader(buffer, range.df.getColumnsIndex());
+                    printRows(buffer, range, tracker);
+                    buffer.flush();
+                }
+
+                return null;
+            });
+        }
+
+        ExecutorService executor = createExecutor(threads);
+        try {
+            for (Future<Void> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+
+            if (tracker != null) {
+                tracker.finish();
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error writing CSV to " + dir + ": " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while writing CSV to " + dir, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void saveParallel(List<RowRange> chunks, File file, int threads) {
+
+        if (createMissingDirs) {
+            mkdirs(file.getParentFile());
+        }
+
+        CsvCompression compression = CsvCompression.forFileName(file.getName());
+        CsvStatsTracker tracker = createStatsTracker(chunks.get(0).df);
+        ExecutorService executor = createExecutor(threads);
+
+        // limit the number of formatted chunks held in memory at any given moment
+        int maxInFlight = threads * 2;
+        Deque<Future<ByteBuffer>> inFlight = new ArrayDeque<>(maxInFlight);
+
+        try (FileChannel channel = openChannel(file)) {
+
+            StringBuilder header = new StringBuilder();
+            printHeader(header, chunks.get(0).df.getColumnsIndex());
+            write(channel, encode(header, compression));
+
+            for (RowRange chunk : chunks) {
+
+                if (inFlight.size() == maxInFlight) {
+                    write(channel, inFlight.poll().get());
+                }
+
+                inFlight.add(executor.submit(() -> {
+                    StringBuilder out = new StringBuilder();
+                    CsvOutputBuffer buffer = new CsvOutputBuffer(out, BUFFER_SIZE, tracker);
+                    printRows(buffer, chunk, tracker);
+                    buffer.flush();
+                    return encode(out, compression);
+                }));
+            }
+
+            while (!inFlight.isEmpty()) {
+                write(channel, inFlight.poll().get());
+            }
+
+            if (tracker != null) {
+                tracker.finish();
+            }
+
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing CSV to " + file + ": " + e.getMessage(), e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error writing CSV to " + file + ": " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while writing CSV to " + file, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<RowRange> splitByRowCount(DataFrame df, int rowsPerRange) {
+
+        int h = df.height();
+        if (h == 0) {
+            return Collections.singletonList(new RowRange(df, 0, 0));
+        }
+
+        List<RowRange> ranges = new ArrayList<>(h / rowsPerRange + 1);
+        for (int from = 0; from < h; from += rowsPerRange) {
+            ranges.add(new RowRange(df, from, Math.min(h, from + rowsPerRange)));
+        }
+
+        return ranges;
+    }
+
+    private List<RowRange> splitByColumn(DataFrame df, String column) {
+
+        GroupBy groupBy = df.group(column);
+        if (groupBy.size() == 0) {
+            return Collections.singletonList(new RowRange(df, 0, 0));
+        }
+
+        List<RowRange> ranges = new ArrayList<>(groupBy.size());
+        for (Object key : groupBy.getGroups()) {
+            DataFrame group = groupBy.getGroup(key);
+            ranges.add(new RowRange(group, 0, group.height()));
+        }
+
+        return ranges;
+    }
+
+    private CsvStatsTracker createStatsTracker(DataFrame df) {
+
+        if (statsListener == null) {
+            return null;
+        }
+
+        CsvStatsTracker tracker = new CsvStatsTracker(statsListener, statsIntervalMs);
+        tracker.start(df.getColumnsIndex());
+        return tracker;
+    }
+
+    private static int partSize(int height, int parts) {
+
+        if (parts < 1) {
+            throw new IllegalArgumentException("Invalid number of parts: " + parts);
+        }
+
+        return Math.max(1, (height + parts - 1) / parts);
+    }
+
+    private ByteBuffer encode(CharSequence chars, CsvCompression compression) throws IOException {
+        ByteBuffer bytes = Charset.defaultCharset().encode(CharBuffer.wrap(chars));
+        return compression.compress(bytes);
+    }
+
+    private static void write(FileChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+
+        if (threads < 1) {
+            throw new IllegalArgumentException("Invalid number of threads: " + threads);
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "dflib-csv-saver-" + counter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private static void mkdirs(File dir) {
+        if (dir != null) {
+            dir.mkdirs();
+        }
+    }
+
+    private static FileChannel openChannel(File file) throws IOException {
+        return FileChannel.open(
+                file.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    private Writer openWriter(File file) throws IOException {
+
+        FileChannel channel = openChannel(file);
+
+        try {
+            CsvCompression compression = CsvCompression.forFileName(file.getName());
+            return compression == CsvCompression.NONE
+                    ? Channels.newWriter(channel, Charset.defaultCharset().newEncoder(), BUFFER_SIZE)
+                    : new OutputStreamWriter(compression.compress(Channels.newOutputStream(channel)));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void printHeader(Appendable out, Index index) throws IOException {
+        CSVPrinter printer = new CSVPrinter(out, format);
         for (String label : index.getLabels()) {
             printer.print(label);
         }
         printer.println();
     }
 
-    private void printRow(CSVPrinter printer, RowProxy row, int len) throws IOException {
-        for (int i = 0; i < len; i++) {
-            printer.print(row.get(i));
+    private void printRows(CsvOutputBuffer out, RowRange range, CsvStatsTracker tracker) throws IOException {
+
+        DataFrame df = range.df;
+
+        int w = df.width();
+        CsvColumnWriter[] writers = new CsvColumnWriter[w];
+        for (int i = 0; i < w; i++) {
+            writers[i] = CsvColumnWriter.forColumn(df.getColumn(i), format);
+        }
+
+        for (int r = range.from; r < range.to; r++) {
+            for (int i = 0; i < w; i++) {
+                writers[i].write(out, r, i == 0);
+            }
+
+            format.println(out);
+
+            if (tracker != null && ((r - range.from + 1) & STATS_BATCH_MASK) == 0) {
+                tracker.rowsWritten(STATS_BATCH_MASK + 1);
+            }
+        }
+
+        if (tracker != null) {
+            tracker.rowsWritten((range.to - range.from) & STATS_BATCH_MASK);
+        }
+    }
+
+    private static class RowRange {
+        DataFrame df;
+        int from;
+        int to;
+
+        RowRange(DataFrame df, int from, int to) {
+            this.df = df;
+            this.from = from;
+            this.to = to;
         }
-        printer.println();
     }
 }
@@ -0,0 +1,92 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.Index;
+
+/**
+ * An immutable snapshot of CSV load or save progress, passed to a {@link CsvStatsListener}.
+ *
+ * @since 0.8
+ */
+public class CsvStats {
+
+    private Index columns;
+    private long rows;
+    private long rejectedRows;
+    private long bytes;
+    private long elapsedNanos;
+    private long[] columnNanos;
+
+    CsvStats(Index columns, long rows, long rejectedRows, long bytes, long elapsedNanos, long[] columnNanos) {
+        this.columns = columns;
+        this.rows = rows;
+        this.rejectedRows = rejectedRows;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+        this.columnNanos = columnNanos;
+    }
+
+    /**
+     * @return columns of the DataFrame being loaded or saved.
+     */
+    public Index getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return the number of CSV rows processed so far. For the loader this includes the rejected rows.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * @return the number of CSV rows read by the loader, but not included in the DataFrame, because they didn't match
+     * the row filter. Always zero for the saver.
+     */
+    public long getRejectedRows() {
+        return rejectedRows;
+    }
+
+    /**
+     * @return the number of bytes read from the file (compressed bytes, if the file is compressed) by the loader. If
+     * loading from a Reader or saving, this is the number of chars read or written.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedNanos > 0 ? rows * 1_000_000_000. / elapsedNanos : 0.;
+    }
+
+    /**
+     * Returns an estimated time spent by the loader converting the values of a given column and storing them in the
+     * DataFrame. The estimate is based on timing a sample of rows, extrapolated to all the converted rows (with
+     * {@link CsvLoader#sampleRows(int)}, only the rows that ended up in the sample, even temporarily). Always zero for
+     * the saver.
+     *
+     * @param column column position in the DataFrame
+     * @return estimated time in nanoseconds
+     */
+    public long getColumnParseNanos(int column) {
+        return column < columnNanos.length ? columnNanos[column] : 0L;
+    }
+
+    public long getColumnParseNanos(String column) {
+        return getColumnParseNanos(columns.position(column));
+    }
+
+    @Override
+    public String toString() {
+        return "CsvStats{rows=" + rows
+                + ", rejectedRows=" + rejectedRows
+                + ", bytes=" + bytes
+                + ", elapsedMs=" + elapsedNanos / 1_000_000
+                + ", rowsPerSecond=" + (long) getRowsPerSecond()
+                + "}";
+    }
+}
@@ -0,0 +1,24 @@
+package com.nhl.dflib.csv;
+
+/**
+ * A callback that receives periodic progress reports from {@link CsvLoader} or {@link CsvSaver}. Progress may be
+ * reported from the thread that performs the operation, or from one of the worker threads if the operation is
+ * parallel, but the calls to the listener are never concurrent.
+ *
+ * @since 0.8
+ */
+@FunctionalInterface
+public interface CsvStatsListener {
+
+    /**
+     * Called periodically, with the interval configured when the listener was registered.
+     */
+    void onProgress(CsvStats stats);
+
+    /**
+     * Called once after the operation finishes successfully. By default delegates to {@link #onProgress(CsvStats)}.
+     */
+    default void onFinish(CsvStats stats) {
+        onProgress(stats);
+    }
+}
@@ -0,0 +1,140 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.Index;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects CSV load or save stats and periodically reports them to a {@link CsvStatsListener}. Only created when a
+ * listener is registered, so there's no overhead otherwise.
+ *
+ * @since 0.8
+ */
+class CsvStatsTracker {
+
+    // check the clock every 1024 rows
+    private static final int CHECK_MASK = 1023;
+
+    // time column parsing of every 64th row
+    private static final int TIMED_ROW_MASK = 63;
+
+    private CsvStatsListener listener;
+    private long intervalNanos;
+    private long startNanos;
+    private volatile long nextReportNanos;
+
+    private Index columns;
+    private LongAdder rows;
+    private LongAdder rejectedRows;
+    private LongAdder bytes;
+
+    // single-threaded loader state
+    private long rowCounter;
+    private long convertedRows;
+    private long timedRows;
+    private long[] timedColumnNanos;
+
+    CsvStatsTracker(CsvStatsListener listener, long intervalMs) {
+        this.listener = listener;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+        this.columns = Index.forLabels();
+        this.timedColumnNanos = new long[0];
+        this.rows = new LongAdder();
+        this.rejectedRows = new LongAdder();
+        this.bytes = new LongAdder();
+
+        this.startNanos = System.nanoTime();
+        this.nextReportNanos = startNanos + intervalNanos;
+    }
+
+    void start(Index columns) {
+        this.columns = columns;
+        this.timedColumnNanos = new long[columns.size()];
+    }
+
+    void bytesProcessed(long n) {
+        bytes.add(n);
+    }
+
+    /**
+     * Records a single row processed by the loader. Must be called from the loader thread.
+     */
+    void rowParsed(boolean accepted) {
+        rows.increment();
+        if (!accepted) {
+            rejectedRows.increment();
+        }
+
+        if ((++rowCounter & CHECK_MASK) == 0) {
+            checkReport();
+        }
+    }
+
+    /**
+     * Records a batch of rows processed by the saver. May be called from multiple threads.
+     */
+    void rowsWritten(int n) {
+        rows.add(n);
+        checkReport();
+    }
+
+    /**
+     * Records a row whose values were converted and stored in the DataFrame. With row sampling this is only a subset
+     * of the accepted rows. Must be called from the loader thread.
+     */
+    void rowConverted() {
+        convertedRows++;
+    }
+
+    /**
+     * Returns whether the conversion of the last parsed row should be timed.
+     */
+    boolean timeLastRow() {
+        return (rowCounter & TIMED_ROW_MASK) == 0;
+    }
+
+    void rowTimed() {
+        timedRows++;
+    }
+
+    void columnTimed(int column, long nanos) {
+        timedColumnNanos[column] += nanos;
+    }
+
+    void finish() {
+        synchronized (this) {
+            listener.onFinish(snapshot(System.nanoTime()));
+        }
+    }
+
+    private void checkReport() {
+        long now = System.nanoTime();
+        if (now - nextReportNanos >= 0) {
+            synchronized (this) {
+                if (now - nextReportNanos >= 0) {
+                    nextReportNanos = now + intervalNanos;
+                    listener.onProgress(snapshot(now));
+                }
+            }
+        }
+    }
+
+    private CsvStats snapshot(long now) {
+
+        long rows = this.rows.sum();
+
+        // extrapolate sampled timing to all the rows that were actually converted. This is not the same as the
+        // accepted rows count, as with row sampling most of the accepted rows are discarded without conversion
+        int w = timedColumnNanos.length;
+        long[] columnNanos = new long[w];
+        if (timedRows > 0) {
+            double scale = convertedRows / (double) timedRows;
+            for (int i = 0; i < w; i++) {
+                columnNanos[i] = (long) (timedColumnNanos[i] * scale);
+            }
+        }
+
+        return new CsvStats(columns, rows, rejectedRows.sum(), bytes.sum(), now - startNanos, columnNanos);
+    }
+}
@@ -0,0 +1,184 @@
+package com.nhl.dflib.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * An InputStream that reads its source on a background thread, passing the filled buffers to the consumer via a
+ * bounded queue. Used to run decompression in parallel with CSV parsing.
+ *
+ * @since 0.8
+ */
+class ReadAheadInputStream extends InputStream {
+
+    private static final Chunk EOF = new Chunk(new byte[0], -1, null);
+
+    private InputStream source;
+    private int chunkSize;
+    private BlockingQueue<Chunk> chunks;
+    private Thread reader;
+
+    private Chunk current;
+    private int pos;
+    private boolean eof;
+    private volatile boolean closed;
+
+    ReadAheadInputStream(InputStream source, int chunkSize, int queueSize) {
+        this.source = source;
+        this.chunkSize = chunkSize;
+        this.chunks = new ArrayBlockingQueue<>(queueSize);
+
+        this.reader = new Thread(this::readSource, "dflib-csv-read-ahead");
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+        return nextChunk() ? current.data[pos++] & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+
+        if (len == 0) {
+            return 0;
+        }
+
+        if (!nextChunk()) {
+            return -1;
+        }
+
+        int read = Math.min(len, current.len - pos);
+        System.arraycopy(current.data, pos, b, off, read);
+        pos += read;
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        reader.interrupt();
+
+        try {
+            reader.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            source.close();
+        }
+    }
+
+    private boolean nextChunk() throws IOException {
+
+        if (current != null && pos < current.len) {
+            return true;
+        }
+
+        if (eof) {
+            return false;
+        }
+
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        try {
+            current = chunks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data");
+        }
+
+        pos = 0;
+
+        if (current.error != null) {
+            eof = true;
+            throw readError(current.error);
+        }
+
+        if (current == EOF) {
+            eof = true;
+            return false;
+        }
+
+        return true;
+    }
+
+    private void readSource() {
+
+        Chunk last = EOF;
+
+        try {
+            int read;
+            do {
+                byte[] buffer = new byte[chunkSize];
+                read = readFully(buffer);
+                if (read > 0) {
+                    chunks.put(new Chunk(buffer, read, null));
+                }
+            } while (read == chunkSize && !closed);
+
+        } catch (IOException | RuntimeException | Error e) {
+            // must always put a terminal chunk, or the consumer would wait for it forever
+            last = new Chunk(null, -1, e);
+        } catch (InterruptedException e) {
+            // the consumer closed the stream
+            return;
+        }
+
+        try {
+            chunks.put(last);
+        } catch (InterruptedException e) {
+            // the consumer closed the stream
+        }
+    }
+
+    private static IOException readError(Throwable error) {
+
+        // rethrow unchecked exceptions as is, same as if they were thrown by the source stream in the consumer thread
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+
+        return new IOException("Error reading data: " + error.getMessage(), error);
+    }
+
+    private int readFully(byte[] buffer) throws IOException {
+        int len = 0;
+        while (len < buffer.length) {
+            int read = source.read(buffer, len, buffer.length - len);
+            if (read < 0) {
+                break;
+            }
+
+            len += read;
+        }
+
+        return len;
+    }
+
+    private static class Chunk {
+        final byte[] data;
+        final int len;
+        final Throwable error;
+
+        Chunk(byte[] data, int len, Throwable error) {
+            this.data = data;
+            this.len = len;
+            this.error = error;
+        }
+    }
+}
@@ -18,8 +18,16 @@ class SamplingCsvLoaderWorker extends CsvLoaderWorker {
     private Random rowsSampleRandom;
     private IntAccumulator sampledRows;
 
-    SamplingCsvLoaderWorker(Index columns, int[] csvPositions, SeriesBuilder<String, ?>[] accumulators, int rowSampleSize, Random rowsSampleRandom) {
-        super(columns, csvPositions, accumulators);
+    SamplingCsvLoaderWorker(
+            Index columns,
+            int[] csvPositions,
+            SeriesBuilder<String, ?>[] accumulators,
+            CsvRowFilter rowFilter,
+            CsvStatsTracker tracker,
+            int rowSampleSize,
+            Random rowsSampleRandom) {
+
+        super(columns, csvPositions, accumulators, rowFilter, tracker);
         this.rowSampleSize = rowSampleSize;
         this.rowsSampleRandom = rowsSampleRandom;
         this.sampledRows = new IntAccumulator();
@@ -45,7 +53,12 @@ class SamplingCsvLoaderWorker extends CsvLoaderWorker {
         int width = columns.size();
         int i = 0;
         while (it.hasNext()) {
-            sampleRow(i++, width, it.next());
+            CSVRecord row = it.next();
+
+            // only rows matching the filter participate in sampling
+            if (accept(row)) {
+                sampleRow(i++, width, row);
+            }
         }
     }
 
@@ -69,6 +82,11 @@ class SamplingCsvLoaderWorker extends CsvLoaderWorker {
     }
 
     protected void replaceRow(int pos, int width, CSVRecord record) {
+
+        if (tracker != null) {
+            tracker.rowConverted();
+        }
+
         for (int i = 0; i < width; i++) {
             accumulators[i].set(pos, record.get(csvPositions[i]));
         }
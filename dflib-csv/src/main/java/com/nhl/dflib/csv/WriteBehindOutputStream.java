@@ -0,0 +1,169 @@
+package com.nhl.dflib.csv;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * An OutputStream that collects written bytes into buffers, and passes the filled buffers via a bounded queue to a
+ * background thread that writes them to the target stream. Used to run compression in parallel with CSV formatting.
+ *
+ * @since 0.8
+ */
+class WriteBehindOutputStream extends OutputStream {
+
+    private static final Chunk EOF = new Chunk(new byte[0], -1);
+
+    private OutputStream target;
+    private int chunkSize;
+    private BlockingQueue<Chunk> chunks;
+    private Thread writer;
+    private volatile Throwable error;
+
+    private byte[] buffer;
+    private int pos;
+    private boolean closed;
+
+    WriteBehindOutputStream(OutputStream target, int chunkSize, int queueSize) {
+        this.target = target;
+        this.chunkSize = chunkSize;
+        this.chunks = new ArrayBlockingQueue<>(queueSize);
+        this.buffer = new byte[chunkSize];
+
+        this.writer = new Thread(this::writeTarget, "dflib-csv-write-behind");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+
+        if (pos == buffer.length) {
+            flushBuffer();
+        }
+
+        buffer[pos++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+
+        while (len > 0) {
+
+            if (pos == buffer.length) {
+                flushBuffer();
+            }
+
+            int copy = Math.min(len, buffer.length - pos);
+            System.arraycopy(b, off, buffer, pos, copy);
+            pos += copy;
+            off += copy;
+            len -= copy;
+        }
+    }
+
+    /**
+     * Hands off the buffered bytes to the writer thread. Note that this doesn't wait for the bytes to be written to
+     * the target stream. This only happens on {@link #close()}.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (pos > 0) {
+            flushBuffer();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (closed) {
+            return;
+        }
+
+        boolean eofQueued = false;
+        try {
+            flush();
+            put(EOF);
+            eofQueued = true;
+        } finally {
+            closed = true;
+
+            // if we couldn't deliver EOF, the writer thread will never finish on its own
+            if (!eofQueued) {
+                writer.interrupt();
+            }
+
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writer.interrupt();
+            } finally {
+                target.close();
+            }
+        }
+
+        checkError();
+    }
+
+    private void flushBuffer() throws IOException {
+
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        checkError();
+        put(new Chunk(buffer, pos));
+
+        this.buffer = new byte[chunkSize];
+        this.pos = 0;
+    }
+
+    private void put(Chunk chunk) throws IOException {
+        try {
+            chunks.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to write data");
+        }
+    }
+
+    private void checkError() throws IOException {
+        if (error != null) {
+            throw new IOException("Error writing data: " + error.getMessage(), error);
+        }
+    }
+
+    private void writeTarget() {
+
+        try {
+            Chunk chunk;
+            while ((chunk = chunks.take()) != EOF) {
+
+                // after a failure keep draining the queue, so that the producer is never blocked
+                if (error == null) {
+                    try {
+                        target.write(chunk.data, 0, chunk.len);
+                    } catch (IOException | RuntimeException | Error e) {
+                        // unchecked failures must also be reported to the producer, not kill the writer thread
+                        error = e;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // the producer was interrupted and gave up on the stream
+        }
+    }
+
+    private static class Chunk {
+        final byte[] data;
+        final int len;
+
+        Chunk(byte[] data, int len) {
+            this.data = data;
+            this.len = len;
+        }
+    }
+}
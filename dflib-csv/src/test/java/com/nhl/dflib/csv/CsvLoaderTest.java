@@ -6,12 +6,18 @@ import com.nhl.dflib.ValueMapper;
 import org.apache.commons.csv.CSVFormat;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.StringReader;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
 
 public class CsvLoaderTest extends BaseCsvTest {
 
@@ -38,6 +44,37 @@ public class CsvLoaderTest extends BaseCsvTest {
                 .expectRow(1, "4", "5", "6");
     }
 
+    @Test
+    public void testFromFile_Gzip() {
+        DataFrame df = new CsvLoader().load(inPath("f1.csv.gz"));
+        new DataFrameAsserts(df, "A", "b", "C")
+                .expectHeight(2)
+                .expectRow(0, "1", "2", "3")
+                .expectRow(1, "4", "5", "6");
+    }
+
+    @Test
+    public void testFromFile_Gzip_DetectedFromContents() throws IOException {
+
+        File file = new File(outPath("testFromFile_Gzip_DetectedFromContents.csv"));
+
+        StringBuilder csv = new StringBuilder("A,B").append(System.lineSeparator());
+        for (int i = 0; i < 100_000; i++) {
+            csv.append(i).append(",b").append(i).append(System.lineSeparator());
+        }
+
+        try (Writer out = new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(file)))) {
+            out.write(csv.toString());
+        }
+
+        DataFrame df = new CsvLoader().intColumn("A").load(file);
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(100_000)
+                .expectRow(0, 0, "b0")
+                .expectRow(65_536, 65_536, "b65536")
+                .expectRow(99_999, 99_999, "b99999");
+    }
+
     @Test
     public void testFromFile_DefaultFormat_Excel() {
         DataFrame df = new CsvLoader().load(inPath("from_excel.csv"));
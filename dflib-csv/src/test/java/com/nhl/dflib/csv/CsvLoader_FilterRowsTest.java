@@ -0,0 +1,131 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Random;
+
+public class CsvLoader_FilterRowsTest {
+
+    private static final String CSV = "A,B" + System.lineSeparator()
+            + "1,2" + System.lineSeparator()
+            + "3,4" + System.lineSeparator()
+            + "5,6" + System.lineSeparator()
+            + "7,8" + System.lineSeparator();
+
+    @Test
+    public void testFilterRows_ByName() {
+
+        DataFrame df = new CsvLoader()
+                .filterRows("A", (String v) -> v.equals("3") || v.equals("7"))
+                .load(new StringReader(CSV));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(2)
+                .expectRow(0, "3", "4")
+                .expectRow(1, "7", "8");
+    }
+
+    @Test
+    public void testFilterRows_ByPosition_Converted() {
+
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .intColumn("B")
+                .filterRows(1, (Integer v) -> v > 5)
+                .load(new StringReader(CSV));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(2)
+                .expectRow(0, 5, 6)
+                .expectRow(1, 7, 8);
+    }
+
+    @Test
+    public void testFilterRows_RowPredicate() {
+
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .filterRows(r -> ((Integer) r.get("A")) < 4 && !r.get(1).equals("2"))
+                .load(new StringReader(CSV));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(1)
+                .expectRow(0, 3, "4");
+    }
+
+    @Test
+    public void testFilterRows_Multiple() {
+
+        DataFrame df = new CsvLoader()
+                .longColumn("A")
+                .filterRows("A", (Long v) -> v > 1L)
+                .filterRows("B", (String v) -> !v.equals("6"))
+                .load(new StringReader(CSV));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(2)
+                .expectRow(0, 3L, "4")
+                .expectRow(1, 7L, "8");
+    }
+
+    @Test
+    public void testFilterRows_SelectColumns() {
+
+        DataFrame df = new CsvLoader()
+                .selectColumns("B")
+                .filterRows("B", (String v) -> v.equals("8"))
+                .load(new StringReader(CSV));
+
+        new DataFrameAsserts(df, "B")
+                .expectHeight(1)
+                .expectRow(0, "8");
+    }
+
+    @Test
+    public void testFilterRows_NoneMatch() {
+
+        DataFrame df = new CsvLoader()
+                .filterRows("A", (String v) -> false)
+                .load(new StringReader(CSV));
+
+        new DataFrameAsserts(df, "A", "B").expectHeight(0);
+    }
+
+    @Test
+    public void testFilterRows_SkipsConversionOfRejectedRows() {
+
+        String csv = "A,B" + System.lineSeparator()
+                + "1,x" + System.lineSeparator()
+                + "2,3" + System.lineSeparator();
+
+        // "x" can't be converted to int, but it is in the row that is filtered out
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .intColumn("B")
+                .filterRows("A", (Integer v) -> v == 2)
+                .load(new StringReader(csv));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(1)
+                .expectRow(0, 2, 3);
+    }
+
+    @Test
+    public void testFilterRows_SampleRows() {
+
+        // sample is larger than the number of matching rows, so all of them are included
+        DataFrame df = new CsvLoader()
+                .filterRows("A", (String v) -> !v.equals("5"))
+                .sampleRows(3, new Random(8))
+                .load(new StringReader(CSV));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(3)
+                .expectRow(0, "1", "2")
+                .expectRow(1, "3", "4")
+                .expectRow(2, "7", "8");
+    }
+}
@@ -1,12 +1,23 @@
 package com.nhl.dflib.csv;
 
 import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.row.RowProxy;
 import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.QuoteMode;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.StringWriter;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.Assert.*;
 
@@ -53,6 +64,56 @@ public class CsvSaverTest extends BaseCsvTest {
                 "3\t4\n", out.toString());
     }
 
+    @Test
+    public void testSave_PrimitiveColumns() {
+
+        DataFrame df = DataFrame.newFrame("I", "L", "D", "S").columns(
+                IntSeries.forInts(1, -20, Integer.MIN_VALUE, Integer.MAX_VALUE),
+                LongSeries.forLongs(0L, -3L, Long.MIN_VALUE, Long.MAX_VALUE),
+                DoubleSeries.forDoubles(1.5, -0.001, Double.NaN, Double.NEGATIVE_INFINITY),
+                Series.forData("a", "b,c", null, "d\"e"));
+
+        assertEquals("I,L,D,S\r\n" +
+                "1,0,1.5,a\r\n" +
+                "-20,-3,-0.001,\"b,c\"\r\n" +
+                "-2147483648,-9223372036854775808,NaN,\r\n" +
+                "2147483647,9223372036854775807,-Infinity,\"d\"\"e\"\r\n", Csv.saver().saveToString(df));
+    }
+
+    @Test
+    public void testSave_PrimitiveColumns_SameAsCommonsCsv() throws IOException {
+
+        DataFrame df = DataFrame.newFrame("I", "L", "D", "S").columns(
+                IntSeries.forInts(1, -20, 300),
+                LongSeries.forLongs(5L, -6L, 70L),
+                DoubleSeries.forDoubles(1.0E10, -0.5, Double.POSITIVE_INFINITY),
+                Series.forData("a", "b\tc", null));
+
+        CSVFormat[] formats = {
+                CSVFormat.DEFAULT,
+                CSVFormat.MYSQL,
+                CSVFormat.TDF,
+                CSVFormat.EXCEL,
+                CSVFormat.DEFAULT.withQuoteMode(QuoteMode.ALL),
+                CSVFormat.DEFAULT.withQuoteMode(QuoteMode.ALL_NON_NULL),
+                CSVFormat.DEFAULT.withQuoteMode(QuoteMode.NON_NUMERIC),
+                CSVFormat.DEFAULT.withEscape('\\').withQuoteMode(QuoteMode.NONE),
+                CSVFormat.DEFAULT.withDelimiter('.').withTrailingDelimiter()
+        };
+
+        for (CSVFormat format : formats) {
+
+            StringWriter expected = new StringWriter();
+            CSVPrinter printer = new CSVPrinter(expected, format);
+            printer.printRecord("I", "L", "D", "S");
+            for (RowProxy r : df) {
+                printer.printRecord(r.get(0), r.get(1), r.get(2), r.get(3));
+            }
+
+            assertEquals(format.toString(), expected.toString(), Csv.saver().format(format).saveToString(df));
+        }
+    }
+
     @Test
     public void testSave_ToFile() throws IOException {
 
@@ -68,6 +129,40 @@ public class CsvSaverTest extends BaseCsvTest {
                 "3,4\r\n", readFile(file.getAbsolutePath()));
     }
 
+    @Test
+    public void testSave_ToFile_Gzip() throws IOException {
+
+        File file = new File(outPath("testToFile_Gzip.csv.gz"));
+
+        DataFrame df = DataFrame.newFrame("A", "B").foldByRow(
+                1, 2,
+                3, 4);
+
+        Csv.saver().save(df, file);
+        assertEquals("A,B\r\n" +
+                "1,2\r\n" +
+                "3,4\r\n", readGzipFile(file));
+    }
+
+    @Test
+    public void testSave_ToFile_Gzip_Large() throws IOException {
+
+        File file = new File(outPath("testToFile_Gzip_Large.csv.gz"));
+
+        int h = 100_000;
+        int[] as = new int[h];
+        String[] bs = new String[h];
+        for (int i = 0; i < h; i++) {
+            as[i] = i;
+            bs[i] = "b" + i;
+        }
+
+        DataFrame df = DataFrame.newFrame("A", "B").columns(IntSeries.forInts(as), Series.forData(bs));
+
+        Csv.saver().save(df, file);
+        assertEquals(Csv.saver().saveToString(df), readGzipFile(file));
+    }
+
     @Test
     public void testSave_ToFilePath() throws IOException {
 
@@ -99,6 +194,20 @@ public class CsvSaverTest extends BaseCsvTest {
                 "3,4\r\n", readFile(file.getAbsolutePath()));
     }
 
+    private String readGzipFile(File file) throws IOException {
+        try (Reader in = new InputStreamReader(new GZIPInputStream(new FileInputStream(file)))) {
+
+            StringBuilder out = new StringBuilder();
+            char[] buffer = new char[1024];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                out.append(buffer, 0, read);
+            }
+
+            return out.toString();
+        }
+    }
+
     @Test(expected = RuntimeException.class)
     public void testSave_NoMkdirs() {
 
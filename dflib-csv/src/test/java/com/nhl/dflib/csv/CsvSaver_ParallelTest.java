@@ -0,0 +1,132 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class CsvSaver_ParallelTest extends BaseCsvTest {
+
+    private static DataFrame largeFrame(int h) {
+        int[] as = new int[h];
+        String[] bs = new String[h];
+        for (int i = 0; i < h; i++) {
+            as[i] = i;
+            bs[i] = i % 2 == 0 ? "even" : "odd";
+        }
+
+        return DataFrame.newFrame("A", "B").columns(IntSeries.forInts(as), Series.forData(bs));
+    }
+
+    @Test
+    public void testSaveParts() throws IOException {
+
+        File dir = new File(outPath("testSaveParts"));
+
+        DataFrame df = DataFrame.newFrame("A", "B").foldByRow(
+                1, 2,
+                3, 4,
+                5, 6);
+
+        Csv.saver().createMissingDirs().saveParts(df, dir, 2);
+
+        assertEquals("A,B\r\n" +
+                "1,2\r\n" +
+                "3,4\r\n", readFile(new File(dir, "part-00000.csv").getPath()));
+
+        assertEquals("A,B\r\n" +
+                "5,6\r\n", readFile(new File(dir, "part-00001.csv").getPath()));
+    }
+
+    @Test
+    public void testSaveParts_MorePartsThanRows() throws IOException {
+
+        File dir = new File(outPath("testSaveParts_MorePartsThanRows"));
+
+        DataFrame df = DataFrame.newFrame("A", "B").foldByRow(
+                1, 2,
+                3, 4);
+
+        Csv.saver().createMissingDirs().saveParts(df, dir, 5);
+
+        assertEquals("A,B\r\n1,2\r\n", readFile(new File(dir, "part-00000.csv").getPath()));
+        assertEquals("A,B\r\n3,4\r\n", readFile(new File(dir, "part-00001.csv").getPath()));
+        assertFalse(new File(dir, "part-00002.csv").exists());
+    }
+
+    @Test
+    public void testSaveParts_ByColumn() throws IOException {
+
+        File dir = new File(outPath("testSaveParts_ByColumn"));
+
+        DataFrame df = DataFrame.newFrame("A", "B").foldByRow(
+                1, "x",
+                2, "y",
+                3, "x");
+
+        Csv.saver().createMissingDirs().saveParts(df, dir, "B");
+
+        assertEquals("A,B\r\n" +
+                "1,x\r\n" +
+                "3,x\r\n", readFile(new File(dir, "part-00000.csv").getPath()));
+
+        assertEquals("A,B\r\n" +
+                "2,y\r\n", readFile(new File(dir, "part-00001.csv").getPath()));
+    }
+
+    @Test
+    public void testSaveParallel() throws IOException {
+
+        File file = new File(outPath("testSaveParallel.csv"));
+
+        DataFrame df = largeFrame(230_000);
+        Csv.saver().saveParallel(df, file, 3);
+
+        assertEquals(Csv.saver().saveToString(df), readFile(file.getPath()));
+    }
+
+    @Test
+    public void testSaveParallel_Empty() throws IOException {
+
+        File file = new File(outPath("testSaveParallel_Empty.csv"));
+
+        DataFrame df = DataFrame.newFrame("A", "B").empty();
+        Csv.saver().saveParallel(df, file, 2);
+
+        assertEquals("A,B\r\n", readFile(file.getPath()));
+    }
+
+    @Test
+    public void testSaveParallel_ByColumn() throws IOException {
+
+        File file = new File(outPath("testSaveParallel_ByColumn.csv"));
+
+        DataFrame df = largeFrame(120_001);
+        Csv.saver().saveParallel(df, file, "B", 2);
+
+        DataFrame expected = df.group("B").toDataFrame();
+        assertEquals(Csv.saver().saveToString(expected), readFile(file.getPath()));
+    }
+
+    @Test
+    public void testSaveParallel_Gzip() {
+
+        File file = new File(outPath("testSaveParallel_Gzip.csv.gz"));
+
+        DataFrame df = largeFrame(110_000);
+        Csv.saver().saveParallel(df, file, 2);
+
+        DataFrame loaded = Csv.loader().intColumn("A").load(file);
+        new DataFrameAsserts(loaded, "A", "B")
+                .expectHeight(110_000)
+                .expectRow(0, 0, "even")
+                .expectRow(50_000, 50_000, "even")
+                .expectRow(109_999, 109_999, "odd");
+    }
+}
@@ -0,0 +1,158 @@
+package com.nhl.dflib.csv;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.IntSeries;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CsvStatsListenerTest extends BaseCsvTest {
+
+    private static String csv(int h) {
+        StringBuilder csv = new StringBuilder("A,B\n");
+        for (int i = 0; i < h; i++) {
+            csv.append(i).append(",b").append(i).append("\n");
+        }
+        return csv.toString();
+    }
+
+    @Test
+    public void testLoader() {
+
+        String csv = csv(3000);
+        Listener listener = new Listener();
+
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .filterRows("A", (Integer v) -> v % 3 == 0)
+                .statsListener(listener, 0)
+                .load(new StringReader(csv));
+
+        assertEquals(1000, df.height());
+
+        // reported every 1024 rows
+        assertEquals(2, listener.progress.size());
+        assertEquals(1024L, listener.progress.get(0).getRows());
+        assertEquals(2048L, listener.progress.get(1).getRows());
+
+        CsvStats stats = listener.finish;
+        assertNotNull(stats);
+        assertEquals(3000L, stats.getRows());
+        assertEquals(2000L, stats.getRejectedRows());
+        assertEquals(csv.length(), stats.getBytes());
+        assertTrue(stats.getElapsedNanos() > 0);
+        assertTrue(stats.getColumnParseNanos("A") > 0);
+        assertTrue(stats.getColumnParseNanos(1) > 0);
+    }
+
+    @Test
+    public void testLoader_ColumnParseNanos_Sampled() {
+
+        Listener listener = new Listener();
+        CsvStatsTracker tracker = new CsvStatsTracker(listener, 1000);
+        tracker.start(Index.forLabels("A"));
+
+        // 6400 accepted rows, of which only 640 were converted, and 10 of those timed
+        for (int i = 0; i < 6400; i++) {
+            tracker.rowParsed(true);
+            if (i % 10 == 0) {
+                tracker.rowConverted();
+            }
+        }
+
+        for (int i = 0; i < 10; i++) {
+            tracker.rowTimed();
+            tracker.columnTimed(0, 100);
+        }
+
+        tracker.finish();
+        assertEquals(6400L, listener.finish.getRows());
+        assertEquals(64_000L, listener.finish.getColumnParseNanos("A"));
+    }
+
+    @Test
+    public void testLoader_Sampled() {
+
+        Listener listener = new Listener();
+
+        DataFrame df = new CsvLoader()
+                .intColumn("A")
+                .sampleRows(100)
+                .statsListener(listener, 1000)
+                .load(new StringReader(csv(3000)));
+
+        assertEquals(100, df.height());
+        assertEquals(3000L, listener.finish.getRows());
+        assertTrue(listener.finish.getColumnParseNanos("A") > 0);
+    }
+
+    @Test
+    public void testLoader_File() {
+
+        Listener listener = new Listener();
+        new CsvLoader().statsListener(listener, 1000).load(inPath("f1.csv"));
+
+        assertTrue(listener.progress.isEmpty());
+        assertEquals(2L, listener.finish.getRows());
+        assertEquals(new File(inPath("f1.csv")).length(), listener.finish.getBytes());
+    }
+
+    @Test
+    public void testSaver() {
+
+        int[] ints = new int[2000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = i;
+        }
+
+        DataFrame df = DataFrame.newFrame("A").columns(IntSeries.forInts(ints));
+        Listener listener = new Listener();
+
+        String csv = new CsvSaver().statsListener(listener, 0).saveToString(df);
+
+        assertEquals(2, listener.progress.size());
+        assertEquals(1024L, listener.progress.get(0).getRows());
+        assertEquals(2000L, listener.progress.get(1).getRows());
+
+        assertEquals(2000L, listener.finish.getRows());
+        assertEquals(0L, listener.finish.getRejectedRows());
+        assertEquals(csv.length(), listener.finish.getBytes());
+    }
+
+    @Test
+    public void testSaver_Parallel() {
+
+        int[] ints = new int[200_000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = i;
+        }
+
+        DataFrame df = DataFrame.newFrame("A").columns(IntSeries.forInts(ints));
+        Listener listener = new Listener();
+
+        new CsvSaver().statsListener(listener, 1000).saveParallel(df, new File(outPath("testSaver_Parallel.csv")), 3);
+        assertEquals(200_000L, listener.finish.getRows());
+    }
+
+    private static class Listener implements CsvStatsListener {
+
+        List<CsvStats> progress = new ArrayList<>();
+        CsvStats finish;
+
+        @Override
+        public void onProgress(CsvStats stats) {
+            progress.add(stats);
+        }
+
+        @Override
+        public void onFinish(CsvStats stats) {
+            this.finish = stats;
+        }
+    }
+}
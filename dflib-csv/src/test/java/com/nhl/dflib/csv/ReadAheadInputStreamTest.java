@@ -0,0 +1,106 @@
+package com.nhl.dflib.csv;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import static org.junit.Assert.*;
+
+public class ReadAheadInputStreamTest {
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[7];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testRead() throws IOException {
+
+        byte[] data = new byte[100];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        try (InputStream in = new ReadAheadInputStream(new ByteArrayInputStream(data), 16, 2)) {
+            assertArrayEquals(data, readAll(in));
+        }
+    }
+
+    @Test(timeout = 5000L)
+    public void testRead_SourceIOException() throws IOException {
+
+        InputStream source = new FailingInputStream(new IOException("source failed"));
+
+        try (InputStream in = new ReadAheadInputStream(source, 16, 2)) {
+            readAll(in);
+            fail("Exception expected");
+        } catch (IOException e) {
+            assertEquals("source failed", e.getCause().getMessage());
+        }
+    }
+
+    @Test(timeout = 5000L)
+    public void testRead_SourceRuntimeException() throws IOException {
+
+        InputStream source = new FailingInputStream(new UncheckedIOException(new IOException("source failed")));
+
+        try (InputStream in = new ReadAheadInputStream(source, 16, 2)) {
+            readAll(in);
+            fail("Exception expected");
+        } catch (UncheckedIOException e) {
+            assertEquals("source failed", e.getCause().getMessage());
+        }
+    }
+
+    @Test(timeout = 5000L)
+    public void testRead_SourceError() throws IOException {
+
+        InputStream source = new FailingInputStream(new OutOfMemoryError("source failed"));
+
+        try (InputStream in = new ReadAheadInputStream(source, 16, 2)) {
+            readAll(in);
+            fail("Error expected");
+        } catch (OutOfMemoryError e) {
+            assertEquals("source failed", e.getMessage());
+        }
+    }
+
+    // returns some data, and then fails
+    private static class FailingInputStream extends InputStream {
+
+        private Throwable failure;
+        private int available;
+
+        FailingInputStream(Throwable failure) {
+            this.failure = failure;
+            this.available = 20;
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            if (available-- > 0) {
+                return 1;
+            }
+
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+
+            throw (Error) failure;
+        }
+    }
+}
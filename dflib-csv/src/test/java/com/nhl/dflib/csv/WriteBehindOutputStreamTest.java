@@ -0,0 +1,111 @@
+package com.nhl.dflib.csv;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import static org.junit.Assert.*;
+
+public class WriteBehindOutputStreamTest {
+
+    private static byte[] data(int len) {
+        byte[] data = new byte[len];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    @Test
+    public void testWrite() throws IOException {
+
+        byte[] data = data(100);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        try (OutputStream out = new WriteBehindOutputStream(target, 16, 2)) {
+            out.write(data, 0, 50);
+            out.write(data, 50, 50);
+        }
+
+        assertArrayEquals(data, target.toByteArray());
+    }
+
+    @Test(timeout = 5000L)
+    public void testWrite_TargetIOException() {
+
+        OutputStream target = new FailingOutputStream(new IOException("target failed"));
+
+        try (OutputStream out = new WriteBehindOutputStream(target, 16, 2)) {
+            writeAll(out, data(1000));
+            fail("Exception expected");
+        } catch (IOException e) {
+            assertEquals("target failed", e.getCause().getMessage());
+        }
+    }
+
+    @Test(timeout = 5000L)
+    public void testWrite_TargetRuntimeException() {
+
+        OutputStream target = new FailingOutputStream(new UncheckedIOException(new IOException("target failed")));
+
+        try (OutputStream out = new WriteBehindOutputStream(target, 16, 2)) {
+            writeAll(out, data(1000));
+            fail("Exception expected");
+        } catch (IOException e) {
+            assertTrue(e.getCause() instanceof UncheckedIOException);
+        }
+    }
+
+    @Test(timeout = 5000L)
+    public void testWrite_TargetError() {
+
+        OutputStream target = new FailingOutputStream(new OutOfMemoryError("target failed"));
+
+        try (OutputStream out = new WriteBehindOutputStream(target, 16, 2)) {
+            writeAll(out, data(1000));
+            fail("Exception expected");
+        } catch (IOException e) {
+            assertTrue(e.getCause() instanceof OutOfMemoryError);
+        }
+    }
+
+    // writes byte by byte to produce many chunks, so that the writer thread fails while the producer is still busy
+    private static void writeAll(OutputStream out, byte[] data) throws IOException {
+        for (byte b : data) {
+            out.write(b);
+        }
+    }
+
+    // accepts some data, and then fails
+    private static class FailingOutputStream extends OutputStream {
+
+        private Throwable failure;
+        private int available;
+
+        FailingOutputStream(Throwable failure) {
+            this.failure = failure;
+            this.available = 20;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+
+            if (available-- > 0) {
+                return;
+            }
+
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+
+            throw (Error) failure;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.nhl.dflib.jdbc;
 import com.nhl.dflib.jdbc.connector.DefaultJdbcConnector;
 import com.nhl.dflib.jdbc.connector.JdbcConnector;
 import com.nhl.dflib.jdbc.connector.JdbcConnectorBuilder;
+import com.nhl.dflib.jdbc.connector.JdbcMetrics;
 import com.nhl.dflib.jdbc.connector.metadata.DbMetadata;
 
 import javax.sql.DataSource;
@@ -20,4 +21,13 @@ public class Jdbc {
     public static JdbcConnector connector(DataSource ds) {
         return new DefaultJdbcConnector(ds, DbMetadata.create(ds));
     }
+
+    /**
+     * Creates a connector that reports the timing and volume of its operations to the provided metrics callback.
+     *
+     * @since 0.8
+     */
+    public static JdbcConnector connector(DataSource ds, JdbcMetrics metrics) {
+        return new DefaultJdbcConnector(ds, DbMetadata.create(ds), metrics);
+    }
 }
@@ -12,5 +12,13 @@ import com.nhl.dflib.DataFrame;
  */
 public enum SaveOp {
 
-    insert, update, skip
+    insert, update, skip,
+
+    /**
+     * A row was either inserted or updated, but the DB did not report which one of the two operations took place.
+     * Produced by the DB-side merge when the DB doesn't distinguish between them in the update counts.
+     *
+     * @since 0.8
+     */
+    merge
 }
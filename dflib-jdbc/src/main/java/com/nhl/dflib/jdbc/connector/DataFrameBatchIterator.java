@@ -0,0 +1,174 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.jdbc.connector.statement.SelectStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over a DB query result that reads it as a sequence of DataFrames of a fixed height, keeping the
+ * underlying JDBC statement open between the batches. This allows to process result sets that are too big to fit in
+ * memory as a single DataFrame. Connection, statement and ResultSet are closed once the last batch is read, or when
+ * {@link #close()} is called, whichever happens first. So callers that may stop iterating early must close the
+ * iterator explicitly (e.g. using "try-with-resources").
+ *
+ * @see SqlLoader#stream(int)
+ * @since 0.8
+ */
+public class DataFrameBatchIterator implements Iterator<DataFrame>, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataFrameBatchIterator.class);
+
+    private SqlLoader loader;
+    private JdbcMetrics metrics;
+    private int batchRows;
+    private int maxRows;
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+    private Index columns;
+
+    private DataFrame next;
+    private int rowsRead;
+    private boolean exhausted;
+
+    protected DataFrameBatchIterator(SqlLoader loader, int batchRows, int maxRows) {
+
+        if (batchRows <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchRows);
+        }
+
+        this.loader = loader;
+        this.batchRows = batchRows;
+        this.maxRows = maxRows;
+    }
+
+    protected DataFrameBatchIterator open(JdbcConnector connector, String sql, SelectStatement select) {
+
+        this.metrics = connector.getMetrics();
+
+        try {
+            this.connection = connector.getConnection();
+            this.statement = select.prepare(connection);
+
+            long t0 = System.nanoTime();
+            this.resultSet = statement.executeQuery();
+            metrics.queryExecuted(sql, System.nanoTime() - t0);
+
+            this.columns = loader.createIndex(resultSet);
+        } catch (SQLException | RuntimeException e) {
+            close();
+            throw new RuntimeException("Error loading data from DB: " + e.getMessage(), e);
+        }
+
+        return this;
+    }
+
+    protected DataFrameBatchIterator empty(Index columns) {
+        this.columns = columns;
+        this.exhausted = true;
+        return this;
+    }
+
+    /**
+     * Returns the columns of the DataFrames produced by this iterator. Available even if the result set is empty.
+     */
+    public Index getColumnsIndex() {
+        return columns;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !exhausted) {
+            next = readBatch();
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public DataFrame next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more batches");
+        }
+
+        DataFrame batch = next;
+        next = null;
+        return batch;
+    }
+
+    @Override
+    public void close() {
+
+        exhausted = true;
+
+        // closing in reverse order, trying to close each resource even if the previous ones failed
+        try {
+            if (resultSet != null) {
+                resultSet.close();
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Error closing ResultSet", e);
+        } finally {
+            resultSet = null;
+        }
+
+        try {
+            if (statement != null) {
+                statement.close();
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Error closing PreparedStatement", e);
+        } finally {
+            statement = null;
+        }
+
+        try {
+            if (connection != null) {
+                connection.close();
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Error closing Connection", e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    protected DataFrame readBatch() {
+
+        int limit = Math.min(batchRows, maxRows - rowsRead);
+        if (limit <= 0) {
+            close();
+            return null;
+        }
+
+        DataFrame batch;
+        try {
+            long t0 = System.nanoTime();
+            batch = new SqlLoaderWorker(columns, loader.createAccummulators(resultSet), limit).load(resultSet);
+            metrics.dataFrameLoaded(batch.height(), System.nanoTime() - t0);
+        } catch (SQLException | RuntimeException e) {
+            close();
+            throw new RuntimeException("Error loading data from DB: " + e.getMessage(), e);
+        }
+
+        int h = batch.height();
+        rowsRead += h;
+
+        // a short batch means the ResultSet is over
+        if (h < limit) {
+            close();
+        }
+
+        return h > 0 ? batch : null;
+    }
+}
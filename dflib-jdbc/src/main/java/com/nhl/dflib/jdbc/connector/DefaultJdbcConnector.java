@@ -14,6 +14,7 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * An abstraction on top of JDBC DataSource that smoothens a variety of cross-DB portability issues.
@@ -26,14 +27,24 @@ public class DefaultJdbcConnector implements JdbcConnector {
 
     private SeriesBuilderFactory defaultSeriesBuilderFactory;
     private Map<Integer, SeriesBuilderFactory> mandatorySeriesBuilderFactories;
+    private Map<Integer, SeriesBuilderFactory> nullableSeriesBuilderFactories;
     private Map<Integer, SeriesBuilderFactory> seriesBuilderFactories;
 
     private ValueConverterFactory preBindConverterFactory;
     private SqlLogger sqlLogger;
+    private JdbcMetrics metrics;
 
     public DefaultJdbcConnector(DataSource dataSource, DbMetadata metadata) {
+        this(dataSource, metadata, JdbcMetrics.noop());
+    }
+
+    /**
+     * @since 0.8
+     */
+    public DefaultJdbcConnector(DataSource dataSource, DbMetadata metadata, JdbcMetrics metrics) {
         this.dataSource = dataSource;
         this.metadata = metadata;
+        this.metrics = Objects.requireNonNull(metrics);
 
         this.defaultSeriesBuilderFactory = SeriesBuilderFactory::objectAccum;
 
@@ -47,6 +58,14 @@ public class DefaultJdbcConnector implements JdbcConnector {
 
         // Types.DECIMAL should presumably be mapped to BigDecimal, so not attempting to map to a primitive double
 
+        // for nullable numeric columns, use primitive getters with null tracking, producing primitive Series if there
+        // are no nulls in the result. Many columns are declared nullable, while never containing nulls
+        this.nullableSeriesBuilderFactories = new HashMap<>();
+        this.nullableSeriesBuilderFactories.put(Types.INTEGER, SeriesBuilderFactory::nullableIntAccum);
+        this.nullableSeriesBuilderFactories.put(Types.DOUBLE, SeriesBuilderFactory::nullableDoubleAccum);
+        this.nullableSeriesBuilderFactories.put(Types.FLOAT, SeriesBuilderFactory::nullableDoubleAccum);
+        this.nullableSeriesBuilderFactories.put(Types.BIGINT, SeriesBuilderFactory::nullableLongAccum);
+
         this.seriesBuilderFactories = new HashMap<>();
         this.seriesBuilderFactories.put(Types.DATE, SeriesBuilderFactory::dateAccum);
         this.seriesBuilderFactories.put(Types.TIME, SeriesBuilderFactory::timeAccum);
@@ -120,6 +139,8 @@ public class DefaultJdbcConnector implements JdbcConnector {
         // try to use primitive converters if the column has no nulls
         if (mandatory) {
             sbf = mandatorySeriesBuilderFactories.get(type);
+        } else {
+            sbf = nullableSeriesBuilderFactories.get(type);
         }
 
         if (sbf == null) {
@@ -161,6 +182,14 @@ public class DefaultJdbcConnector implements JdbcConnector {
         return sqlLogger;
     }
 
+    /**
+     * @since 0.8
+     */
+    @Override
+    public JdbcMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * @since 0.7
      */
@@ -175,7 +204,9 @@ public class DefaultJdbcConnector implements JdbcConnector {
     @Override
     public Connection getConnection() throws SQLException {
 
+        long t0 = System.nanoTime();
         Connection connection = dataSource.getConnection();
+        metrics.connectionAcquired(System.nanoTime() - t0);
 
         try {
             connection.setAutoCommit(false);
@@ -75,5 +75,15 @@ public interface JdbcConnector {
 
     SqlLogger getSqlLogger();
 
+    /**
+     * Returns metrics callback notified about the timing and volume of the connector operations. The default
+     * implementation returns a no-op callback.
+     *
+     * @since 0.8
+     */
+    default JdbcMetrics getMetrics() {
+        return JdbcMetrics.noop();
+    }
+
     ValueConverterFactory getBindConverterFactory();
 }
@@ -1,6 +1,8 @@
 package com.nhl.dflib.jdbc.connector;
 
-import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.connector.metadata.DbMetadata;
+import com.nhl.dflib.jdbc.datasource.PoolingDataSource;
+import com.nhl.dflib.jdbc.datasource.PoolingDataSourceParameters;
 import com.nhl.dflib.jdbc.datasource.SimpleDataSource;
 
 import javax.sql.DataSource;
@@ -12,6 +14,9 @@ public class JdbcConnectorBuilder {
     private String password;
     private String driver;
     private String url;
+    private PoolingDataSourceParameters poolParameters;
+    private JdbcMetrics metrics;
+    private long slowQueryThresholdMs;
 
     public JdbcConnectorBuilder(String url) {
         this.url = url;
@@ -32,13 +37,67 @@ public class JdbcConnectorBuilder {
         return this;
     }
 
+    /**
+     * Configures the connector to use a connection pool with default parameters, reusing physical connections between
+     * loads and saves instead of opening a new one each time.
+     *
+     * @since 0.8
+     */
+    public JdbcConnectorBuilder pool() {
+        return pool(new PoolingDataSourceParameters());
+    }
+
+    /**
+     * Configures the connector to use a connection pool with the provided parameters. The pool is available to the
+     * caller via {@link JdbcConnector#getDataSource()}, e.g. to read its metrics or to close it.
+     *
+     * @since 0.8
+     */
+    public JdbcConnectorBuilder pool(PoolingDataSourceParameters parameters) {
+        this.poolParameters = parameters;
+        return this;
+    }
+
+    /**
+     * Sets a callback notified about the timing and volume of the connector operations. By default no metrics are
+     * collected.
+     *
+     * @since 0.8
+     */
+    public JdbcConnectorBuilder metrics(JdbcMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Enables logging of the statements that take longer than the threshold to execute. The statements are logged at
+     * the WARN level by {@link SlowQueryLogger}.
+     *
+     * @since 0.8
+     */
+    public JdbcConnectorBuilder slowQueryThreshold(long ms) {
+        if (ms <= 0) {
+            throw new IllegalArgumentException("Slow query threshold must be positive: " + ms);
+        }
+
+        this.slowQueryThresholdMs = ms;
+        return this;
+    }
+
     public JdbcConnector build() {
-        return Jdbc.connector(buildDataSource());
+        DataSource dataSource = buildDataSource();
+        return new DefaultJdbcConnector(dataSource, DbMetadata.create(dataSource), buildMetrics());
+    }
+
+    private JdbcMetrics buildMetrics() {
+        JdbcMetrics metrics = this.metrics != null ? this.metrics : JdbcMetrics.noop();
+        return slowQueryThresholdMs > 0 ? new SlowQueryLogger(slowQueryThresholdMs, metrics) : metrics;
     }
 
     private DataSource buildDataSource() {
         Driver driver = createDriver();
-        return new SimpleDataSource(url, userName, password, driver);
+        DataSource dataSource = new SimpleDataSource(url, userName, password, driver);
+        return poolParameters != null ? new PoolingDataSource(dataSource, poolParameters) : dataSource;
     }
 
     private Driver createDriver() {
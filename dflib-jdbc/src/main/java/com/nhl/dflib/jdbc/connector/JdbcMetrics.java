@@ -0,0 +1,72 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+
+/**
+ * A callback interface notified about timing and volume of the JDBC operations performed by the connector. Allows to
+ * tell apart the time spent in the DB, in the driver and in DFLib. All methods have no-op default implementations, so
+ * implementors only override the events they are interested in. All times are in nanoseconds. Implementations must be
+ * thread-safe and fast, as they are called on the hot paths of loads and saves.
+ *
+ * @since 0.8
+ */
+public interface JdbcMetrics {
+
+    /**
+     * Returns a shared metrics instance that ignores all events.
+     */
+    static JdbcMetrics noop() {
+        return NoopJdbcMetrics.INSTANCE;
+    }
+
+    /**
+     * Called when a connection is obtained from the DataSource.
+     *
+     * @param nanos time it took to obtain the connection
+     */
+    default void connectionAcquired(long nanos) {
+    }
+
+    /**
+     * Called when a "select" statement is executed, i.e. when the DB returns the first part of the result. Doesn't
+     * include the time to read the ResultSet.
+     *
+     * @param sql   statement SQL
+     * @param nanos execution time
+     */
+    default void queryExecuted(String sql, long nanos) {
+    }
+
+    /**
+     * Called when an update statement or a batch of such statements is executed.
+     *
+     * @param sql         statement SQL
+     * @param batchSize   number of parameter sets sent to the DB in this execution
+     * @param rowsWritten number of affected rows as reported by the driver. Drivers that don't report counts for
+     *                    batches would contribute zero.
+     * @param nanos       execution time
+     */
+    default void updateExecuted(String sql, int batchSize, long rowsWritten, long nanos) {
+    }
+
+    /**
+     * Called when a DataFrame (or a streaming batch) is built from a ResultSet.
+     *
+     * @param rows  number of rows fetched
+     * @param nanos time spent fetching the rows from the driver and building the DataFrame
+     */
+    default void dataFrameLoaded(int rows, long nanos) {
+    }
+
+    /**
+     * Called when a DataFrame is saved to a table by {@link TableSaver}. The difference between this time and the
+     * statement execution times reported for the same save is the time spent by DFLib preparing the data (e.g.
+     * comparing the new data with the existing rows).
+     *
+     * @param table table name
+     * @param rows  number of rows in the saved DataFrame
+     * @param nanos total time of the save
+     */
+    default void dataFrameSaved(TableFQName table, int rows, long nanos) {
+    }
+}
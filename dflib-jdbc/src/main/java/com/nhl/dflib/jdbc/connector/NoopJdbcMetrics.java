@@ -0,0 +1,12 @@
+package com.nhl.dflib.jdbc.connector;
+
+/**
+ * @since 0.8
+ */
+final class NoopJdbcMetrics implements JdbcMetrics {
+
+    static final JdbcMetrics INSTANCE = new NoopJdbcMetrics();
+
+    private NoopJdbcMetrics() {
+    }
+}
@@ -0,0 +1,59 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.DoubleArraySeries;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * @since 0.8
+ */
+class NullableDoubleReader extends NullablePrimitiveReader<Double> {
+
+    private double[] data;
+    private double sentinel;
+
+    NullableDoubleReader(int pos) {
+        super(pos);
+        this.data = new double[10];
+    }
+
+    @Override
+    protected boolean read(ResultSet rs, int i) throws SQLException {
+
+        if (i == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+
+        double value = rs.getDouble(pos);
+        if (rs.wasNull()) {
+            data[i] = sentinel;
+            return true;
+        }
+
+        data[i] = value;
+        return false;
+    }
+
+    @Override
+    protected void setSentinel(Number sentinel) {
+        this.sentinel = sentinel.doubleValue();
+    }
+
+    @Override
+    protected Series<Double> toPrimitiveSeries() {
+        return new DoubleArraySeries(data, 0, size);
+    }
+
+    @Override
+    protected Double[] newArray(int size) {
+        return new Double[size];
+    }
+
+    @Override
+    protected Double box(int i) {
+        return data[i];
+    }
+}
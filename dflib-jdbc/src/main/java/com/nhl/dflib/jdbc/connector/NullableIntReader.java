@@ -0,0 +1,59 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.IntArraySeries;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * @since 0.8
+ */
+class NullableIntReader extends NullablePrimitiveReader<Integer> {
+
+    private int[] data;
+    private int sentinel;
+
+    NullableIntReader(int pos) {
+        super(pos);
+        this.data = new int[10];
+    }
+
+    @Override
+    protected boolean read(ResultSet rs, int i) throws SQLException {
+
+        if (i == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+
+        int value = rs.getInt(pos);
+        if (rs.wasNull()) {
+            data[i] = sentinel;
+            return true;
+        }
+
+        data[i] = value;
+        return false;
+    }
+
+    @Override
+    protected void setSentinel(Number sentinel) {
+        this.sentinel = sentinel.intValue();
+    }
+
+    @Override
+    protected Series<Integer> toPrimitiveSeries() {
+        return new IntArraySeries(data, 0, size);
+    }
+
+    @Override
+    protected Integer[] newArray(int size) {
+        return new Integer[size];
+    }
+
+    @Override
+    protected Integer box(int i) {
+        return data[i];
+    }
+}
@@ -0,0 +1,59 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.LongArraySeries;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * @since 0.8
+ */
+class NullableLongReader extends NullablePrimitiveReader<Long> {
+
+    private long[] data;
+    private long sentinel;
+
+    NullableLongReader(int pos) {
+        super(pos);
+        this.data = new long[10];
+    }
+
+    @Override
+    protected boolean read(ResultSet rs, int i) throws SQLException {
+
+        if (i == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+
+        long value = rs.getLong(pos);
+        if (rs.wasNull()) {
+            data[i] = sentinel;
+            return true;
+        }
+
+        data[i] = value;
+        return false;
+    }
+
+    @Override
+    protected void setSentinel(Number sentinel) {
+        this.sentinel = sentinel.longValue();
+    }
+
+    @Override
+    protected Series<Long> toPrimitiveSeries() {
+        return new LongArraySeries(data, 0, size);
+    }
+
+    @Override
+    protected Long[] newArray(int size) {
+        return new Long[size];
+    }
+
+    @Override
+    protected Long box(int i) {
+        return data[i];
+    }
+}
@@ -0,0 +1,98 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.ArraySeries;
+import com.nhl.dflib.series.builder.SeriesBuilder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+/**
+ * A column reader for a nullable numeric column that reads values via primitive ResultSet getters and
+ * {@link ResultSet#wasNull()}, tracking nulls in a bit mask. If the column turns out to have no nulls (or if nulls are
+ * replaced with a sentinel value), produces a primitive Series. Otherwise values are boxed once, when the Series is
+ * created.
+ *
+ * @since 0.8
+ */
+abstract class NullablePrimitiveReader<T> implements SeriesBuilder<ResultSet, T> {
+
+    protected int pos;
+    protected BitSet nulls;
+    protected int size;
+    protected boolean nullsAsSentinel;
+
+    protected NullablePrimitiveReader(int pos) {
+        this.pos = pos;
+        this.nulls = new BitSet();
+    }
+
+    /**
+     * Configures the reader to store nulls as a given "sentinel" value, always producing a primitive Series.
+     */
+    void nullsAs(Number sentinel) {
+        this.nullsAsSentinel = true;
+        setSentinel(sentinel);
+    }
+
+    @Override
+    public void add(ResultSet rs) {
+        try {
+            boolean isNull = read(rs, size);
+            if (isNull) {
+                nulls.set(size);
+            }
+
+            size++;
+        } catch (SQLException e) {
+            throw new RuntimeException("Error performing SQL operation", e);
+        }
+    }
+
+    @Override
+    public void set(int i, ResultSet rs) {
+
+        if (i >= size) {
+            throw new IndexOutOfBoundsException(i + " is out of bounds for " + size);
+        }
+
+        try {
+            nulls.set(i, read(rs, i));
+        } catch (SQLException e) {
+            throw new RuntimeException("Error performing SQL operation", e);
+        }
+    }
+
+    @Override
+    public Series<T> toSeries() {
+
+        if (nulls.isEmpty() || nullsAsSentinel) {
+            return toPrimitiveSeries();
+        }
+
+        T[] boxed = newArray(size);
+        for (int i = 0; i < size; i++) {
+            if (!nulls.get(i)) {
+                boxed[i] = box(i);
+            }
+        }
+
+        return new ArraySeries<>(boxed);
+    }
+
+    /**
+     * Reads the current ResultSet value, storing it at the specified position.
+     *
+     * @return true if the value was null
+     */
+    protected abstract boolean read(ResultSet rs, int i) throws SQLException;
+
+    protected abstract void setSentinel(Number sentinel);
+
+    protected abstract Series<T> toPrimitiveSeries();
+
+    protected abstract T[] newArray(int size);
+
+    protected abstract T box(int i);
+}
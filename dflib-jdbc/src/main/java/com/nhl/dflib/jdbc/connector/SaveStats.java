@@ -52,6 +52,16 @@ public class SaveStats {
         return getOpCount(SaveOp.skip);
     }
 
+    /**
+     * Returns the number of rows that were either inserted or updated by a DB-side merge, with the DB not reporting
+     * which operation took place.
+     *
+     * @since 0.8
+     */
+    public int getMergeCount() {
+        return getOpCount(SaveOp.merge);
+    }
+
     protected int getOpCount(SaveOp op) {
 
         // No synchronization. Presuming the supplier is reentrant, and stats consumers are either no or low-concurrency.
@@ -63,6 +63,27 @@ public interface SeriesBuilderFactory<T> {
         });
     }
 
+    /**
+     * @since 0.8
+     */
+    static SeriesBuilder<ResultSet, Integer> nullableIntAccum(int pos) {
+        return new NullableIntReader(pos);
+    }
+
+    /**
+     * @since 0.8
+     */
+    static SeriesBuilder<ResultSet, Long> nullableLongAccum(int pos) {
+        return new NullableLongReader(pos);
+    }
+
+    /**
+     * @since 0.8
+     */
+    static SeriesBuilder<ResultSet, Double> nullableDoubleAccum(int pos) {
+        return new NullableDoubleReader(pos);
+    }
+
     static SeriesBuilder<ResultSet, Object> objectAccum(int pos) {
         return fromJdbcFunction(rs -> rs.getObject(pos));
     }
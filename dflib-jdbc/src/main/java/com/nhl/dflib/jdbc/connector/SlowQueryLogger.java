@@ -0,0 +1,64 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link JdbcMetrics} decorator that logs statements whose execution time exceeds a threshold, passing all events
+ * to the wrapped metrics.
+ *
+ * @since 0.8
+ */
+public class SlowQueryLogger implements JdbcMetrics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SlowQueryLogger.class);
+
+    private long thresholdNanos;
+    private JdbcMetrics delegate;
+
+    public SlowQueryLogger(long thresholdMs, JdbcMetrics delegate) {
+        if (thresholdMs < 0) {
+            throw new IllegalArgumentException("Negative slow query threshold: " + thresholdMs);
+        }
+
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public void connectionAcquired(long nanos) {
+        delegate.connectionAcquired(nanos);
+    }
+
+    @Override
+    public void queryExecuted(String sql, long nanos) {
+        if (nanos > thresholdNanos) {
+            LOGGER.warn("Slow query: {} ms | {}", TimeUnit.NANOSECONDS.toMillis(nanos), sql);
+        }
+
+        delegate.queryExecuted(sql, nanos);
+    }
+
+    @Override
+    public void updateExecuted(String sql, int batchSize, long rowsWritten, long nanos) {
+        if (nanos > thresholdNanos) {
+            LOGGER.warn("Slow update: {} ms, batch of {} | {}", TimeUnit.NANOSECONDS.toMillis(nanos), batchSize, sql);
+        }
+
+        delegate.updateExecuted(sql, batchSize, rowsWritten, nanos);
+    }
+
+    @Override
+    public void dataFrameLoaded(int rows, long nanos) {
+        delegate.dataFrameLoaded(rows, nanos);
+    }
+
+    @Override
+    public void dataFrameSaved(TableFQName table, int rows, long nanos) {
+        delegate.dataFrameSaved(table, rows, nanos);
+    }
+}
@@ -0,0 +1,141 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.Aggregator;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.IntSeries;
+
+import java.util.function.Function;
+
+/**
+ * An {@link Aggregator} that can be translated to an SQL aggregate function, so that {@link TableGroupBy} could
+ * calculate it in the DB. Can also be used as a regular Aggregator. Either way NULLs are handled per SQL rules, so that
+ * the result is the same regardless of where it is calculated: "sum", "avg", "min" and "max" ignore NULL values, and
+ * return NULL for a group that has no non-NULL values. Otherwise the aggregator behaves the same as its DFLib
+ * counterpart (e.g. {@link #sumDouble(String)} as {@link Aggregator#sumDouble(String)}).
+ *
+ * @since 0.8
+ */
+public class SqlAggregator<T> implements Aggregator<T> {
+
+    private Aggregator<T> delegate;
+    private String function;
+    private String column;
+    private Function<Object, T> converter;
+
+    protected SqlAggregator(Aggregator<T> delegate, String function, String column, Function<Object, T> converter) {
+        this.delegate = delegate;
+        this.function = function;
+        this.column = column;
+        this.converter = converter;
+    }
+
+    /**
+     * Returns a value of a grouping column. The column must be one of the {@link TableGroupBy} columns.
+     */
+    public static <T> SqlAggregator<T> first(String column) {
+        return new SqlAggregator<>(Aggregator.first(column), null, column, v -> (T) v);
+    }
+
+    public static SqlAggregator<Long> countLong() {
+        return new SqlAggregator<>(Aggregator.countLong(), "count", null, v -> v != null ? ((Number) v).longValue() : null);
+    }
+
+    public static SqlAggregator<Integer> countInt() {
+        return new SqlAggregator<>(Aggregator.countInt(), "count", null, v -> v != null ? ((Number) v).intValue() : null);
+    }
+
+    public static SqlAggregator<Long> sumLong(String column) {
+        return new SqlAggregator<>(Aggregator.sumLong(column), "sum", column, v -> v != null ? ((Number) v).longValue() : null);
+    }
+
+    public static SqlAggregator<Integer> sumInt(String column) {
+        return new SqlAggregator<>(Aggregator.sumInt(column), "sum", column, v -> v != null ? ((Number) v).intValue() : null);
+    }
+
+    public static SqlAggregator<Double> sumDouble(String column) {
+        return new SqlAggregator<>(Aggregator.sumDouble(column), "sum", column, v -> v != null ? ((Number) v).doubleValue() : null);
+    }
+
+    public static SqlAggregator<Double> averageDouble(String column) {
+        return new SqlAggregator<>(Aggregator.averageDouble(column), "avg", column, v -> v != null ? ((Number) v).doubleValue() : null);
+    }
+
+    public static <T extends Comparable<T>> SqlAggregator<T> min(String column) {
+        return new SqlAggregator<>(Aggregator.<T>min(column), "min", column, v -> (T) v);
+    }
+
+    public static <T extends Comparable<T>> SqlAggregator<T> max(String column) {
+        return new SqlAggregator<>(Aggregator.<T>max(column), "max", column, v -> (T) v);
+    }
+
+    @Override
+    public T aggregate(DataFrame df) {
+
+        // "count" and grouping columns are not affected by NULLs
+        if (function == null || column == null) {
+            return delegate.aggregate(df);
+        }
+
+        IntSeries nonNulls = df.getColumn(column).index(v -> v != null);
+        int len = nonNulls.size();
+
+        if (len == 0) {
+            return null;
+        }
+
+        return len == df.height()
+                ? delegate.aggregate(df)
+                : delegate.aggregate(df.selectRows(nonNulls));
+    }
+
+    @Override
+    public String aggregateLabel(Index columnIndex) {
+        return delegate.aggregateLabel(columnIndex);
+    }
+
+    @Override
+    public SqlAggregator<T> named(String newAggregateLabel) {
+        return new SqlAggregator<>(delegate.named(newAggregateLabel), function, column, converter);
+    }
+
+    /**
+     * Returns an SQL aggregate function name, or null if this aggregator simply selects a grouping column.
+     */
+    public String getFunction() {
+        return function;
+    }
+
+    /**
+     * Returns the aggregated column name, or null if the aggregator takes no column (e.g. "count").
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * Converts a value read from the DB to the type produced by this aggregator.
+     */
+    public T convert(Object dbValue) {
+        return converter.apply(dbValue);
+    }
+
+    /**
+     * Builds an SQL expression for this aggregator.
+     */
+    protected String toSql(JdbcConnector connector) {
+
+        if (function == null) {
+            return connector.quoteIdentifier(column);
+        }
+
+        if (column == null) {
+            return function + "(*)";
+        }
+
+        // average of integer columns is an integer in some DBs, so force floating point math
+        return "avg".equals(function)
+                ? "avg(1.0E0 * " + connector.quoteIdentifier(column) + ")"
+                : function + "(" + connector.quoteIdentifier(column) + ")";
+    }
+}
@@ -12,6 +12,9 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 public class SqlLoader {
 
@@ -21,6 +24,8 @@ public class SqlLoader {
     protected int maxRows;
     private String sql;
     private Series<?> params;
+    private int fetchSize;
+    private Number numericNullsSentinel;
 
     private int rowSampleSize;
     private Random rowsSampleRandom;
@@ -43,6 +48,47 @@ public class SqlLoader {
         return this;
     }
 
+    /**
+     * Sets a JDBC fetch size, i.e. a hint to the driver of how many rows to read from the DB in one round trip. If not
+     * set, a default for the DB is used (see {@link com.nhl.dflib.jdbc.connector.metadata.DbMetadata#getDefaultFetchSize()}).
+     * Setting a fetch size allows the drivers that would otherwise read the entire result upfront (e.g. PostgreSQL)
+     * to stream it instead. For MySQL any positive value enables row-by-row streaming.
+     *
+     * @param fetchSize a positive number of rows to fetch per round trip or zero to use the DB default
+     * @return this loader instance
+     * @since 0.8
+     */
+    public SqlLoader fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Negative fetch size: " + fetchSize);
+        }
+
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Configures the loader to replace NULLs in nullable INTEGER, BIGINT, DOUBLE and FLOAT columns with a "sentinel"
+     * value, so that such columns are always loaded as primitive Series. Without the sentinel, a nullable numeric
+     * column is loaded as a primitive Series only if it has no NULLs in the result.
+     *
+     * @param sentinel a value to use instead of NULLs. Converted to each column primitive type, e.g. via
+     *                 {@link Number#intValue()}
+     * @return this loader instance
+     * @since 0.8
+     */
+    public SqlLoader numericNullsAs(Number sentinel) {
+        this.numericNullsSentinel = sentinel;
+        return this;
+    }
+
+    /**
+     * Sets the max number of rows to load. The limit is enforced by the JDBC driver (via
+     * {@link java.sql.Statement#setMaxRows(int)}), so the DB won't send the rows in excess of it.
+     *
+     * @param maxRows max number of rows to load
+     * @return this loader instance
+     */
     public SqlLoader maxRows(int maxRows) {
         this.maxRows = maxRows;
         return this;
@@ -81,16 +127,89 @@ public class SqlLoader {
 
         LOGGER.info("loading DataFrame...");
 
-
-        // TODO: should maxRows be translated into the SQL LIMIT clause?
-        //  Some DBs have crazy limit syntax, so this may be hard to generalize..
+        // since we can't reliably rewrite arbitrary SQL to include a LIMIT clause, let the driver enforce the limit,
+        // so that the DB doesn't have to produce and send the rows that we'd skip anyway
 
         return connector
                 .createStatementBuilder(sql)
                 .bind(params)
+                .fetchSize(fetchSize)
+                .maxRows(driverMaxRows())
                 .select(this::loadDataFrame);
     }
 
+    /**
+     * Runs the query on the provided executor, returning a future that completes with the loaded DataFrame. Allows to
+     * run multiple independent loads concurrently, e.g. combining the futures via
+     * {@link CompletableFuture#allOf(CompletableFuture[])}. The loader must not be modified after this call. Note that
+     * a connector obtained within a transaction is bound to a single connection, and should not be used to run
+     * concurrent operations.
+     *
+     * @param executor an executor to run the query on. Can be a virtual thread executor on the JVMs that support it.
+     * @return a future of the loaded DataFrame
+     * @since 0.8
+     */
+    public CompletableFuture<DataFrame> loadAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::load, executor);
+    }
+
+    /**
+     * Runs the query and returns an iterator over its result in a form of DataFrames, each one containing up to
+     * "batchRows" rows. Unlike {@link #load()}, the entire ResultSet is never held in memory, so this method can be
+     * used to process results that are too big to fit in the heap. Unless {@link #fetchSize(int)} is set explicitly,
+     * the JDBC fetch size is set to the batch size to make the driver stream the data instead of reading it all upfront. The returned iterator holds an open DB
+     * connection until the last batch is read, so the callers that may not read it till the end must close it,
+     * e.g. via "try-with-resources".
+     *
+     * @param batchRows max number of rows in each DataFrame produced by the iterator
+     * @return an iterator over DataFrames
+     * @since 0.8
+     */
+    public DataFrameBatchIterator stream(int batchRows) {
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported when streaming the data");
+        }
+
+        LOGGER.info("streaming DataFrames...");
+
+        // the batch is fetched in one or more round trips, and never more than needed for the batch
+        int batchFetchSize = fetchSize > 0 ? fetchSize : batchRows;
+
+        return new DataFrameBatchIterator(this, batchRows, maxRows).open(
+                connector,
+                sql,
+                connector.createStatementBuilder(sql)
+                        .bind(params)
+                        .fetchSize(batchFetchSize)
+                        .maxRows(driverMaxRows())
+                        .createSelectStatement());
+    }
+
+    /**
+     * Runs the query, passing its result to the consumer as a sequence of DataFrames, each one containing up to
+     * "batchRows" rows. All DB resources are closed by the time this method returns.
+     *
+     * @param batchRows max number of rows in each DataFrame passed to the consumer
+     * @param consumer  a consumer of the DataFrame batches
+     * @since 0.8
+     */
+    public void stream(int batchRows, Consumer<DataFrame> consumer) {
+        try (DataFrameBatchIterator it = stream(batchRows)) {
+            while (it.hasNext()) {
+                consumer.accept(it.next());
+            }
+        }
+    }
+
+    /**
+     * @return maxRows value to pass to the JDBC driver, with zero meaning "no limit"
+     * @since 0.8
+     */
+    protected int driverMaxRows() {
+        return maxRows < Integer.MAX_VALUE ? maxRows : 0;
+    }
+
     protected DataFrame loadDataFrame(ResultSet rs) throws SQLException {
         Index columns = createIndex(rs);
 
@@ -100,7 +219,10 @@ public class SqlLoader {
                 ? new SamplingSqlLoaderWorker(columns, accumulators, maxRows, rowSampleSize, rowsSampleRandom)
                 : new SqlLoaderWorker(columns, accumulators, maxRows);
 
-        return worker.load(rs);
+        long t0 = System.nanoTime();
+        DataFrame df = worker.load(rs);
+        connector.getMetrics().dataFrameLoaded(df.height(), System.nanoTime() - t0);
+        return df;
     }
 
     protected Index createIndex(ResultSet rs) throws SQLException {
@@ -127,6 +249,10 @@ public class SqlLoader {
                     jdbcPos,
                     rsmd.getColumnType(jdbcPos),
                     rsmd.isNullable(jdbcPos) == ResultSetMetaData.columnNoNulls);
+
+            if (numericNullsSentinel != null && accums[i] instanceof NullablePrimitiveReader) {
+                ((NullablePrimitiveReader) accums[i]).nullsAs(numericNullsSentinel);
+            }
         }
 
         return accums;
@@ -30,7 +30,9 @@ class SqlLoaderWorker {
         int w = accumulators.length;
         int size = 0;
 
-        while (rs.next() && size++ < maxRows) {
+        // check the size first to avoid reading past the last row that will be included in the DataFrame. This matters
+        // when the same ResultSet is consumed by more than one worker
+        while (size++ < maxRows && rs.next()) {
             addRow(w, rs);
         }
     }
@@ -42,6 +42,10 @@ public class SqlLogger {
         }
     }
 
+    /**
+     * Logs batch SQL with the shape of the parameters batch. Formatting the batch parameters can be expensive for big
+     * batches, so the parameters themselves are only printed if DEBUG logging is enabled for this class.
+     */
     public void log(String sql, DataFrame paramsBatch) {
         if (LOGGER.isInfoEnabled()) {
 
@@ -49,16 +53,16 @@ public class SqlLogger {
             String slabel = ph == 1 ? "1 set of " : ph + " sets of ";
 
             int pw = paramsBatch.width();
-            String plabel = pw == 1 ? "1 param [" : pw + " params [";
-
-
+            String plabel = pw == 1 ? "1 param" : pw + " params";
 
             StringBuilder log = new StringBuilder(sql)
                     .append(" | bind ")
                     .append(slabel)
-                    .append(plabel)
-                    .append(paramPrinter.toString(paramsBatch))
-                    .append("]");
+                    .append(plabel);
+
+            if (LOGGER.isDebugEnabled()) {
+                log.append(" [").append(paramPrinter.toString(paramsBatch)).append("]");
+            }
 
             LOGGER.info(log.toString());
         }
@@ -3,6 +3,7 @@ package com.nhl.dflib.jdbc.connector;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import com.nhl.dflib.jdbc.connector.metadata.DbMetadata;
 import com.nhl.dflib.jdbc.connector.statement.CompiledFromStatementBinderFactory;
 import com.nhl.dflib.jdbc.connector.statement.FixedParamsBinderFactory;
 import com.nhl.dflib.jdbc.connector.statement.SelectStatement;
@@ -29,6 +30,10 @@ public class StatementBuilder {
     private DbColumnMetadata[] paramDescriptors;
     private Series<?> params;
     private DataFrame batchParams;
+    private int fetchSize;
+    private int maxRows;
+    private int batchSize;
+    private boolean intermediateCommits;
 
     public StatementBuilder(JdbcConnector connector) {
         this.connector = connector;
@@ -60,6 +65,61 @@ public class StatementBuilder {
         return bind(Series.forData(params));
     }
 
+    /**
+     * Sets a fetch size for the "select" statements. Zero (the default) means a DB-specific default defined by
+     * {@link com.nhl.dflib.jdbc.connector.metadata.DbMetadata#getDefaultFetchSize()}.
+     *
+     * @since 0.8
+     */
+    public StatementBuilder fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Negative fetch size: " + fetchSize);
+        }
+
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Sets a max number of rows returned by the "select" statements, that is enforced by the driver via
+     * {@link java.sql.Statement#setMaxRows(int)}. Zero (the default) means no limit.
+     *
+     * @since 0.8
+     */
+    public StatementBuilder maxRows(int maxRows) {
+        if (maxRows < 0) {
+            throw new IllegalArgumentException("Negative max rows: " + maxRows);
+        }
+
+        this.maxRows = maxRows;
+        return this;
+    }
+
+    /**
+     * Sets the max number of rows sent to the DB in a single batch when updating with batch params. Zero (the
+     * default) means all rows are sent in one batch.
+     *
+     * @since 0.8
+     */
+    public StatementBuilder batchSize(int batchSize) {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("Negative batch size: " + batchSize);
+        }
+
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Configures batch updates to commit the transaction after each batch.
+     *
+     * @since 0.8
+     */
+    public StatementBuilder intermediateCommits(boolean intermediateCommits) {
+        this.intermediateCommits = intermediateCommits;
+        return this;
+    }
+
     public <T> T select(JdbcFunction<ResultSet, T> resultReader) {
         try (Connection c = connector.getConnection()) {
             return select(c, resultReader);
@@ -76,9 +136,16 @@ public class StatementBuilder {
         }
     }
 
-    public void update(Connection connection) {
+    /**
+     * Runs the update statement, returning update counts reported by the driver. For batch updates there is one count
+     * per row of the batch DataFrame. Note that some drivers may return {@link java.sql.Statement#SUCCESS_NO_INFO}
+     * instead of the actual counts.
+     *
+     * @since 0.8 returns update counts
+     */
+    public int[] update(Connection connection) {
         try {
-            createUpdateStatement().update(connection);
+            return createUpdateStatement().update(connection);
         } catch (SQLException e) {
             throw new RuntimeException("Error updating data in DB: " + e.getMessage(), e);
         }
@@ -89,22 +156,43 @@ public class StatementBuilder {
             throw new IllegalStateException("Can't use batch params for 'select'");
         }
 
+        int driverFetchSize = resolveDriverFetchSize();
+
         return (params == null || params.size() == 0)
                 ? new SelectStatementNoParams(sql, connector.getSqlLogger())
-                : new SelectStatementWithParams(sql, params, createBinderFactory(), connector.getSqlLogger());
+                .fetchSize(driverFetchSize)
+                .maxRows(maxRows)
+                .metrics(connector.getMetrics())
+                : new SelectStatementWithParams(sql, params, createBinderFactory(), connector.getSqlLogger())
+                .fetchSize(driverFetchSize)
+                .maxRows(maxRows)
+                .metrics(connector.getMetrics());
+    }
+
+    protected int resolveDriverFetchSize() {
+        DbMetadata metadata = connector.getMetadata();
+        int fetchSize = this.fetchSize > 0 ? this.fetchSize : metadata.getDefaultFetchSize();
+        return metadata.driverFetchSize(fetchSize);
     }
 
     protected UpdateStatement createUpdateStatement() {
         if (params != null) {
-            return new UpdateStatementParamsRow(sql, params, createBinderFactory(), connector.getSqlLogger());
+            return new UpdateStatementParamsRow(sql, params, createBinderFactory(), connector.getSqlLogger())
+                    .metrics(connector.getMetrics());
         } else if (batchParams != null) {
 
             return connector.getMetadata().supportsBatchUpdates()
                     ? new UpdateStatementBatch(sql, batchParams, createBinderFactory(), connector.getSqlLogger())
-                    : new UpdateStatementNoBatch(sql, batchParams, createBinderFactory(), connector.getSqlLogger());
+                    .batchSize(batchSize)
+                    .intermediateCommits(intermediateCommits)
+                    .metrics(connector.getMetrics())
+                    : new UpdateStatementNoBatch(sql, batchParams, createBinderFactory(), connector.getSqlLogger())
+                    .batchSize(batchSize)
+                    .intermediateCommits(intermediateCommits)
+                    .metrics(connector.getMetrics());
 
         } else {
-            return new UpdateStatementNoParams(sql, connector.getSqlLogger());
+            return new UpdateStatementNoParams(sql, connector.getSqlLogger()).metrics(connector.getMetrics());
         }
     }
 
@@ -0,0 +1,38 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.Aggregator;
+import com.nhl.dflib.DataFrame;
+
+/**
+ * A "group by" operation over the rows of a DB table, created via {@link TableLoader#group(String...)}.
+ *
+ * @since 0.8
+ */
+public class TableGroupBy {
+
+    private TableLoader loader;
+    private String[] columns;
+
+    public TableGroupBy(TableLoader loader, String[] columns) {
+        this.loader = loader;
+        this.columns = columns;
+    }
+
+    /**
+     * Calculates the aggregates for each group, returning a DataFrame with one row per group. If all the aggregators
+     * are {@link SqlAggregator SqlAggregators}, the calculation is done in the DB via "GROUP BY", and only the
+     * aggregated rows, ordered by the grouping columns, are read. Otherwise, as well as when the loader is configured with
+     * row sampling, partitioning, a row limit or an "eq" condition that is too big for a single query, the rows are
+     * loaded and aggregated in memory. The in-memory result is also ordered by the grouping columns, and, same as in
+     * SQL, includes a group for NULL grouping values, placed last. Note that the position of the NULL group in the DB result is
+     * DB-specific (e.g. MySQL puts it first). {@link SqlAggregator SqlAggregators} handle NULL values the same way in
+     * both cases. In both cases the aggregators work over the table columns, and the loader
+     * {@link TableLoader#includeColumns(String...) includeColumns} setting is ignored.
+     *
+     * @param aggregators aggregators to calculate for each group
+     * @return a DataFrame with a column per aggregator and a row per group
+     */
+    public DataFrame agg(Aggregator<?>... aggregators) {
+        return loader.loadGroups(columns, aggregators);
+    }
+}
@@ -1,29 +1,70 @@
 package com.nhl.dflib.jdbc.connector;
 
+import com.nhl.dflib.Aggregator;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Index;
 import com.nhl.dflib.Series;
+import com.nhl.dflib.jdbc.connector.metadata.DbFlavor;
 import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.jdbc.connector.tx.TxJdbcConnector;
+import com.nhl.dflib.row.RowProxy;
 import com.nhl.dflib.sample.Sampler;
 import com.nhl.dflib.series.ByRowSeries;
+import com.nhl.dflib.series.IntArraySeries;
+import com.nhl.dflib.series.IntSequenceSeries;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 public class TableLoader {
 
+    // used as a label of the grouping column values when aggregating in memory. Semi-random to avoid conflicts with
+    // real column names
+    private static final String GROUP_KEY_COLUMN = "dflib_group_%$#86AcD3_";
+
+    private static final Comparator<Comparable> NULLS_LAST = Comparator.nullsLast(Comparator.naturalOrder());
+
     protected JdbcConnector connector;
     protected int maxRows;
+    private int fetchSize;
+    private Number numericNullsSentinel;
     private TableFQName tableName;
     private String[] columns;
     private DataFrame condition;
     private int rowSampleSize;
     private Random rowsSampleRandom;
 
+    private int eqBatchSize;
+    private int eqThreads;
+
+    private String partitionColumn;
+    private int partitions;
+    private Long partitionLowerBound;
+    private Long partitionUpperBound;
+    private boolean sortByPartitionColumn;
+
     public TableLoader(JdbcConnector connector, TableFQName tableName) {
         this.connector = connector;
         this.maxRows = Integer.MAX_VALUE;
         this.tableName = tableName;
+        this.eqThreads = 1;
     }
 
     public TableLoader includeColumns(String... columns) {
@@ -45,6 +86,152 @@ public class TableLoader {
         return this;
     }
 
+    /**
+     * Sets the max number of condition rows to include in a single query when loading with {@link #eq(DataFrame)}.
+     * Bigger conditions are split in batches, and the results of each batch query are concatenated. If not set, the
+     * batch size is 1000 rows, further reduced if needed to keep the number of parameters within the DB limit.
+     * {@link #stream(int)} doesn't split the conditions and rejects the ones over the batch size.
+     *
+     * @param rows max number of condition rows in a single query
+     * @return this TableLoader
+     * @since 0.8
+     */
+    public TableLoader eqBatchSize(int rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("Invalid batch size: " + rows);
+        }
+
+        this.eqBatchSize = rows;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads used to run the condition batch queries when loading with {@link #eq(DataFrame)}
+     * with a condition that is bigger than the batch size. Each thread uses its own connection. The default is 1,
+     * i.e. the batches are run sequentially. Inside a {@link com.nhl.dflib.jdbc.connector.tx.Tx} this setting is
+     * ignored and the batches are always run sequentially, as they share the transaction connection.
+     *
+     * @param threads number of threads to run the condition batches
+     * @return this TableLoader
+     * @see #eqBatchSize(int)
+     * @since 0.8
+     */
+    public TableLoader eqThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Invalid number of threads: " + threads);
+        }
+
+        this.eqThreads = threads;
+        return this;
+    }
+
+    /**
+     * Sets a JDBC fetch size, i.e. a hint to the driver of how many rows to read from the DB in one round trip.
+     *
+     * @param fetchSize a positive number of rows to fetch per round trip or zero to use the DB default
+     * @return this TableLoader
+     * @see SqlLoader#fetchSize(int)
+     * @since 0.8
+     */
+    public TableLoader fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Negative fetch size: " + fetchSize);
+        }
+
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Configures the loader to replace NULLs in nullable numeric columns with a "sentinel" value, so that such
+     * columns are always loaded as primitive Series.
+     *
+     * @param sentinel a value to use instead of NULLs
+     * @return this TableLoader
+     * @see SqlLoader#numericNullsAs(Number)
+     * @since 0.8
+     */
+    public TableLoader numericNullsAs(Number sentinel) {
+        this.numericNullsSentinel = sentinel;
+        return this;
+    }
+
+    /**
+     * Configures the loader to read the table with a number of concurrent queries, each one on its own connection,
+     * selecting a range of values of a numeric column. The range bounds are calculated from the min and max value of
+     * the column in the table. The resulting DataFrames are concatenated in the order of ranges. This may
+     * significantly speed up snapshotting very big tables, provided the DB can serve parallel scans of the column
+     * (e.g. the column is indexed). Rows with NULL values of the column are included in the first partition.
+     * <p>Inside a {@link com.nhl.dflib.jdbc.connector.tx.Tx} all the queries share the transaction connection, that
+     * can't be used concurrently, so the partitions are loaded one after another.</p>
+     *
+     * @param column     numeric column to use for partitioning. Preferably an indexed column with evenly distributed
+     *                   values, such as a PK
+     * @param partitions max number of concurrent partition queries
+     * @return this TableLoader
+     * @since 0.8
+     */
+    public TableLoader partitionBy(String column, int partitions) {
+        return partitionBy(column, partitions, null, null);
+    }
+
+    /**
+     * Configures the loader to read the table with a number of concurrent queries, each one on its own connection,
+     * selecting a range of values of a numeric column. The range bounds are calculated from the provided lower and
+     * upper bounds. The bounds are only used to calculate the ranges, and do not filter the result, i.e. the first
+     * and the last partition would include all the values below and above the bounds. Inside a
+     * {@link com.nhl.dflib.jdbc.connector.tx.Tx} the partitions are loaded one after another.
+     *
+     * @param column     numeric column to use for partitioning
+     * @param partitions max number of concurrent partition queries
+     * @param lowerBound the lower bound of the column values (inclusive)
+     * @param upperBound the upper bound of the column values (inclusive)
+     * @return this TableLoader
+     * @since 0.8
+     */
+    public TableLoader partitionBy(String column, int partitions, long lowerBound, long upperBound) {
+
+        if (lowerBound > upperBound) {
+            throw new IllegalArgumentException("Lower bound is greater than upper bound: " + lowerBound + " > " + upperBound);
+        }
+
+        return partitionBy(column, partitions, (Long) lowerBound, (Long) upperBound);
+    }
+
+    private TableLoader partitionBy(String column, int partitions, Long lowerBound, Long upperBound) {
+
+        if (partitions < 1) {
+            throw new IllegalArgumentException("Invalid number of partitions: " + partitions);
+        }
+
+        this.partitionColumn = Objects.requireNonNull(column);
+        this.partitions = partitions;
+        this.partitionLowerBound = lowerBound;
+        this.partitionUpperBound = upperBound;
+        return this;
+    }
+
+    /**
+     * For a partitioned loader, makes each partition query sort its rows by the partition column, so that
+     * the combined DataFrame is ordered by this column.
+     *
+     * @return this TableLoader
+     * @see #partitionBy(String, int)
+     * @since 0.8
+     */
+    public TableLoader sortByPartitionColumn() {
+        this.sortByPartitionColumn = true;
+        return this;
+    }
+
+    /**
+     * Sets the max number of rows to load. The limit is included in the generated SQL using DB-specific syntax, or,
+     * for the DBs whose syntax is not known, is enforced by the JDBC driver via
+     * {@link java.sql.Statement#setMaxRows(int)}.
+     *
+     * @param maxRows max number of rows to load
+     * @return this TableLoader
+     */
     // TODO: limit without sorting may return unpredictable data.. should we allow to specify a sort column?
     public TableLoader maxRows(int maxRows) {
         this.maxRows = maxRows;
@@ -80,6 +267,23 @@ public class TableLoader {
         return this;
     }
 
+    /**
+     * Starts a "group by" operation over the table rows, that calculates one row of aggregates per group. Allows to
+     * calculate aggregates in the DB instead of loading all the rows in memory.
+     *
+     * @param columns table columns to group the rows by
+     * @return a new TableGroupBy
+     * @see TableGroupBy#agg(Aggregator[])
+     * @since 0.8
+     */
+    public TableGroupBy group(String... columns) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("No 'group' columns");
+        }
+
+        return new TableGroupBy(this, columns);
+    }
+
     public DataFrame load() {
         // "no condition" means return all rows; "empty condition" means return no rows
         return condition == null || condition.height() > 0
@@ -87,6 +291,254 @@ public class TableLoader {
                 : createEmptyDataFrame();
     }
 
+    /**
+     * Reads the table data on the provided executor, returning a future that completes with the loaded DataFrame.
+     * Allows to load multiple tables concurrently, e.g. combining the futures via
+     * {@link CompletableFuture#allOf(CompletableFuture[])}. The loader must not be modified after this call.
+     *
+     * @param executor an executor to run the load on. Can be a virtual thread executor on the JVMs that support it.
+     * @return a future of the loaded DataFrame
+     * @see SqlLoader#loadAsync(Executor)
+     * @since 0.8
+     */
+    public CompletableFuture<DataFrame> loadAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::load, executor);
+    }
+
+    /**
+     * Reads the table data as a sequence of DataFrames, each one containing up to "batchRows" rows. The returned
+     * iterator holds an open DB connection until the last batch is read, so the callers that may not read it till
+     * the end must close it. Streaming runs a single query, so it doesn't support row sampling, partitioning and the
+     * "eq" conditions that would be split into batches by {@link #load()} (see {@link #eqBatchSize(int)}).
+     *
+     * @param batchRows max number of rows in each DataFrame produced by the iterator
+     * @return an iterator over DataFrames
+     * @see SqlLoader#stream(int)
+     * @since 0.8
+     */
+    public DataFrameBatchIterator stream(int batchRows) {
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported when streaming the data");
+        }
+
+        if (partitionColumn != null) {
+            throw new IllegalStateException("Partitioning is not supported when streaming the data");
+        }
+
+        // a condition like that would produce a query over the driver bind parameters limit
+        if (condition != null && condition.height() > resolveEqBatchSize()) {
+            throw new IllegalStateException("Conditions over " + resolveEqBatchSize()
+                    + " rows are not supported when streaming the data");
+        }
+
+        // "no condition" means return all rows; "empty condition" means return no rows
+        return condition == null || condition.height() > 0
+                ? createSqlLoader().stream(batchRows)
+                : new DataFrameBatchIterator(null, batchRows, maxRows).empty(createEmptyDataFrame().getColumnsIndex());
+    }
+
+    /**
+     * Reads the table data, passing it to the consumer as a sequence of DataFrames, each one containing up to
+     * "batchRows" rows. All DB resources are closed by the time this method returns.
+     *
+     * @param batchRows max number of rows in each DataFrame passed to the consumer
+     * @param consumer  a consumer of the DataFrame batches
+     * @since 0.8
+     */
+    public void stream(int batchRows, Consumer<DataFrame> consumer) {
+        try (DataFrameBatchIterator it = stream(batchRows)) {
+            while (it.hasNext()) {
+                consumer.accept(it.next());
+            }
+        }
+    }
+
+    /**
+     * Calculates the aggregates per group either in the DB, or, if some of the aggregators or the loader settings
+     * can't be translated to SQL, in memory over the loaded rows.
+     *
+     * @since 0.8
+     */
+    protected DataFrame loadGroups(String[] groupColumns, Aggregator<?>[] aggregators) {
+
+        if (!canAggregateInDb(groupColumns, aggregators)) {
+            return loadGroupsInMemory(groupColumns, aggregators);
+        }
+
+        int w = aggregators.length;
+        SqlAggregator<?>[] sqlAggregators = new SqlAggregator[w];
+        String[] labels = new String[w];
+
+        Index tableColumns = Index.forLabels(connector.getMetadata().getTable(tableName).getColumnNames());
+        for (int i = 0; i < w; i++) {
+            sqlAggregators[i] = (SqlAggregator<?>) aggregators[i];
+            labels[i] = aggregators[i].aggregateLabel(tableColumns);
+        }
+
+        // "empty condition" means no groups
+        if (condition != null && condition.height() == 0) {
+            return DataFrame.newFrame(labels).empty();
+        }
+
+        DataFrame groups = createSqlLoader(buildGroupSql(groupColumns, sqlAggregators)).load();
+
+        Series<?>[] columns = new Series[w];
+        for (int i = 0; i < w; i++) {
+            columns[i] = groups.getColumn(i).map(sqlAggregators[i]::convert);
+        }
+
+        return DataFrame.newFrame(labels).columns(columns);
+    }
+
+    /**
+     * Loads the rows and aggregates them in memory, ordering the groups by the grouping columns, same as the DB would
+     * do it. Same as the DB aggregation, works over the table columns regardless of {@link #includeColumns(String...)}.
+     */
+    private DataFrame loadGroupsInMemory(String[] groupColumns, Aggregator<?>[] aggregators) {
+
+        int w = aggregators.length;
+        int gw = groupColumns.length;
+
+        // add grouping column values to the result to be able to sort the groups
+        Aggregator<?>[] withKeys = new Aggregator[w + gw];
+        System.arraycopy(aggregators, 0, withKeys, 0, w);
+        String[] keyLabels = new String[gw];
+        for (int i = 0; i < gw; i++) {
+            keyLabels[i] = GROUP_KEY_COLUMN + i;
+            withKeys[w + i] = Aggregator.first(groupColumns[i]).named(keyLabels[i]);
+        }
+
+        // unlike "group(String, String...)", the key is never null, so the rows with NULL grouping values form
+        // a separate group, same as in SQL
+        DataFrame groups = copy()
+                .includeColumns(aggregatedColumns(groupColumns, aggregators))
+                .load()
+                .group(r -> groupKey(r, groupColumns))
+                .agg(withKeys);
+
+        Series<?>[] keys = new Series[gw];
+        for (int i = 0; i < gw; i++) {
+            keys[i] = groups.getColumn(keyLabels[i]);
+        }
+
+        int h = groups.height();
+        Integer[] positions = new Integer[h];
+        for (int i = 0; i < h; i++) {
+            positions[i] = i;
+        }
+
+        Arrays.sort(positions, (p1, p2) -> compareGroups(keys, p1, p2));
+
+        int[] order = new int[h];
+        for (int i = 0; i < h; i++) {
+            order[i] = positions[i];
+        }
+
+        return groups.selectRows(new IntArraySeries(order)).dropColumns(keyLabels);
+    }
+
+    /**
+     * Returns the columns to load for in-memory aggregation. These are the grouping columns and the columns of the
+     * SQL aggregators, or all the table columns if there are other aggregators, whose columns are not known.
+     */
+    private static String[] aggregatedColumns(String[] groupColumns, Aggregator<?>[] aggregators) {
+
+        Set<String> columns = new LinkedHashSet<>(Arrays.asList(groupColumns));
+        for (Aggregator<?> a : aggregators) {
+
+            if (!(a instanceof SqlAggregator)) {
+                return null;
+            }
+
+            String column = ((SqlAggregator<?>) a).getColumn();
+            if (column != null) {
+                columns.add(column);
+            }
+        }
+
+        return columns.toArray(new String[0]);
+    }
+
+    private static Object groupKey(RowProxy row, String[] groupColumns) {
+        int len = groupColumns.length;
+        Object[] key = new Object[len];
+        for (int i = 0; i < len; i++) {
+            key[i] = row.get(groupColumns[i]);
+        }
+
+        return Arrays.asList(key);
+    }
+
+    // NULLs go last, same as in most DBs
+    private static int compareGroups(Series<?>[] keys, int p1, int p2) {
+        for (Series<?> key : keys) {
+            int c = NULLS_LAST.compare((Comparable) key.get(p1), (Comparable) key.get(p2));
+            if (c != 0) {
+                return c;
+            }
+        }
+
+        return 0;
+    }
+
+    private boolean canAggregateInDb(String[] groupColumns, Aggregator<?>[] aggregators) {
+
+        // the settings that define the rows to aggregate in a way that can't be expressed in SQL
+        if (rowSampleSize > 0 || partitionColumn != null || hasSqlLimit()) {
+            return false;
+        }
+
+        if (condition != null && condition.height() > resolveEqBatchSize()) {
+            return false;
+        }
+
+        List<String> groupColumnsList = Arrays.asList(groupColumns);
+        for (Aggregator<?> a : aggregators) {
+            if (!(a instanceof SqlAggregator)) {
+                return false;
+            }
+
+            // a plain column can only be selected if it is a grouping column
+            SqlAggregator<?> sa = (SqlAggregator<?>) a;
+            if (sa.getFunction() == null && !groupColumnsList.contains(sa.getColumn())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @since 0.8
+     */
+    protected String buildGroupSql(String[] groupColumns, SqlAggregator<?>[] aggregators) {
+
+        StringBuilder sql = new StringBuilder("select ");
+        for (int i = 0; i < aggregators.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(aggregators[i].toSql(connector));
+        }
+
+        sql.append(" from ").append(connector.quoteTableName(tableName));
+        appendWhereSql(sql);
+
+        StringBuilder columns = new StringBuilder();
+        for (int i = 0; i < groupColumns.length; i++) {
+            if (i > 0) {
+                columns.append(", ");
+            }
+
+            columns.append(connector.quoteIdentifier(groupColumns[i]));
+        }
+
+        // order the groups to make the result predictable
+        return sql.append(" group by ").append(columns).append(" order by ").append(columns).toString();
+    }
+
     protected DataFrame createEmptyDataFrame() {
         String[] columns = useStandardColumns()
                 ? connector.getMetadata().getTable(tableName).getColumnNames()
@@ -96,13 +548,313 @@ public class TableLoader {
     }
 
     protected DataFrame fetchDataFrame() {
-        return new SqlLoader(connector, buildSql())
-                .maxRows(maxRows)
+
+        int batchSize = resolveEqBatchSize();
+        if (condition != null && condition.height() > batchSize) {
+            return fetchInBatches(batchSize);
+        }
+
+        if (partitionColumn != null) {
+            return fetchPartitioned();
+        }
+
+        return createSqlLoader()
                 .sampleRows(rowSampleSize, rowsSampleRandom)
-                .params(collectBindingParams())
                 .load();
     }
 
+    protected SqlLoader createSqlLoader() {
+        return createSqlLoader(buildSql());
+    }
+
+    protected SqlLoader createSqlLoader(String sql) {
+        return new SqlLoader(connector, sql)
+                .maxRows(maxRows)
+                .fetchSize(fetchSize)
+                .numericNullsAs(numericNullsSentinel)
+                .params(collectBindingParams());
+    }
+
+    /**
+     * Splits a big "eq" condition into batches, running a separate query for each batch. Duplicate condition rows are
+     * removed before splitting, so that the result is the same as that of a single query.
+     *
+     * @since 0.8
+     */
+    protected DataFrame fetchInBatches(int batchSize) {
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported for conditions over " + batchSize + " rows");
+        }
+
+        // the same key in two batches would match the same rows twice, while a single "in" query returns them once
+        DataFrame distinctCondition = distinctRows(condition);
+
+        int h = distinctCondition.height();
+        List<Callable<DataFrame>> tasks = new ArrayList<>(h / batchSize + 1);
+        for (int i = 0; i < h; i += batchSize) {
+            DataFrame batch = distinctCondition.selectRows(new IntSequenceSeries(i, Math.min(i + batchSize, h)));
+            tasks.add(() -> copyWithCondition(batch).fetchDataFrame());
+        }
+
+        return limit(concat(loadInParallel(tasks, eqThreads)));
+    }
+
+    private static DataFrame distinctRows(DataFrame df) {
+
+        int h = df.height();
+        int w = df.width();
+
+        Series<?>[] columns = new Series[w];
+        for (int i = 0; i < w; i++) {
+            columns[i] = df.getColumn(i);
+        }
+
+        Set<Object> seen = new HashSet<>();
+        int[] distinct = new int[h];
+        int len = 0;
+
+        for (int i = 0; i < h; i++) {
+
+            Object key;
+            if (w == 1) {
+                key = columns[0].get(i);
+            } else {
+                Object[] values = new Object[w];
+                for (int j = 0; j < w; j++) {
+                    values[j] = columns[j].get(i);
+                }
+
+                key = Arrays.asList(values);
+            }
+
+            if (seen.add(key)) {
+                distinct[len++] = i;
+            }
+        }
+
+        return len == h ? df : df.selectRows(new IntArraySeries(distinct, 0, len));
+    }
+
+    /**
+     * Creates a copy of this loader with a different "eq" condition, that is small enough to not require batching.
+     */
+    private TableLoader copyWithCondition(DataFrame condition) {
+        TableLoader copy = copy();
+
+        // no single batch needs more than "maxRows", but the combined result must be limited again after "concat"
+        copy.condition = condition;
+        copy.eqBatchSize = Integer.MAX_VALUE;
+
+        // sampling is not supported with batches, and is rejected before the copy is made
+        copy.rowSampleSize = 0;
+        copy.rowsSampleRandom = null;
+        return copy;
+    }
+
+    private TableLoader copy() {
+        TableLoader copy = new TableLoader(connector, tableName);
+        copy.maxRows = maxRows;
+        copy.fetchSize = fetchSize;
+        copy.numericNullsSentinel = numericNullsSentinel;
+        copy.columns = columns;
+        copy.condition = condition;
+        copy.rowSampleSize = rowSampleSize;
+        copy.rowsSampleRandom = rowsSampleRandom;
+        copy.eqBatchSize = eqBatchSize;
+        copy.eqThreads = eqThreads;
+        copy.partitionColumn = partitionColumn;
+        copy.partitions = partitions;
+        copy.partitionLowerBound = partitionLowerBound;
+        copy.partitionUpperBound = partitionUpperBound;
+        copy.sortByPartitionColumn = sortByPartitionColumn;
+        return copy;
+    }
+
+    protected int resolveEqBatchSize() {
+
+        if (eqBatchSize > 0) {
+            return eqBatchSize;
+        }
+
+        int width = condition != null ? Math.max(1, condition.width()) : 1;
+        int maxParams = connector.getMetadata().getMaxBindParameters();
+        return Math.max(1, Math.min(1000, maxParams / width));
+    }
+
+    /**
+     * @since 0.8
+     */
+    protected DataFrame fetchPartitioned() {
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported for partitioned loading");
+        }
+
+        long[] bounds = partitionLowerBound != null
+                ? new long[]{partitionLowerBound, partitionUpperBound}
+                : loadPartitionBounds();
+
+        // no non-null values in the column... Nothing to partition
+        if (bounds == null) {
+            return createSqlLoader(buildSql(null)).load();
+        }
+
+        List<String> partitionSqls = buildPartitionSqls(bounds[0], bounds[1]);
+        List<Callable<DataFrame>> tasks = new ArrayList<>(partitionSqls.size());
+        for (String sql : partitionSqls) {
+            tasks.add(() -> createSqlLoader(sql).load());
+        }
+
+        return limit(concat(loadInParallel(tasks, tasks.size())));
+    }
+
+    private static DataFrame concat(DataFrame[] results) {
+        return results.length == 1
+                ? results[0]
+                : results[0].vConcat(Arrays.copyOfRange(results, 1, results.length));
+    }
+
+    private DataFrame limit(DataFrame df) {
+        return df.height() > maxRows ? df.head(maxRows) : df;
+    }
+
+    /**
+     * Runs a number of load tasks, each one on its own connection, returning the results in the order of tasks. If the
+     * loader is a part of a transaction, the tasks are run sequentially, as they all share the transaction connection.
+     *
+     * @since 0.8
+     */
+    protected DataFrame[] loadInParallel(List<Callable<DataFrame>> tasks, int threads) {
+
+        int len = tasks.size();
+
+        // JDBC connections are not thread-safe, so can't run concurrent queries on a transaction connection
+        if (len == 1 || threads <= 1 || connector instanceof TxJdbcConnector) {
+
+            DataFrame[] results = new DataFrame[len];
+            for (int i = 0; i < len; i++) {
+                try {
+                    results[i] = tasks.get(i).call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RuntimeException("Error loading data from DB: " + e.getMessage(), e);
+                }
+            }
+
+            return results;
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(len, threads), r -> {
+            Thread t = new Thread(r, "dflib-jdbc-loader-" + counter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<DataFrame>> futures = executor.invokeAll(tasks);
+            DataFrame[] results = new DataFrame[len];
+            for (int i = 0; i < len; i++) {
+                results[i] = futures.get(i).get();
+            }
+
+            return results;
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException
+                    ? (RuntimeException) cause
+                    : new RuntimeException("Error loading data from DB: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading data from DB", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns min and max value of the partitioning column, or null if there are no rows with non-null values.
+     */
+    protected long[] loadPartitionBounds() {
+
+        String column = connector.quoteIdentifier(partitionColumn);
+        StringBuilder sql = new StringBuilder("select min(")
+                .append(column)
+                .append("), max(")
+                .append(column)
+                .append(") from ")
+                .append(connector.quoteTableName(tableName));
+        appendWhereSql(sql);
+
+        return connector
+                .createStatementBuilder(sql.toString())
+                .bind(collectBindingParams())
+                .select(rs -> {
+
+                    if (!rs.next()) {
+                        return null;
+                    }
+
+                    Object min = rs.getObject(1);
+                    Object max = rs.getObject(2);
+                    if (min == null || max == null) {
+                        return null;
+                    }
+
+                    if (!(min instanceof Number) || !(max instanceof Number)) {
+                        throw new IllegalStateException("Partition column '" + partitionColumn + "' is not numeric");
+                    }
+
+                    return new long[]{
+                            (long) Math.floor(((Number) min).doubleValue()),
+                            (long) Math.ceil(((Number) max).doubleValue())
+                    };
+                });
+    }
+
+    protected List<String> buildPartitionSqls(long lowerBound, long upperBound) {
+
+        // using the same arithmetic as Spark JDBC source: avoids overflows for the bounds near Long.MIN/MAX_VALUE,
+        // at the expense of some imprecision in the partition sizes
+        long stride = upperBound / partitions - lowerBound / partitions;
+
+        // not enough distinct values for the requested number of partitions
+        int len = partitions;
+        if (stride <= 0) {
+            stride = 1;
+            len = (int) Math.min(partitions, upperBound - lowerBound + 1);
+        }
+
+        if (len <= 1) {
+            return Collections.singletonList(buildSql(null));
+        }
+
+        String column = connector.quoteIdentifier(partitionColumn);
+        List<String> sqls = new ArrayList<>(len);
+
+        for (int i = 0; i < len; i++) {
+
+            long from = lowerBound + stride * i;
+            long to = from + stride;
+
+            String range;
+            if (i == 0) {
+                range = "(" + column + " < " + to + " or " + column + " is null)";
+            } else if (i == len - 1) {
+                range = column + " >= " + from;
+            } else {
+                range = column + " >= " + from + " and " + column + " < " + to;
+            }
+
+            sqls.add(buildSql(range));
+        }
+
+        return sqls;
+    }
+
     protected Series<?> collectBindingParams() {
         int criteriaHeight = condition != null ? condition.height() : 0;
         if (criteriaHeight == 0) {
@@ -121,18 +873,85 @@ public class TableLoader {
     }
 
     protected String buildSql() {
+        return buildSql(null);
+    }
 
-        // TODO: should maxRows be translated into the SQL LIMIT clause?
-        //  Some DBs have crazy limit syntax, so this may be hard to generalize..
+    /**
+     * @param partitionCondition an optional condition to select a single partition of the table. Appended to the
+     *                           "eq" condition of the loader, if any.
+     * @since 0.8
+     */
+    protected String buildSql(String partitionCondition) {
 
         StringBuilder sql = new StringBuilder("select ");
+        appendTopSql(sql);
         appendColumnsSql(sql);
         sql.append(" from ").append(connector.quoteTableName(tableName));
-        appendWhereSql(sql);
 
+        if (partitionCondition == null) {
+            appendWhereSql(sql);
+        } else {
+
+            String where = appendWhereSql(new StringBuilder()).toString();
+            if (where.isEmpty()) {
+                sql.append(" where ").append(partitionCondition);
+            } else {
+                // strip " where " and wrap the "eq" condition in parenthesis, as it may contain "or"
+                sql.append(" where (").append(where.substring(" where ".length())).append(") and ").append(partitionCondition);
+            }
+        }
+
+        if (partitionColumn != null && sortByPartitionColumn) {
+            sql.append(" order by ").append(connector.quoteIdentifier(partitionColumn));
+        }
+
+        appendLimitSql(sql);
         return sql.toString();
     }
 
+    private boolean hasSqlLimit() {
+        // zero limit is not valid in some DBs, so let the worker handle it
+        return maxRows > 0 && maxRows < Integer.MAX_VALUE;
+    }
+
+    /**
+     * Appends a "TOP n" clause for the DBs that use this syntax to limit the number of rows.
+     *
+     * @since 0.8
+     */
+    protected StringBuilder appendTopSql(StringBuilder buffer) {
+
+        if (hasSqlLimit() && connector.getMetadata().getFlavor() == DbFlavor.SQLSERVER) {
+            buffer.append("top ").append(maxRows).append(" ");
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Appends a trailing clause limiting the number of rows for the DBs that support it. DBs that have no such clause
+     * or whose syntax is not known would rely on the JDBC driver to enforce the limit.
+     *
+     * @since 0.8
+     */
+    protected StringBuilder appendLimitSql(StringBuilder buffer) {
+
+        if (!hasSqlLimit()) {
+            return buffer;
+        }
+
+        switch (connector.getMetadata().getFlavor()) {
+            case MYSQL:
+            case MARIA_DB:
+            case POSTGRES:
+                return buffer.append(" limit ").append(maxRows);
+            case DERBY:
+                return buffer.append(" fetch first ").append(maxRows).append(" rows only");
+            default:
+                return buffer;
+        }
+    }
+
     protected StringBuilder appendColumnsSql(StringBuilder buffer) {
 
         if (useStandardColumns()) {
@@ -190,6 +1009,10 @@ public class TableLoader {
 
     protected StringBuilder appendWhereSql_MultiColumns(StringBuilder buffer, Index columnsIndex, int criteriaHeight) {
 
+        if (connector.getMetadata().supportsRowValueIn()) {
+            return appendWhereSql_RowValueIn(buffer, columnsIndex, criteriaHeight);
+        }
+
         String part = singleMultiColumnCondition(columnsIndex);
 
         buffer.append(" where ").append(part);
@@ -201,6 +1024,38 @@ public class TableLoader {
         return buffer;
     }
 
+    /**
+     * Renders a multi-column condition as a more compact (and potentially better optimized) "IN" with row value
+     * constructors.
+     *
+     * @since 0.8
+     */
+    protected StringBuilder appendWhereSql_RowValueIn(StringBuilder buffer, Index columnsIndex, int criteriaHeight) {
+
+        int w = columnsIndex.size();
+
+        buffer.append(" where (");
+        for (int i = 0; i < w; i++) {
+            if (i > 0) {
+                buffer.append(", ");
+            }
+            buffer.append(connector.quoteIdentifier(columnsIndex.getLabel(i)));
+        }
+
+        StringBuilder part = new StringBuilder("(?");
+        for (int i = 1; i < w; i++) {
+            part.append(", ?");
+        }
+        part.append(")");
+
+        buffer.append(") in (").append(part);
+        for (int i = 1; i < criteriaHeight; i++) {
+            buffer.append(", ").append(part);
+        }
+
+        return buffer.append(")");
+    }
+
     private String singleMultiColumnCondition(Index columnsIndex) {
         int w = columnsIndex.size();
         String[] columns = new String[w];
@@ -3,19 +3,29 @@ package com.nhl.dflib.jdbc.connector;
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
 import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.jdbc.connector.saver.SaveViaBulkLoad;
+import com.nhl.dflib.jdbc.connector.saver.SaveViaDbMerge;
 import com.nhl.dflib.jdbc.connector.saver.SaveViaDeleteThenInsert;
+import com.nhl.dflib.jdbc.connector.saver.SaveViaIncrementalSync;
 import com.nhl.dflib.jdbc.connector.saver.SaveViaInsert;
 import com.nhl.dflib.jdbc.connector.saver.SaveViaUpsert;
+import com.nhl.dflib.jdbc.connector.saver.SyncState;
 import com.nhl.dflib.jdbc.connector.saver.TableSaveStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class TableSaver {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TableSaver.class);
 
+    // sending rows in limited batches prevents the driver from accumulating the entire DataFrame in memory, while
+    // still amortizing the network roundtrips
+    static final int DEFAULT_BATCH_SIZE = 10_000;
+
     protected JdbcConnector connector;
     private TableFQName tableName;
 
@@ -23,10 +33,24 @@ public class TableSaver {
     private boolean deleteTableData;
     private boolean mergeByPk;
     private String[] mergeByColumns;
+    private boolean bulkLoad;
+    private boolean dbMerge;
+    private String rowHashColumn;
+    private SyncState syncState;
+    private String syncHashColumn;
+    private boolean deleteMissingKeys;
+    private int mergeChunkSize;
+
+    // batching and parallelism vars
+    private int batchSize;
+    private boolean intermediateCommits;
+    private int threads;
 
     public TableSaver(JdbcConnector connector, TableFQName tableName) {
         this.connector = connector;
         this.tableName = tableName;
+        this.batchSize = DEFAULT_BATCH_SIZE;
+        this.threads = 1;
     }
 
     /**
@@ -74,12 +98,235 @@ public class TableSaver {
         return this;
     }
 
+    /**
+     * Configures a column that contains a hash of the row data, that is saved along with the data. During "merge" the
+     * rows with the same hash in the DataFrame and in the DB are treated as unchanged without comparing the values of
+     * the other columns. Only has effect in combination with {@link #mergeByPk()} or {@link #mergeByColumns(String...)}.
+     *
+     * @param column the name of the row hash column present in both the DataFrame and the table
+     * @return this saver instance
+     * @since 0.8
+     */
+    public TableSaver rowHashColumn(String column) {
+        this.rowHashColumn = Objects.requireNonNull(column);
+        return this;
+    }
+
+    /**
+     * Configures "merge" to process big DataFrames in chunks of up to the specified number of rows. The DataFrame is
+     * sorted by the "merge" key columns, and each chunk is loaded from the DB, compared and saved independently
+     * within the same transaction. This keeps the memory used by the "merge" proportional to the chunk size instead
+     * of the DataFrame size. Only has effect in combination with {@link #mergeByPk()} or
+     * {@link #mergeByColumns(String...)}, and is ignored by {@link #dbMerge()}.
+     *
+     * @param rows max number of rows in a chunk. Zero (the default) means the entire DataFrame is processed at once.
+     * @return this saver instance
+     * @since 0.8
+     */
+    public TableSaver mergeChunkSize(int rows) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Negative chunk size: " + rows);
+        }
+
+        this.mergeChunkSize = rows;
+        return this;
+    }
+
+    /**
+     * Configures saver to perform "merge" on the DB side instead of loading the matching rows in memory and comparing
+     * them with the DataFrame. The rows are sent to the DB once, as a batch of "INSERT ... ON CONFLICT" (PostgreSQL),
+     * "INSERT ... ON DUPLICATE KEY UPDATE" (MySQL, MariaDB) or "MERGE" (SQLServer, Derby) statements. For other DBs
+     * falls back to the in-memory merge. Only has effect in combination with {@link #mergeByPk()} or
+     * {@link #mergeByColumns(String...)}. Note that PostgreSQL, MySQL and MariaDB require a PK or a unique
+     * constraint on the "merge" columns, and that the per-row save stats may report {@link com.nhl.dflib.jdbc.SaveOp#merge}
+     * for the DBs that don't distinguish between inserts and updates.
+     *
+     * @return this saver instance
+     * @since 0.8
+     */
+    public TableSaver dbMerge() {
+        this.dbMerge = true;
+        return this;
+    }
+
+    /**
+     * Configures saver to perform an "incremental sync", i.e. to only send to the DB the rows that changed since the
+     * previous save done with the same state object. The state keeps a hash of each saved row contents by row key in
+     * memory, so the unchanged rows are skipped without reading them from the DB. The changed rows are saved via a
+     * regular "merge", so this setting requires {@link #mergeByPk()} or {@link #mergeByColumns(String...)}. The state
+     * is updated once the save is committed. It assumes that the table is not modified by other means, and should be
+     * cleared if it is, or if a transaction that included the save is rolled back.
+     *
+     * @param state an object that keeps track of the saved rows between the saves. Should only be used with one table.
+     * @return this saver instance
+     * @see #incrementalSyncByHashColumn(String)
+     * @since 0.8
+     */
+    public TableSaver incrementalSync(SyncState state) {
+        this.syncState = Objects.requireNonNull(state);
+        this.syncHashColumn = null;
+        return this;
+    }
+
+    /**
+     * Configures saver to perform an "incremental sync", i.e. to only send to the DB the rows that changed since they
+     * were last saved. Calculates a hash of each row contents and stores it in the provided table column. During the
+     * save, only the key and the hash columns are read from the table to find the rows with changed hashes, that are
+     * then saved via a regular "merge". Unlike {@link #incrementalSync(SyncState)}, the state is persistent and is
+     * shared by all the savers of the table. Requires {@link #mergeByPk()} or {@link #mergeByColumns(String...)}.
+     *
+     * @param column the name of a BIGINT table column to store the row hashes. If the DataFrame has a column with
+     *               this name, it is replaced with the calculated hashes.
+     * @return this saver instance
+     * @since 0.8
+     */
+    public TableSaver incrementalSyncByHashColumn(String column) {
+        this.syncHashColumn = Objects.requireNonNull(column);
+        this.syncState = null;
+        return this;
+    }
+
+    /**
+     * Configures saver to delete the table rows whose keys are not present in the saved DataFrame, so that the table
+     * fully mirrors the DataFrame after the save. Only has effect in combination with {@link #incrementalSync(SyncState)}
+     * or {@link #incrementalSyncByHashColumn(String)}. Reads the key columns of the entire table.
+     *
+     * @return this saver instance
+     * @since 0.8
+     */
+    public TableSaver deleteMissingKeys() {
+        this.deleteMissingKeys = true;
+        return this;
+    }
+
+    /**
+     * Configures saver to insert data using the DB "native" bulk loading facility instead of the JDBC batch insert.
+     * Supported for PostgreSQL ("COPY"), MySQL and MariaDB ("LOAD DATA LOCAL INFILE", requires "allowLoadLocalInfile"
+     * connection property) and embedded Derby ("SYSCS_IMPORT_DATA"). For other DBs, or if bulk loading is not
+     * possible in the current environment or for the DataFrame columns (e.g. binary columns with MySQL, or "LOCAL
+     * INFILE" disabled on the MySQL client or server), falls back to a regular batch insert. Derby import commits the
+     * transaction on its own, so it is not used with {@link #deleteTableData()} or within a
+     * {@link com.nhl.dflib.jdbc.connector.tx.Tx}. Can be combined with {@link #deleteTableData()}, but not with the
+     * "merge" modes.
+     *
+     * @return this saver instance
+     * @since 0.8
+     */
+    public TableSaver bulkLoad() {
+        this.bulkLoad = true;
+        return this;
+    }
+
+    /**
+     * Sets the max number of rows sent to the DB in a single JDBC batch. Rows over this number are sent in multiple
+     * batches within the same transaction (unless {@link #intermediateCommits()} is also set). The default is 10000.
+     *
+     * @param rows max number of rows in a batch. Zero means all rows are sent in one batch
+     * @return this saver instance
+     * @since 0.8
+     */
+    public TableSaver batchSize(int rows) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Negative batch size: " + rows);
+        }
+
+        this.batchSize = rows;
+        return this;
+    }
+
+    /**
+     * Configures saver to commit the transaction after each JDBC batch. This limits the size of the DB transaction
+     * for very big saves, but makes the save non-atomic: if it fails, the rows from the previous batches stay
+     * committed. Has no effect when saving inside {@link com.nhl.dflib.jdbc.connector.tx.Tx}.
+     *
+     * @return this saver instance
+     * @see #batchSize(int)
+     * @since 0.8
+     */
+    public TableSaver intermediateCommits() {
+        this.intermediateCommits = true;
+        return this;
+    }
+
+    /**
+     * Configures saver to split the DataFrame into a number of disjoint row ranges, and insert them concurrently over
+     * multiple connections, each one in its own transaction. So the save is not atomic. Only supported for a plain
+     * insert (i.e. can not be combined with {@link #deleteTableData()} or "merge" modes). Inside a
+     * {@link com.nhl.dflib.jdbc.connector.tx.Tx} this setting is ignored, and the DataFrame is inserted sequentially
+     * over the transaction connection.
+     *
+     * @param threads number of threads and connections to use for saving
+     * @return this saver instance
+     * @since 0.8
+     */
+    public TableSaver parallelInsert(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Invalid number of threads: " + threads);
+        }
+
+        this.threads = threads;
+        return this;
+    }
+
     public SaveStats save(DataFrame df) {
+        return save(createSaveStrategy(), df);
+    }
+
+    /**
+     * Saves the DataFrame on the provided executor, returning a future that completes with the save stats. The save
+     * configuration is validated and captured on the calling thread, so the saver can be reused after this call.
+     * Note that a connector obtained within a transaction is bound to a single connection, and should not be used to
+     * run concurrent operations.
+     *
+     * @param df       a DataFrame to save
+     * @param executor an executor to run the save on. Can be a virtual thread executor on the JVMs that support it.
+     * @return a future of the save stats
+     * @since 0.8
+     */
+    public CompletableFuture<SaveStats> saveAsync(DataFrame df, Executor executor) {
+        TableSaveStrategy strategy = createSaveStrategy();
+        return CompletableFuture.supplyAsync(() -> save(strategy, df), executor);
+    }
+
+    private SaveStats save(TableSaveStrategy strategy, DataFrame df) {
         LOGGER.info("saving DataFrame...");
-        return new SaveStats(createSaveStrategy().save(df));
+
+        long t0 = System.nanoTime();
+        SaveStats stats = new SaveStats(strategy.save(df));
+        connector.getMetrics().dataFrameSaved(tableName, df.height(), System.nanoTime() - t0);
+        return stats;
     }
 
     protected TableSaveStrategy createSaveStrategy() {
+
+        if (threads > 1 && (deleteTableData || mergeByPk || mergeByColumns != null)) {
+            throw new IllegalStateException("Parallel save is only supported for inserts");
+        }
+
+        return createSaveStrategyForMode()
+                .batchSize(batchSize)
+                .intermediateCommits(intermediateCommits)
+                .threads(threads);
+    }
+
+    private TableSaveStrategy createSaveStrategyForMode() {
+
+        if (syncState != null || syncHashColumn != null) {
+            return createSyncStrategy();
+        }
+
+        if (deleteMissingKeys) {
+            throw new IllegalStateException("'deleteMissingKeys' is only supported for incremental sync");
+        }
+
+        if (bulkLoad) {
+            if (mergeByPk || mergeByColumns != null) {
+                throw new IllegalStateException("Bulk load can not be combined with 'merge'");
+            }
+
+            return new SaveViaBulkLoad(connector, tableName, deleteTableData);
+        }
+
         // if delete is in effect, we don't need the UPDATE part of "UPSERT"
         if (deleteTableData) {
             return new SaveViaDeleteThenInsert(connector, tableName);
@@ -89,10 +336,35 @@ public class TableSaver {
             return new SaveViaInsert(connector, tableName);
         }
 
-        return new SaveViaUpsert(
-                connector,
-                tableName,
-                mergeByPk ? getPkColumns() : mergeByColumns);
+        String[] keyColumns = mergeByPk ? getPkColumns() : mergeByColumns;
+        return dbMerge
+                ? new SaveViaDbMerge(connector, tableName, keyColumns)
+                : new SaveViaUpsert(connector, tableName, keyColumns).rowHashColumn(rowHashColumn).chunkSize(mergeChunkSize);
+    }
+
+    private TableSaveStrategy createSyncStrategy() {
+
+        if (!mergeByPk && mergeByColumns == null) {
+            throw new IllegalStateException("Incremental sync requires 'mergeByPk' or 'mergeByColumns'");
+        }
+
+        if (bulkLoad || deleteTableData || dbMerge) {
+            throw new IllegalStateException("Incremental sync can not be combined with 'bulkLoad', 'deleteTableData' or 'dbMerge'");
+        }
+
+        String[] keyColumns = mergeByPk ? getPkColumns() : mergeByColumns;
+
+        SaveViaIncrementalSync strategy = syncState != null
+                ? new SaveViaIncrementalSync(connector, tableName, keyColumns, syncState)
+                : new SaveViaIncrementalSync(connector, tableName, keyColumns, syncHashColumn);
+
+        // in the hash column mode the strategy uses the sync hash column as the row hash column
+        if (syncState != null) {
+            strategy.rowHashColumn(rowHashColumn);
+        }
+
+        strategy.chunkSize(mergeChunkSize);
+        return strategy.deleteMissing(deleteMissingKeys);
     }
 
     protected String[] getPkColumns() {
@@ -7,5 +7,17 @@ public enum DbFlavor {
 
     // TODO: other DBs
 
-    MYSQL, MARIA_DB, DERBY, OTHER
+    MYSQL, MARIA_DB, DERBY,
+
+    /**
+     * @since 0.8
+     */
+    POSTGRES,
+
+    /**
+     * @since 0.8
+     */
+    SQLSERVER,
+
+    OTHER
 }
@@ -1,22 +1,42 @@
 package com.nhl.dflib.jdbc.connector.metadata;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @since 0.6
  */
 public class DbMetadata {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbMetadata.class);
+
+    /**
+     * @since 0.8
+     */
+    public static final int DEFAULT_MAX_TABLES = 10_000;
+
     private DataSource dataSource;
     private DbFlavor flavor;
     private boolean supportsCatalogs;
@@ -24,7 +44,9 @@ public class DbMetadata {
     private boolean supportsParamsMetadata;
     private boolean supportsBatchUpdates;
     private String identifierQuote;
-    private Map<TableFQName, DbTableMetadata> tables;
+    private int defaultFetchSize;
+    private int maxBindParameters;
+    private TableMetadataCache tables;
 
     protected DbMetadata(DataSource dataSource, DbFlavor flavor, DatabaseMetaData jdbcMetadata) {
 
@@ -34,8 +56,7 @@ public class DbMetadata {
         this.dataSource = dataSource;
         this.flavor = Objects.requireNonNull(flavor);
 
-        // TODO: will grow indefinitely, so a potential memory leak... would be great to have a concurrent LRU Map in Java...
-        this.tables = new ConcurrentHashMap<>();
+        this.tables = new TableMetadataCache(this::loadTableMetadata, DEFAULT_MAX_TABLES);
 
         initFlags(flavor, jdbcMetadata);
     }
@@ -45,6 +66,9 @@ public class DbMetadata {
     }
 
     protected void initFlags(DbFlavor flavor, DatabaseMetaData jdbcMetadata) {
+
+        maxBindParameters = Integer.MAX_VALUE;
+
         switch (flavor) {
             case MYSQL:
             case MARIA_DB:
@@ -52,12 +76,29 @@ public class DbMetadata {
                 supportsParamsMetadata = false;
                 supportsCatalogs = true;
                 supportsSchemas = false;
+                maxBindParameters = 65_535;
                 break;
             case DERBY:
                 supportsParamsMetadata = true;
                 supportsCatalogs = false;
                 supportsSchemas = true;
                 break;
+            case POSTGRES:
+                supportsParamsMetadata = true;
+                supportsCatalogs = false;
+                supportsSchemas = true;
+
+                // PostgreSQL driver reads the entire ResultSet in memory unless the fetch size is set (and autocommit
+                // is off, which is the case for all connector connections)
+                defaultFetchSize = 1000;
+                maxBindParameters = 32_767;
+                break;
+            case SQLSERVER:
+                supportsParamsMetadata = true;
+                supportsCatalogs = true;
+                supportsSchemas = true;
+                maxBindParameters = 2_100;
+                break;
             default:
                 supportsParamsMetadata = true;
                 supportsCatalogs = false;
@@ -80,6 +121,56 @@ public class DbMetadata {
         return identifierQuote;
     }
 
+    /**
+     * Returns a fetch size that should be used for the queries that do not specify it explicitly. Zero means that the
+     * driver default should be used.
+     *
+     * @since 0.8
+     */
+    public int getDefaultFetchSize() {
+        return defaultFetchSize;
+    }
+
+    /**
+     * Converts a requested fetch size to a value that should be passed to {@link java.sql.Statement#setFetchSize(int)}
+     * to make the driver stream the results. Most drivers take the fetch size literally, but e.g. MySQL driver
+     * ignores positive values (unless the connection is configured to use cursors), and only switches to row-by-row
+     * streaming when the fetch size is {@link Integer#MIN_VALUE}.
+     *
+     * @param fetchSize requested fetch size. Zero means the driver default.
+     * @return fetch size value to pass to the driver
+     * @since 0.8
+     */
+    public int driverFetchSize(int fetchSize) {
+        return fetchSize > 0 && flavor == DbFlavor.MYSQL ? Integer.MIN_VALUE : fetchSize;
+    }
+
+    /**
+     * Returns the max number of parameters that can be bound to a single statement.
+     *
+     * @since 0.8
+     */
+    public int getMaxBindParameters() {
+        return maxBindParameters;
+    }
+
+    /**
+     * Returns whether the DB supports multi-column "IN" conditions using row value constructors, i.e.
+     * <code>(a, b) IN ((?, ?), (?, ?))</code>.
+     *
+     * @since 0.8
+     */
+    public boolean supportsRowValueIn() {
+        switch (flavor) {
+            case MYSQL:
+            case MARIA_DB:
+            case POSTGRES:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     public boolean supportsParamsMetadata() {
         return supportsParamsMetadata;
     }
@@ -98,7 +189,7 @@ public class DbMetadata {
 
     public DbTableMetadata getTable(String name) {
         TableFQName fqName = parseTableName(name);
-        return tables.computeIfAbsent(fqName, this::loadTableMetadata);
+        return tables.get(fqName);
     }
 
     /**
@@ -110,7 +201,169 @@ public class DbMetadata {
         // invariants on the assumption that this is how the caller would like to refer to this table throughout the
         // app... Worst case we'd get some duplicates
 
-        return tables.computeIfAbsent(tableName, this::loadTableMetadata);
+        return tables.get(tableName);
+    }
+
+    /**
+     * Returns the tables referenced by the foreign keys of the specified table, i.e. the tables whose rows must exist
+     * before the rows of this table can be inserted. Unlike the rest of the table metadata, this information is not
+     * cached, and is read from the DB on every call. If the driver doesn't support reading foreign keys, returns an
+     * empty array.
+     *
+     * @since 0.8
+     */
+    public TableFQName[] getReferencedTables(TableFQName tableName) {
+
+        Set<TableFQName> referencedTables = new LinkedHashSet<>();
+
+        try (Connection c = dataSource.getConnection()) {
+
+            DatabaseMetaData md = c.getMetaData();
+            try (ResultSet fkRs = md.getImportedKeys(
+                    tableName.getCatalog(), tableName.getSchema(), tableName.getTable())) {
+
+                while (fkRs.next()) {
+                    referencedTables.add(new TableFQName(
+                            fkRs.getString("PKTABLE_CAT"),
+                            fkRs.getString("PKTABLE_SCHEM"),
+                            fkRs.getString("PKTABLE_NAME")));
+                }
+            }
+        } catch (SQLFeatureNotSupportedException e) {
+            LOGGER.debug("Driver doesn't support reading foreign keys, assuming table '{}' has none", tableName);
+            return new TableFQName[0];
+        } catch (SQLException e) {
+            throw new RuntimeException("Error getting foreign keys of table '" + tableName + "'", e);
+        }
+
+        return referencedTables.toArray(new TableFQName[0]);
+    }
+
+    /**
+     * Sets the max number of tables whose metadata is cached. When the limit is reached, the least recently used
+     * tables are evicted from the cache. The default is {@link #DEFAULT_MAX_TABLES}.
+     *
+     * @since 0.8
+     */
+    public DbMetadata maxCachedTables(int maxTables) {
+        if (maxTables < 1) {
+            throw new IllegalArgumentException("'maxTables' must be positive: " + maxTables);
+        }
+
+        tables.setMaxSize(maxTables);
+        return this;
+    }
+
+    /**
+     * Sets the time after which cached table metadata is considered stale and is reloaded from the DB. Zero (the
+     * default) means that the metadata never expires.
+     *
+     * @since 0.8
+     */
+    public DbMetadata cachedTablesTtl(long ttlMs) {
+        if (ttlMs < 0) {
+            throw new IllegalArgumentException("'ttlMs' must be non-negative: " + ttlMs);
+        }
+
+        tables.setTtlMs(ttlMs);
+        return this;
+    }
+
+    /**
+     * Enables asynchronous refresh of the expired table metadata. With a non-null executor, stale metadata is returned
+     * to the caller right away, while the fresh copy is loaded in the background. A null executor (the default) makes
+     * the callers wait for the reload.
+     *
+     * @since 0.8
+     */
+    public DbMetadata cachedTablesRefreshExecutor(Executor executor) {
+        tables.setRefreshExecutor(executor);
+        return this;
+    }
+
+    /**
+     * Removes cached metadata of a single table, so that it will be reloaded the next time it is requested.
+     *
+     * @since 0.8
+     */
+    public void invalidateTable(TableFQName tableName) {
+        tables.remove(tableName);
+    }
+
+    /**
+     * Removes cached metadata of all tables.
+     *
+     * @since 0.8
+     */
+    public void invalidateTables() {
+        tables.clear();
+    }
+
+    /**
+     * Loads and caches metadata for the specified tables, using up to the specified number of parallel threads. Allows
+     * to avoid the metadata loading latency on the first access to each table.
+     *
+     * @since 0.8
+     */
+    public void preloadTables(int threads, String... tableNames) {
+        List<TableFQName> fqNames = new ArrayList<>(tableNames.length);
+        for (String name : tableNames) {
+            fqNames.add(parseTableName(name));
+        }
+
+        preloadTables(threads, fqNames);
+    }
+
+    /**
+     * Loads and caches metadata for the specified tables, using up to the specified number of parallel threads. Allows
+     * to avoid the metadata loading latency on the first access to each table.
+     *
+     * @since 0.8
+     */
+    public void preloadTables(int threads, Collection<TableFQName> tableNames) {
+
+        if (threads < 1) {
+            throw new IllegalArgumentException("'threads' must be positive: " + threads);
+        }
+
+        int len = tableNames.size();
+        if (len == 0) {
+            return;
+        }
+
+        if (threads == 1 || len == 1) {
+            tableNames.forEach(tables::get);
+            return;
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(len, threads), r -> {
+            Thread t = new Thread(r, "dflib-jdbc-metadata-" + counter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<DbTableMetadata>> futures = new ArrayList<>(len);
+            for (TableFQName name : tableNames) {
+                futures.add(executor.submit(() -> tables.get(name)));
+            }
+
+            for (Future<DbTableMetadata> f : futures) {
+                f.get();
+            }
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException
+                    ? (RuntimeException) cause
+                    : new RuntimeException("Error loading DB metadata: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading DB metadata", e);
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     /**
@@ -34,6 +34,10 @@ class DbMetadataFactory {
             return DbFlavor.MARIA_DB;
         } else if (dbNameUpper.contains("APACHE DERBY")) {
             return DbFlavor.DERBY;
+        } else if (dbNameUpper.contains("POSTGRESQL")) {
+            return DbFlavor.POSTGRES;
+        } else if (dbNameUpper.contains("MICROSOFT SQL SERVER")) {
+            return DbFlavor.SQLSERVER;
         }
 
         return DbFlavor.OTHER;
@@ -0,0 +1,211 @@
+package com.nhl.dflib.jdbc.connector.metadata;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * A bounded LRU cache of table metadata with an optional time-to-live. Expired entries are either reloaded by the
+ * caller thread, or (if an executor for async refresh is provided) returned stale while being refreshed in the
+ * background. Concurrent requests for the same missing table share a single load.
+ *
+ * @since 0.8
+ */
+class TableMetadataCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TableMetadataCache.class);
+
+    private Function<TableFQName, DbTableMetadata> loader;
+    private volatile long ttlMs;
+    private volatile Executor refreshExecutor;
+    private LruMap entries;
+
+    TableMetadataCache(Function<TableFQName, DbTableMetadata> loader, int maxSize) {
+        this.loader = loader;
+        this.entries = new LruMap(maxSize);
+    }
+
+    void setMaxSize(int maxSize) {
+        synchronized (entries) {
+            entries.maxSize = maxSize;
+
+            // trim the excess right away
+            while (entries.size() > maxSize) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+    }
+
+    void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    void setRefreshExecutor(Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    DbTableMetadata get(TableFQName name) {
+
+        Entry entry;
+        boolean load = false;
+        boolean refresh = false;
+
+        synchronized (entries) {
+            entry = entries.get(name);
+
+            if (entry == null || entry.isFailed()) {
+                entry = new Entry();
+                entries.put(name, entry);
+                load = true;
+            } else if (entry.isExpired(ttlMs)) {
+                if (refreshExecutor != null) {
+                    refresh = entry.startRefresh();
+                } else {
+                    entry = new Entry();
+                    entries.put(name, entry);
+                    load = true;
+                }
+            }
+        }
+
+        if (load) {
+            entry.load(loader, name);
+
+            // evict a failed entry right away, so that it is not holding a place in the LRU map
+            if (entry.isFailed()) {
+                synchronized (entries) {
+                    if (entries.get(name) == entry) {
+                        entries.remove(name);
+                    }
+                }
+            }
+        } else if (refresh) {
+            refreshAsync(name, entry);
+        }
+
+        return entry.join();
+    }
+
+    void remove(TableFQName name) {
+        synchronized (entries) {
+            entries.remove(name);
+        }
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void refreshAsync(TableFQName name, Entry stale) {
+        try {
+            refreshExecutor.execute(() -> {
+                Entry fresh = new Entry();
+                fresh.load(loader, name);
+
+                if (fresh.isFailed()) {
+                    LOGGER.warn("Failed to refresh metadata for table '{}', keeping the stale version", name);
+                    stale.endRefresh();
+                    return;
+                }
+
+                synchronized (entries) {
+
+                    // the entry may have been evicted or replaced in the meantime
+                    if (entries.get(name) == stale) {
+                        entries.put(name, fresh);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to schedule metadata refresh for table '{}'", name, e);
+            stale.endRefresh();
+        }
+    }
+
+    private static class Entry {
+
+        private CompletableFuture<DbTableMetadata> value;
+        private volatile long loadedAt;
+        private volatile boolean refreshing;
+
+        Entry() {
+            this.value = new CompletableFuture<>();
+        }
+
+        void load(Function<TableFQName, DbTableMetadata> loader, TableFQName name) {
+            try {
+                DbTableMetadata metadata = loader.apply(name);
+                loadedAt = System.currentTimeMillis();
+                value.complete(metadata);
+            } catch (Throwable e) {
+                // must complete the future on any failure, including Errors, or the callers waiting for it would hang
+                value.completeExceptionally(e);
+            }
+        }
+
+        DbTableMetadata join() {
+            try {
+                return value.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+
+                throw (RuntimeException) cause;
+            }
+        }
+
+        boolean isFailed() {
+            return value.isCompletedExceptionally();
+        }
+
+        // loading entries are never expired
+        boolean isExpired(long ttlMs) {
+            return ttlMs > 0 && value.isDone() && System.currentTimeMillis() - loadedAt > ttlMs;
+        }
+
+        // must be called under the cache lock
+        boolean startRefresh() {
+            if (refreshing) {
+                return false;
+            }
+
+            refreshing = true;
+            return true;
+        }
+
+        void endRefresh() {
+            refreshing = false;
+        }
+    }
+
+    private static class LruMap extends LinkedHashMap<TableFQName, Entry> {
+
+        int maxSize;
+
+        LruMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TableFQName, Entry> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import com.nhl.dflib.jdbc.connector.statement.ValueConverter;
+import com.nhl.dflib.jdbc.connector.statement.ValueConverterFactory;
+import com.nhl.dflib.row.RowProxy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * Lazily formats DataFrame rows as delimited text lines for bulk loading. Exposes the text as a {@link Reader} or as
+ * a UTF-8 {@link InputStream}, so that the whole DataFrame is never converted to text at once.
+ *
+ * @since 0.8
+ */
+class BulkLoadRows {
+
+    private BulkLoader loader;
+    private Iterator<RowProxy> rows;
+    private ValueConverter[] converters;
+    private int width;
+    private StringBuilder line;
+
+    BulkLoadRows(BulkLoader loader, DataFrame df, DbColumnMetadata[] columns, ValueConverterFactory converterFactory) {
+        this.loader = loader;
+        this.rows = df.iterator();
+        this.width = columns.length;
+        this.line = new StringBuilder();
+
+        // reusing bind converters, as they produce values of the types expected by the DB (e.g. enums converted to
+        // ints or Strings, java.time converted to java.sql types that print in the JDBC escape format)
+        this.converters = new ValueConverter[width];
+        for (int i = 0; i < width; i++) {
+            converters[i] = converterFactory.findConverter(columns[i].getType());
+        }
+    }
+
+    /**
+     * Returns the next formatted line, including the line separator, or null if there are no more rows.
+     */
+    String nextLine() {
+
+        if (!rows.hasNext()) {
+            return null;
+        }
+
+        RowProxy row = rows.next();
+        line.setLength(0);
+        for (int i = 0; i < width; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+
+            Object v = row.get(i);
+            loader.appendValue(line, v != null ? converters[i].convert(v) : null);
+        }
+
+        return line.append('\n').toString();
+    }
+
+    void writeTo(Writer out) throws IOException {
+        String line;
+        while ((line = nextLine()) != null) {
+            out.write(line);
+        }
+    }
+
+    Reader asReader() {
+        return new Reader() {
+
+            private String current = "";
+            private int pos;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) {
+
+                if (len == 0) {
+                    return 0;
+                }
+
+                int read = 0;
+                while (read < len) {
+
+                    if (pos == current.length()) {
+                        current = nextLine();
+                        pos = 0;
+
+                        if (current == null) {
+                            current = "";
+                            return read > 0 ? read : -1;
+                        }
+                    }
+
+                    int n = Math.min(len - read, current.length() - pos);
+                    current.getChars(pos, pos + n, cbuf, off + read);
+                    pos += n;
+                    read += n;
+                }
+
+                return read;
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        };
+    }
+
+    InputStream asInputStream() {
+        return new InputStream() {
+
+            private byte[] current = new byte[0];
+            private int pos;
+
+            private boolean fill() {
+                while (pos == current.length) {
+                    String line = nextLine();
+                    if (line == null) {
+                        return false;
+                    }
+
+                    current = line.getBytes(StandardCharsets.UTF_8);
+                    pos = 0;
+                }
+
+                return true;
+            }
+
+            @Override
+            public int read() {
+                return fill() ? current[pos++] & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+
+                if (len == 0) {
+                    return 0;
+                }
+
+                int read = 0;
+                while (read < len && fill()) {
+                    int n = Math.min(len - read, current.length - pos);
+                    System.arraycopy(current, pos, b, off + read, n);
+                    pos += n;
+                    read += n;
+                }
+
+                return read > 0 ? read : -1;
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import com.nhl.dflib.jdbc.connector.metadata.DbFlavor;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A DB-specific "native" bulk loader that streams DataFrame rows to the DB in a text format, bypassing the overhead of
+ * parameterized INSERT statements.
+ *
+ * @since 0.8
+ */
+abstract class BulkLoader {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    protected JdbcConnector connector;
+
+    protected BulkLoader(JdbcConnector connector) {
+        this.connector = connector;
+    }
+
+    /**
+     * Returns a bulk loader for a given DB flavor, or null if the DB has no supported bulk loading facility.
+     */
+    static BulkLoader forFlavor(DbFlavor flavor, JdbcConnector connector) {
+        switch (flavor) {
+            case POSTGRES:
+                return new PostgresBulkLoader(connector);
+            case MYSQL:
+            case MARIA_DB:
+                return new MySqlBulkLoader(connector);
+            case DERBY:
+                return new DerbyBulkLoader(connector);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Checks whether this loader can be used in the current environment (e.g. required driver classes are present)
+     * and for the given columns.
+     */
+    abstract boolean canLoad(Connection connection, DbColumnMetadata[] columns) throws SQLException;
+
+    /**
+     * Returns whether the loader commits or rolls back the current transaction on its own. Such a loader can't be used
+     * when the load must be a part of a bigger transaction.
+     */
+    boolean commitsTransaction() {
+        return false;
+    }
+
+    /**
+     * Returns whether a given load failure means that bulk loading is disabled in the DB or driver configuration, and
+     * the data can be saved some other way in the same transaction.
+     */
+    boolean isDisabled(SQLException e) {
+        return false;
+    }
+
+    /**
+     * Loads the DataFrame in the table. DataFrame columns are expected to match the "columns" array.
+     *
+     * @return the number of rows loaded
+     */
+    abstract long load(Connection connection, TableFQName table, DataFrame df, DbColumnMetadata[] columns) throws SQLException;
+
+    protected String nullToken() {
+        return "";
+    }
+
+    protected void appendValue(StringBuilder out, Object value) {
+
+        if (value == null) {
+            out.append(nullToken());
+        } else if (value instanceof BigDecimal) {
+            out.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Number) {
+            out.append(value);
+        } else if (value instanceof Boolean) {
+            appendBoolean(out, (Boolean) value);
+        } else if (value instanceof byte[]) {
+            appendBinary(out, (byte[]) value);
+        } else {
+            appendQuoted(out, value.toString());
+        }
+    }
+
+    protected void appendBoolean(StringBuilder out, boolean value) {
+        out.append(value);
+    }
+
+    protected void appendBinary(StringBuilder out, byte[] value) {
+        appendHex(out, value);
+    }
+
+    protected static void appendHex(StringBuilder out, byte[] value) {
+        for (byte b : value) {
+            out.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+    }
+
+    // always quote strings, so that empty Strings are distinguishable from NULLs
+    protected static void appendQuoted(StringBuilder out, String value) {
+        out.append('"');
+
+        int len = value.length();
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+
+        out.append('"');
+    }
+
+    protected String quotedColumnList(DbColumnMetadata[] columns) {
+        StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                buffer.append(", ");
+            }
+
+            buffer.append(connector.quoteIdentifier(columns[i].getName()));
+        }
+
+        return buffer.toString();
+    }
+
+    protected BulkLoadRows rows(DataFrame df, DbColumnMetadata[] columns) {
+        return new BulkLoadRows(this, df, columns, connector.getBindConverterFactory());
+    }
+}
@@ -0,0 +1,103 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Bulk loader based on Derby "SYSCS_UTIL.SYSCS_IMPORT_DATA" procedure. Since the procedure reads data from a file
+ * that must be accessible to the DB, this loader is only used with an embedded Derby. Also the procedure commits (or
+ * rolls back on failure) the current transaction, so this loader is not used within an outer transaction.
+ *
+ * @since 0.8
+ */
+class DerbyBulkLoader extends BulkLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DerbyBulkLoader.class);
+
+    DerbyBulkLoader(JdbcConnector connector) {
+        super(connector);
+    }
+
+    @Override
+    boolean canLoad(Connection connection, DbColumnMetadata[] columns) throws SQLException {
+        // with the network client the file will not be visible to the server
+        String url = connection.getMetaData().getURL();
+        return url != null && !url.startsWith("jdbc:derby://");
+    }
+
+    @Override
+    boolean commitsTransaction() {
+        // Derby issues COMMIT or ROLLBACK at the end of SYSCS_IMPORT_DATA
+        return true;
+    }
+
+    @Override
+    long load(Connection connection, TableFQName table, DataFrame df, DbColumnMetadata[] columns) throws SQLException {
+
+        File file = writeFile(df, columns);
+
+        try {
+            String sql = "CALL SYSCS_UTIL.SYSCS_IMPORT_DATA(?, ?, ?, NULL, ?, ',', '\"', 'UTF-8', 0)";
+            connector.getSqlLogger().log(sql);
+
+            try (CallableStatement st = connection.prepareCall(sql)) {
+                st.setString(1, table.getSchema());
+                st.setString(2, table.getTable());
+                st.setString(3, importColumnList(columns));
+                st.setString(4, file.getAbsolutePath());
+                st.execute();
+            }
+
+            return df.height();
+        } finally {
+            if (!file.delete()) {
+                LOGGER.warn("Failed to delete bulk load file {}", file);
+            }
+        }
+    }
+
+    private File writeFile(DataFrame df, DbColumnMetadata[] columns) throws SQLException {
+        try {
+            File file = File.createTempFile("dflib-bulk-", ".csv");
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+                rows(df, columns).writeTo(out);
+            } catch (IOException | RuntimeException e) {
+                file.delete();
+                throw e;
+            }
+
+            return file;
+        } catch (IOException e) {
+            throw new SQLException("Error writing bulk load file: " + e.getMessage(), e);
+        }
+    }
+
+    // import procedure takes column names as case-sensitive identifiers, that must not be quoted
+    private static String importColumnList(DbColumnMetadata[] columns) {
+        StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                buffer.append(",");
+            }
+
+            buffer.append(columns[i].getName());
+        }
+
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,186 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+/**
+ * A compact open-addressing hash map of primitive "long" keys to "long" values, that stores the entries in two
+ * parallel arrays using linear probing. Takes 16 bytes per slot with the slots at most 75% full, compared to ~100
+ * bytes per entry for a <code>HashMap&lt;Long, Long&gt;</code>. Not thread-safe.
+ *
+ * @since 0.8
+ */
+class LongLongHashMap {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    // zero marks an empty slot, so a zero key is stored outside of the arrays
+    private long[] keys;
+    private long[] values;
+    private boolean hasZeroKey;
+    private long zeroKeyValue;
+
+    private int size;
+    private int resizeThreshold;
+
+    LongLongHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    LongLongHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        allocate(MIN_CAPACITY);
+        hasZeroKey = false;
+        zeroKeyValue = 0L;
+        size = 0;
+    }
+
+    /**
+     * Returns true if the map contains the key mapped to the provided value.
+     */
+    boolean containsEntry(long key, long value) {
+
+        if (key == 0L) {
+            return hasZeroKey && zeroKeyValue == value;
+        }
+
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                return values[i] == value;
+            }
+
+            if (k == 0L) {
+                return false;
+            }
+        }
+    }
+
+    void put(long key, long value) {
+
+        if (key == 0L) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+
+            zeroKeyValue = value;
+            return;
+        }
+
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                values[i] = value;
+                return;
+            }
+
+            if (k == 0L) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size > resizeThreshold) {
+                    resize(keys.length * 2);
+                }
+                return;
+            }
+        }
+    }
+
+    void remove(long key) {
+
+        if (key == 0L) {
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroKeyValue = 0L;
+                size--;
+            }
+            return;
+        }
+
+        int mask = keys.length - 1;
+        int gap = slot(key, mask);
+        while (keys[gap] != key) {
+            if (keys[gap] == 0L) {
+                return;
+            }
+
+            gap = (gap + 1) & mask;
+        }
+
+        size--;
+
+        // shift back the entries of the probe chain that follow the removed one, so that the lookups don't stop at
+        // the gap
+        for (int i = (gap + 1) & mask; keys[i] != 0L; i = (i + 1) & mask) {
+            int home = slot(keys[i], mask);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+
+        keys[gap] = 0L;
+        values[gap] = 0L;
+    }
+
+    private void resize(int capacity) {
+
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Hash map is too big: " + size);
+        }
+
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+
+        allocate(capacity);
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long k = oldKeys[i];
+            if (k != 0L) {
+                int j = slot(k, mask);
+                while (keys[j] != 0L) {
+                    j = (j + 1) & mask;
+                }
+
+                keys[j] = k;
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Hash map is too big: " + expectedSize);
+        }
+
+        int capacity = MIN_CAPACITY;
+        while (capacity < needed) {
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+
+    private static int slot(long key, int mask) {
+        // spread the bits, as the keys are not guaranteed to be uniformly distributed in the lower bits
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,143 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+
+/**
+ * Bulk loader based on MySQL / MariaDB "LOAD DATA LOCAL INFILE" statement, with the data provided as an in-memory
+ * stream via the driver-specific statement API. Requires "allowLoadLocalInfile=true" in the connection properties and
+ * "local_infile" enabled on the server. Otherwise the load fails, and the saver falls back to the batch insert.
+ *
+ * @since 0.8
+ */
+class MySqlBulkLoader extends BulkLoader {
+
+    // "ER_NOT_ALLOWED_COMMAND" and "ER_CLIENT_LOCAL_FILES_DISABLED" server errors
+    private static final int[] LOCAL_INFILE_DISABLED_CODES = {1148, 3948};
+
+    private static final String[] STATEMENT_CLASSES = {
+            "com.mysql.cj.jdbc.JdbcStatement", // MySQL Connector/J 8.x
+            "com.mysql.jdbc.Statement", // MySQL Connector/J 5.x
+            "org.mariadb.jdbc.MariaDbStatement" // MariaDB Connector/J 1.x - 2.x
+    };
+
+    MySqlBulkLoader(JdbcConnector connector) {
+        super(connector);
+    }
+
+    /**
+     * Returns false if any of the columns is binary, as the text format of the loaded data has no encoding for binary
+     * values. Such DataFrames fall back to the JDBC batch insert. Also returns false if the driver statement class
+     * that accepts an in-memory stream is not available.
+     */
+    @Override
+    boolean canLoad(Connection connection, DbColumnMetadata[] columns) {
+
+        for (DbColumnMetadata c : columns) {
+            switch (c.getType()) {
+                case Types.BINARY:
+                case Types.VARBINARY:
+                case Types.LONGVARBINARY:
+                case Types.BLOB:
+                    return false;
+            }
+        }
+
+        for (String name : STATEMENT_CLASSES) {
+            try {
+                Class.forName(name, false, connection.getClass().getClassLoader());
+                return true;
+            } catch (ClassNotFoundException e) {
+                // try the next one
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Recognizes errors thrown by the driver or the server when "LOCAL INFILE" is disabled on either side. Such errors
+     * happen before any data is sent, and don't abort the transaction.
+     */
+    @Override
+    boolean isDisabled(SQLException e) {
+
+        for (int code : LOCAL_INFILE_DISABLED_CODES) {
+            if (e.getErrorCode() == code) {
+                return true;
+            }
+        }
+
+        // client-side checks (Connector/J 8 and MariaDB) use no vendor codes
+        String message = e.getMessage();
+        return message != null
+                && (message.contains("Loading local data is disabled") || message.contains("LOCAL INFILE is disabled"));
+    }
+
+    @Override
+    long load(Connection connection, TableFQName table, DataFrame df, DbColumnMetadata[] columns) throws SQLException {
+
+        // empty "ESCAPED BY" makes the loader treat backslashes literally and reads unquoted word NULL as null
+        String sql = "LOAD DATA LOCAL INFILE 'dflib.csv' INTO TABLE " + connector.quoteTableName(table)
+                + " CHARACTER SET utf8mb4"
+                + " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY ''"
+                + " LINES TERMINATED BY '\\n'"
+                + " (" + quotedColumnList(columns) + ")";
+
+        connector.getSqlLogger().log(sql);
+
+        try (Statement st = connection.createStatement()) {
+            setLocalInfileStream(st, rows(df, columns).asInputStream());
+            return st.executeUpdate(sql);
+        }
+    }
+
+    private void setLocalInfileStream(Statement statement, InputStream in) throws SQLException {
+
+        for (String name : STATEMENT_CLASSES) {
+
+            Class<?> type;
+            try {
+                type = Class.forName(name, false, statement.getClass().getClassLoader());
+            } catch (ClassNotFoundException e) {
+                continue;
+            }
+
+            if (!statement.isWrapperFor(type)) {
+                continue;
+            }
+
+            try {
+                Method setter = type.getMethod("setLocalInfileInputStream", InputStream.class);
+                setter.invoke(statement.unwrap(type), in);
+                return;
+            } catch (InvocationTargetException e) {
+                throw new SQLException("Error setting LOAD DATA stream: " + e.getCause().getMessage(), e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new SQLException("Error setting LOAD DATA stream", e);
+            }
+        }
+
+        throw new SQLException("Statement does not support LOAD DATA streams: " + statement.getClass().getName());
+    }
+
+    @Override
+    protected String nullToken() {
+        return "NULL";
+    }
+
+    @Override
+    protected void appendBoolean(StringBuilder out, boolean value) {
+        out.append(value ? '1' : '0');
+    }
+}
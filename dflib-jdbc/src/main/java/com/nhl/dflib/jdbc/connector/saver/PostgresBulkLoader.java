@@ -0,0 +1,82 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Bulk loader based on PostgreSQL "COPY FROM STDIN" statement, executed via the driver CopyManager. The driver API is
+ * invoked reflectively, so that DFLib doesn't need to depend on PostgreSQL driver.
+ *
+ * @since 0.8
+ */
+class PostgresBulkLoader extends BulkLoader {
+
+    private static final String BASE_CONNECTION_CLASS = "org.postgresql.core.BaseConnection";
+    private static final String COPY_MANAGER_CLASS = "org.postgresql.copy.CopyManager";
+
+    PostgresBulkLoader(JdbcConnector connector) {
+        super(connector);
+    }
+
+    @Override
+    boolean canLoad(Connection connection, DbColumnMetadata[] columns) {
+        try {
+            connection.unwrap(loadClass(connection, BASE_CONNECTION_CLASS));
+            loadClass(connection, COPY_MANAGER_CLASS);
+            return true;
+        } catch (ClassNotFoundException | SQLException e) {
+            return false;
+        }
+    }
+
+    @Override
+    long load(Connection connection, TableFQName table, DataFrame df, DbColumnMetadata[] columns) throws SQLException {
+
+        String sql = "COPY " + connector.quoteTableName(table)
+                + " (" + quotedColumnList(columns) + ") FROM STDIN WITH (FORMAT csv)";
+
+        connector.getSqlLogger().log(sql);
+
+        try {
+            Class<?> baseConnectionType = loadClass(connection, BASE_CONNECTION_CLASS);
+            Class<?> copyManagerType = loadClass(connection, COPY_MANAGER_CLASS);
+
+            Object baseConnection = connection.unwrap(baseConnectionType);
+            Object copyManager = copyManagerType.getConstructor(baseConnectionType).newInstance(baseConnection);
+
+            Object count = copyManagerType
+                    .getMethod("copyIn", String.class, Reader.class)
+                    .invoke(copyManager, sql, rows(df, columns).asReader());
+
+            return ((Number) count).longValue();
+
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+
+            throw new SQLException("Error running COPY: " + cause.getMessage(), cause);
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("PostgreSQL CopyManager is not available", e);
+        }
+    }
+
+    @Override
+    protected void appendBinary(StringBuilder out, byte[] value) {
+        // "bytea" hex format
+        out.append("\\x");
+        appendHex(out, value);
+    }
+
+    private static Class<?> loadClass(Connection connection, String name) throws ClassNotFoundException {
+        return Class.forName(name, false, connection.getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,177 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * Calculates 64-bit hashes of the DataFrame rows over a subset of columns. Processes the data column by column, using
+ * primitive access for the primitive Series. The values are hashed the same way regardless of whether they are stored
+ * in a primitive or an object Series. Numbers, booleans, strings, byte arrays, BigDecimals, BigIntegers and the
+ * standard date and time types are hashed to 64 bits. Other objects fall back to the 32-bit {@link Object#hashCode()}.
+ * <p>Different rows may produce the same hash. For the 64-bit value hashes this is very unlikely, but is possible
+ * nevertheless, and is much more likely for the values hashed via {@link Object#hashCode()}. A collision makes an
+ * incremental save treat a changed row as unchanged and skip it.</p>
+ *
+ * @since 0.8
+ */
+class RowHasher {
+
+    private static final long SEED = 0xCBF29CE484222325L;
+    private static final long PRIME = 0x100000001B3L;
+    private static final long NULL_HASH = 0x9E3779B97F4A7C15L;
+
+    static long[] hash(DataFrame df, String[] columns) {
+
+        long[] hashes = new long[df.height()];
+        Arrays.fill(hashes, SEED);
+
+        for (String c : columns) {
+            hashColumn(df.getColumn(c), hashes);
+        }
+
+        return hashes;
+    }
+
+    private static void hashColumn(Series<?> column, long[] hashes) {
+
+        int h = hashes.length;
+
+        if (column instanceof IntSeries) {
+            IntSeries s = (IntSeries) column;
+            for (int i = 0; i < h; i++) {
+                hashes[i] = combine(hashes[i], s.getInt(i));
+            }
+        } else if (column instanceof LongSeries) {
+            LongSeries s = (LongSeries) column;
+            for (int i = 0; i < h; i++) {
+                hashes[i] = combine(hashes[i], s.getLong(i));
+            }
+        } else if (column instanceof DoubleSeries) {
+            DoubleSeries s = (DoubleSeries) column;
+            for (int i = 0; i < h; i++) {
+                hashes[i] = combine(hashes[i], Double.doubleToLongBits(s.getDouble(i)));
+            }
+        } else if (column instanceof BooleanSeries) {
+            BooleanSeries s = (BooleanSeries) column;
+            for (int i = 0; i < h; i++) {
+                hashes[i] = combine(hashes[i], s.getBoolean(i) ? 1231L : 1237L);
+            }
+        } else {
+            for (int i = 0; i < h; i++) {
+                hashes[i] = combine(hashes[i], valueHash(column.get(i)));
+            }
+        }
+    }
+
+    private static long valueHash(Object value) {
+
+        if (value == null) {
+            return NULL_HASH;
+        }
+
+        // must match the hashes of the primitive Series
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+
+        if (value instanceof Double) {
+            return Double.doubleToLongBits((Double) value);
+        }
+
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1231L : 1237L;
+        }
+
+        // 32-bit String.hashCode() is too weak for millions of rows
+        if (value instanceof String) {
+            String s = (String) value;
+            long h = SEED;
+            for (int i = 0; i < s.length(); i++) {
+                h = (h ^ s.charAt(i)) * PRIME;
+            }
+            return h;
+        }
+
+        if (value instanceof byte[]) {
+            return bytesHash((byte[]) value);
+        }
+
+        // numerically equal decimals (e.g. "1.0" and "1.00") produce the same hash
+        if (value instanceof BigDecimal) {
+            BigDecimal d = ((BigDecimal) value).stripTrailingZeros();
+            return combine(bytesHash(d.unscaledValue().toByteArray()), d.scale());
+        }
+
+        if (value instanceof BigInteger) {
+            return bytesHash(((BigInteger) value).toByteArray());
+        }
+
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).toEpochDay();
+        }
+
+        if (value instanceof LocalDateTime) {
+            LocalDateTime dt = (LocalDateTime) value;
+            return combine(dt.toLocalDate().toEpochDay(), dt.toLocalTime().toNanoOfDay());
+        }
+
+        if (value instanceof LocalTime) {
+            return ((LocalTime) value).toNanoOfDay();
+        }
+
+        if (value instanceof Instant) {
+            Instant i = (Instant) value;
+            return combine(i.getEpochSecond(), i.getNano());
+        }
+
+        // must go before java.util.Date, as the millis of a Timestamp do not include the nanos
+        if (value instanceof Timestamp) {
+            Timestamp t = (Timestamp) value;
+            return combine(Math.floorDiv(t.getTime(), 1000L), t.getNanos());
+        }
+
+        // also covers java.sql.Date and java.sql.Time
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+
+        return value.hashCode();
+    }
+
+    private static long bytesHash(byte[] bytes) {
+        long h = SEED;
+        for (byte b : bytes) {
+            h = (h ^ (b & 0xFF)) * PRIME;
+        }
+        return h;
+    }
+
+    private static long combine(long hash, long value) {
+        // both "mix" and the multiplication are bijective, so the result is different for different values
+        return (hash ^ mix(value)) * PRIME;
+    }
+
+    // a "finalizer" step of MurmurHash3
+    private static long mix(long v) {
+        v ^= v >>> 33;
+        v *= 0xFF51AFD7ED558CCDL;
+        v ^= v >>> 33;
+        v *= 0xC4CEB9FE1A85EC53L;
+        v ^= v >>> 33;
+        return v;
+    }
+}
@@ -0,0 +1,84 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.jdbc.SaveOp;
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.jdbc.connector.tx.TxJdbcConnector;
+import com.nhl.dflib.series.EmptySeries;
+import com.nhl.dflib.series.SingleValueSeries;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * A save strategy that inserts DataFrame rows using the DB "native" bulk loading facility (e.g. "COPY" for PostgreSQL
+ * or "LOAD DATA" for MySQL), selected based on the DB flavor. Falls back to the JDBC batch insert if the DB doesn't
+ * support bulk loading, or the bulk loader can't be used in the current environment (e.g. it is disabled in the DB
+ * configuration, or it would end the current transaction on its own).
+ *
+ * @since 0.8
+ */
+public class SaveViaBulkLoad extends SaveViaInsert {
+
+    private boolean deleteTableData;
+
+    public SaveViaBulkLoad(JdbcConnector connector, TableFQName tableName, boolean deleteTableData) {
+        super(connector, tableName);
+        this.deleteTableData = deleteTableData;
+    }
+
+    @Override
+    protected boolean supportsParallelSave() {
+        // DELETE must be in the same transaction with the load
+        return !deleteTableData;
+    }
+
+    @Override
+    protected boolean shouldSave(DataFrame df) {
+        return deleteTableData || super.shouldSave(df);
+    }
+
+    @Override
+    protected Supplier<Series<SaveOp>> doSave(Connection connection, DataFrame df) {
+
+        if (deleteTableData) {
+            createStatementBuilder("delete from " + connector.quoteTableName(tableName)).update(connection);
+        }
+
+        if (df.height() == 0) {
+            log("Empty DataFrame. Skipping insert.");
+            return () -> new EmptySeries<>();
+        }
+
+        BulkLoader loader = BulkLoader.forFlavor(connector.getMetadata().getFlavor(), connector);
+        DbColumnMetadata[] columns = fixedParams(df.getColumnsIndex());
+
+        // a loader that ends the transaction on its own would commit the DELETE above or the outer transaction work
+        if (loader != null && loader.commitsTransaction() && (deleteTableData || connector instanceof TxJdbcConnector)) {
+            log("Bulk load can't be a part of a transaction. Falling back to batch insert.");
+            return super.doSave(connection, df);
+        }
+
+        try {
+            if (loader != null && loader.canLoad(connection, columns)) {
+                long loaded = loader.load(connection, tableName, df, columns);
+                log("Bulk-loaded {} rows", loaded);
+                return () -> new SingleValueSeries<>(SaveOp.insert, df.height());
+            }
+        } catch (SQLException e) {
+
+            if (!loader.isDisabled(e)) {
+                throw new RuntimeException("Error bulk loading data in DB: " + e.getMessage(), e);
+            }
+
+            log("Bulk load is disabled: {}", e.getMessage());
+        }
+
+        log("Bulk load is not available. Falling back to batch insert.");
+        return super.doSave(connection, df);
+    }
+}
@@ -0,0 +1,315 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.jdbc.SaveOp;
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import com.nhl.dflib.jdbc.connector.metadata.DbFlavor;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.series.builder.ObjectAccumulator;
+
+import java.sql.Connection;
+import java.util.function.Supplier;
+
+/**
+ * An "upsert" strategy that sends all DataFrame rows to the DB once, letting the DB reconcile them with the existing
+ * data via a single DB-specific statement: "INSERT ... ON CONFLICT" for PostgreSQL, "INSERT ... ON DUPLICATE KEY
+ * UPDATE" for MySQL and MariaDB, and "MERGE" for SQLServer and Derby. For other DBs falls back to the in-memory merge of
+ * {@link SaveViaUpsert}.
+ * <p>Per-row save stats are derived from the driver update counts. Where the DB doesn't distinguish between inserts and
+ * updates, the rows are reported as {@link SaveOp#merge}. PostgreSQL and MySQL require a unique constraint or a PK
+ * over the key columns.</p>
+ *
+ * @since 0.8
+ */
+public class SaveViaDbMerge extends SaveViaUpsert {
+
+    private static final String SOURCE_ALIAS = "s";
+    private static final String TARGET_ALIAS = "t";
+
+    public SaveViaDbMerge(JdbcConnector connector, TableFQName tableName, String[] keyColumns) {
+        super(connector, tableName, keyColumns);
+    }
+
+    @Override
+    protected Supplier<Series<SaveOp>> doSave(Connection connection, DataFrame df) {
+
+        DbFlavor flavor = connector.getMetadata().getFlavor();
+        if (!supportsDbMerge(flavor)) {
+            log("DB-side merge is not supported for {}. Falling back to in-memory merge.", flavor);
+            return super.doSave(connection, df);
+        }
+
+        Index columns = df.getColumnsIndex();
+        String[] valueColumns = columns.dropLabels(keyColumns).getLabels();
+
+        DataFrame params;
+        DbColumnMetadata[] paramDescriptors;
+
+        if (flavor == DbFlavor.DERBY) {
+
+            // Derby MERGE can't use VALUES as a source, so the row parameters are bound in multiple places of the
+            // statement: keys in the join condition, values in UPDATE, and all columns in INSERT
+            Index keysAndValues = Index.forLabels(keyColumns).addLabels(valueColumns);
+            params = df.selectColumns(keysAndValues).hConcat(df.renameColumns(prefixed(columns.getLabels())));
+            paramDescriptors = concat(fixedParams(keysAndValues), fixedParams(columns));
+        } else {
+            params = df;
+            paramDescriptors = fixedParams(columns);
+        }
+
+        int[] counts = createStatementBuilder(createMergeStatement(flavor, columns.getLabels(), valueColumns))
+
+                // use param descriptors from metadata, as (1) we can and (b) some DBs don't support real
+                // metadata in PreparedStatements. See e.g. https://github.com/nhl/dflib/issues/49
+
+                .paramDescriptors(paramDescriptors)
+                .bindBatch(params)
+                .update(connection);
+
+        return () -> toSaveOps(flavor, counts);
+    }
+
+    protected boolean supportsDbMerge(DbFlavor flavor) {
+        switch (flavor) {
+            case POSTGRES:
+            case MYSQL:
+            case MARIA_DB:
+            case SQLSERVER:
+            case DERBY:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    protected String createMergeStatement(DbFlavor flavor, String[] columns, String[] valueColumns) {
+        switch (flavor) {
+            case POSTGRES:
+                return createOnConflictStatement(columns, valueColumns);
+            case MYSQL:
+            case MARIA_DB:
+                return createOnDuplicateKeyStatement(columns, valueColumns);
+            case SQLSERVER:
+                return createMergeFromValuesStatement(columns, valueColumns);
+            case DERBY:
+                return createDerbyMergeStatement(columns, valueColumns);
+            default:
+                throw new IllegalStateException("DB-side merge is not supported for " + flavor);
+        }
+    }
+
+    // PostgreSQL
+    protected String createOnConflictStatement(String[] columns, String[] valueColumns) {
+
+        StringBuilder sql = new StringBuilder(createInsertStatement(columns))
+                .append(" on conflict (");
+        appendColumns(sql, null, keyColumns);
+        sql.append(") do ");
+
+        if (valueColumns.length == 0) {
+            return sql.append("nothing").toString();
+        }
+
+        sql.append("update set ");
+        appendAssignments(sql, valueColumns, "excluded");
+
+        // skip unchanged rows, so that their update count is 0
+        sql.append(" where (");
+        appendColumns(sql, connector.quoteTableName(tableName), valueColumns);
+        sql.append(") is distinct from (");
+        appendColumns(sql, "excluded", valueColumns);
+        sql.append(")");
+
+        return sql.toString();
+    }
+
+    // MySQL, MariaDB
+    protected String createOnDuplicateKeyStatement(String[] columns, String[] valueColumns) {
+
+        StringBuilder sql = new StringBuilder(createInsertStatement(columns))
+                .append(" on duplicate key update ");
+
+        // with no value columns, a no-op key assignment turns the duplicates into skips
+        String[] updateColumns = valueColumns.length > 0 ? valueColumns : new String[]{keyColumns[0]};
+        for (int i = 0; i < updateColumns.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            String column = connector.quoteIdentifier(updateColumns[i]);
+            sql.append(column).append(" = values(").append(column).append(")");
+        }
+
+        return sql.toString();
+    }
+
+    // SQLServer
+    protected String createMergeFromValuesStatement(String[] columns, String[] valueColumns) {
+
+        StringBuilder sql = new StringBuilder("merge into ")
+                .append(connector.quoteTableName(tableName))
+                .append(" as ").append(TARGET_ALIAS)
+                .append(" using (values (");
+        appendPlaceholders(sql, columns.length);
+        sql.append(")) as ").append(SOURCE_ALIAS).append(" (");
+        appendColumns(sql, null, columns);
+        sql.append(") on ");
+        appendKeyJoin(sql, SOURCE_ALIAS);
+
+        if (valueColumns.length > 0) {
+
+            // null-safe change check, so that unchanged rows are skipped
+            sql.append(" when matched and exists (select ");
+            appendColumns(sql, SOURCE_ALIAS, valueColumns);
+            sql.append(" except select ");
+            appendColumns(sql, TARGET_ALIAS, valueColumns);
+            sql.append(") then update set ");
+            appendAssignments(sql, valueColumns, SOURCE_ALIAS);
+        }
+
+        sql.append(" when not matched then insert (");
+        appendColumns(sql, null, columns);
+        sql.append(") values (");
+        appendColumns(sql, SOURCE_ALIAS, columns);
+
+        // SQLServer requires MERGE to be terminated with a semicolon
+        return sql.append(");").toString();
+    }
+
+    // Derby
+    protected String createDerbyMergeStatement(String[] columns, String[] valueColumns) {
+
+        StringBuilder sql = new StringBuilder("merge into ")
+                .append(connector.quoteTableName(tableName))
+                .append(" ").append(TARGET_ALIAS)
+                .append(" using SYSIBM.SYSDUMMY1 on ");
+        appendKeyJoin(sql, null);
+
+        if (valueColumns.length > 0) {
+            sql.append(" when matched then update set ");
+            appendAssignments(sql, valueColumns, null);
+        }
+
+        sql.append(" when not matched then insert (");
+        appendColumns(sql, null, columns);
+        sql.append(") values (");
+        appendPlaceholders(sql, columns.length);
+        return sql.append(")").toString();
+    }
+
+    /**
+     * Converts driver update counts to per-row save operations.
+     */
+    protected Series<SaveOp> toSaveOps(DbFlavor flavor, int[] counts) {
+
+        ObjectAccumulator<SaveOp> ops = new ObjectAccumulator<>(counts.length);
+        for (int c : counts) {
+            ops.add(toSaveOp(flavor, c));
+        }
+
+        return ops.toSeries();
+    }
+
+    protected SaveOp toSaveOp(DbFlavor flavor, int count) {
+
+        if (count == 0) {
+            return SaveOp.skip;
+        }
+
+        switch (flavor) {
+            case MYSQL:
+            case MARIA_DB:
+                // per MySQL docs, "2" is an update of an existing row, while "1" is an insert, or (with the
+                // CLIENT_FOUND_ROWS flag set by default by Connector/J) an existing row that didn't change
+                return count == 2 ? SaveOp.update : SaveOp.merge;
+            default:
+                return SaveOp.merge;
+        }
+    }
+
+    protected String createInsertStatement(String[] columns) {
+        StringBuilder sql = new StringBuilder("insert into ")
+                .append(connector.quoteTableName(tableName))
+                .append(" (");
+        appendColumns(sql, null, columns);
+        sql.append(") values (");
+        appendPlaceholders(sql, columns.length);
+        return sql.append(")").toString();
+    }
+
+    private void appendKeyJoin(StringBuilder sql, String sourceAlias) {
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (i > 0) {
+                sql.append(" and ");
+            }
+
+            String column = connector.quoteIdentifier(keyColumns[i]);
+            sql.append(TARGET_ALIAS).append(".").append(column).append(" = ");
+            if (sourceAlias != null) {
+                sql.append(sourceAlias).append(".").append(column);
+            } else {
+                sql.append("?");
+            }
+        }
+    }
+
+    private void appendAssignments(StringBuilder sql, String[] columns, String sourceAlias) {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            String column = connector.quoteIdentifier(columns[i]);
+            sql.append(column).append(" = ");
+            if (sourceAlias != null) {
+                sql.append(sourceAlias).append(".").append(column);
+            } else {
+                sql.append("?");
+            }
+        }
+    }
+
+    private void appendColumns(StringBuilder sql, String alias, String[] columns) {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            if (alias != null) {
+                sql.append(alias).append(".");
+            }
+
+            sql.append(connector.quoteIdentifier(columns[i]));
+        }
+    }
+
+    private static void appendPlaceholders(StringBuilder sql, int count) {
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append("?");
+        }
+    }
+
+    // used to make the labels of the repeated columns unique
+    private static String[] prefixed(String[] labels) {
+        String[] prefixed = new String[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            prefixed[i] = "dflib_ins_" + labels[i];
+        }
+
+        return prefixed;
+    }
+
+    private static DbColumnMetadata[] concat(DbColumnMetadata[] a1, DbColumnMetadata[] a2) {
+        DbColumnMetadata[] result = new DbColumnMetadata[a1.length + a2.length];
+        System.arraycopy(a1, 0, result, 0, a1.length);
+        System.arraycopy(a2, 0, result, a1.length, a2.length);
+        return result;
+    }
+}
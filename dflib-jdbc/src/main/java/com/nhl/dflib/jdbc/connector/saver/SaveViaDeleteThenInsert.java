@@ -19,6 +19,15 @@ public class SaveViaDeleteThenInsert extends SaveViaInsert {
         super(connector, tableName);
     }
 
+    /**
+     * @since 0.8
+     */
+    @Override
+    protected boolean supportsParallelSave() {
+        // DELETE must be in the same transaction with INSERTs
+        return false;
+    }
+
     @Override
     protected boolean shouldSave(DataFrame df) {
         return true;
@@ -26,7 +35,7 @@ public class SaveViaDeleteThenInsert extends SaveViaInsert {
 
     @Override
     protected Supplier<Series<SaveOp>> doSave(Connection connection, DataFrame df) {
-        connector.createStatementBuilder(createDeleteStatement()).update(connection);
+        createStatementBuilder(createDeleteStatement()).update(connection);
 
         if (df.height() > 0) {
             return super.doSave(connection, df);
@@ -0,0 +1,261 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Index;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.jdbc.SaveOp;
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.TableLoader;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.join.JoinIndicator;
+import com.nhl.dflib.series.LongArraySeries;
+import com.nhl.dflib.series.builder.IntAccumulator;
+import com.nhl.dflib.series.builder.ObjectAccumulator;
+
+import java.sql.Connection;
+import java.util.function.Supplier;
+
+/**
+ * A "merge" strategy that only sends to the DB the rows that changed since the previous save. Compares a 64-bit hash of
+ * each row contents with the hash of the same key saved previously. The previous hashes are either kept in memory in
+ * a {@link SyncState}, or stored in a table column along with the data. In the former case the unchanged rows are
+ * skipped without any DB reads, in the latter - only the key and the hash columns of the table are read. The changed
+ * rows are then saved via a regular "upsert". Optionally deletes the table rows whose keys are not present in the
+ * DataFrame. The rows to delete are determined by the key values matched by the DB, never by the hashes.
+ * <p>Equal hashes are treated as equal rows. With 64-bit hashes a collision is very unlikely, but not impossible. If
+ * two different row contents of the same key produce the same hash, the change is not saved. If two different keys
+ * produce the same hash, they share a single entry in the previous hashes, so a change of one of them may be skipped
+ * as well. See {@link RowHasher} for details.</p>
+ *
+ * @since 0.8
+ */
+public class SaveViaIncrementalSync extends SaveViaUpsert {
+
+    // used as a column for join indicator. Semi-random to avoid conflicts with real column names
+    private static final String INDICATOR_COLUMN = "dflib_sync_ind_%$#86AcD3";
+
+    private SyncState state;
+    private String hashColumn;
+    private boolean deleteMissing;
+
+    // hashes to store in the state after the transaction is committed
+    private long[] savedKeyHashes;
+    private long[] savedRowHashes;
+
+    /**
+     * Creates a strategy that keeps the row hashes in memory in the provided state object.
+     */
+    public SaveViaIncrementalSync(JdbcConnector connector, TableFQName tableName, String[] keyColumns, SyncState state) {
+        super(connector, tableName, keyColumns);
+        this.state = state;
+    }
+
+    /**
+     * Creates a strategy that saves the row hashes in the provided table column. The column must be a BIGINT (or
+     * compatible) and is populated by the strategy, overriding the DataFrame column with the same name, if any.
+     */
+    public SaveViaIncrementalSync(JdbcConnector connector, TableFQName tableName, String[] keyColumns, String hashColumn) {
+        super(connector, tableName, keyColumns);
+        this.hashColumn = hashColumn;
+
+        // rows sent to "upsert" are those with changed hashes, so there's no need to compare other columns to
+        // detect the changes
+        this.rowHashColumn = hashColumn;
+    }
+
+    /**
+     * Configures the strategy to delete the table rows whose keys are not present in the DataFrame.
+     */
+    public SaveViaIncrementalSync deleteMissing(boolean deleteMissing) {
+        this.deleteMissing = deleteMissing;
+        return this;
+    }
+
+    @Override
+    public Supplier<Series<SaveOp>> save(DataFrame df) {
+        Supplier<Series<SaveOp>> info = super.save(df);
+
+        // only update the state after the changes are committed, so that a failed save is fully repeated next time
+        if (state != null && savedKeyHashes != null) {
+            state.update(savedKeyHashes, savedRowHashes, deleteMissing);
+        }
+
+        return info;
+    }
+
+    @Override
+    protected boolean shouldSave(DataFrame df) {
+        // with "deleteMissing" an empty DataFrame deletes all table rows
+        return deleteMissing || super.shouldSave(df);
+    }
+
+    @Override
+    protected Supplier<Series<SaveOp>> doSave(Connection connection, DataFrame df) {
+
+        int h = df.height();
+        String[] valueColumns = df.getColumnsIndex().dropLabels(keyColumns).dropLabels(syncHashColumns()).getLabels();
+
+        long[] keyHashes = RowHasher.hash(df, keyColumns);
+        long[] rowHashes = RowHasher.hash(df, valueColumns);
+
+        DataFrame toSave = hashColumn != null
+                ? df.dropColumns(hashColumn).addColumn(hashColumn, new LongArraySeries(rowHashes))
+                : df;
+
+        DataFrame dbKeys = hashColumn != null || deleteMissing ? loadDbKeys() : null;
+
+        // find the rows to delete before the "upsert" changes the table
+        DataFrame missingKeys = deleteMissing ? missingKeys(dbKeys, df) : null;
+
+        boolean[] unchanged = hashColumn != null
+                ? unchangedRows(dbKeys, keyHashes, rowHashes)
+                : state.unchangedRows(keyHashes, rowHashes);
+
+        IntAccumulator changed = new IntAccumulator();
+        for (int i = 0; i < h; i++) {
+            if (!unchanged[i]) {
+                changed.add(i);
+            }
+        }
+
+        IntSeries changedIndex = changed.toIntSeries();
+        int changedCount = changedIndex.size();
+        log("Rows changed since the last save: {} of {}", changedCount, h);
+
+        this.savedKeyHashes = keyHashes;
+        this.savedRowHashes = rowHashes;
+
+        Supplier<Series<SaveOp>> changedInfo = changedCount > 0
+                ? super.doSave(connection, toSave.selectRows(changedIndex))
+                : null;
+
+        // delete after the "upsert", as the latter reads the matching rows over a separate connection, and would be
+        // blocked by the delete locks on some DBs
+        if (deleteMissing) {
+            delete(connection, missingKeys);
+        }
+
+        return () -> mergeInfo(unchanged, changedInfo);
+    }
+
+    private String[] syncHashColumns() {
+        return hashColumn != null ? new String[]{hashColumn} : new String[0];
+    }
+
+    private DataFrame loadDbKeys() {
+
+        Index columns = Index.forLabels(keyColumns).addLabels(syncHashColumns());
+        return new TableLoader(connector, tableName)
+                .includeColumns(columns.getLabels())
+                .load();
+    }
+
+    private boolean[] unchangedRows(DataFrame dbKeys, long[] keyHashes, long[] rowHashes) {
+
+        long[] dbKeyHashes = RowHasher.hash(dbKeys, keyColumns);
+        Series<?> dbRowHashes = dbKeys.getColumn(hashColumn);
+
+        int dbh = dbKeyHashes.length;
+        LongLongHashMap previous = new LongLongHashMap(dbh);
+
+        if (dbRowHashes instanceof LongSeries) {
+            LongSeries ls = (LongSeries) dbRowHashes;
+            for (int i = 0; i < dbh; i++) {
+                previous.put(dbKeyHashes[i], ls.getLong(i));
+            }
+        } else {
+            for (int i = 0; i < dbh; i++) {
+
+                // rows with NULL hashes (e.g. those saved by other means) are always treated as changed
+                Number hash = (Number) dbRowHashes.get(i);
+                if (hash != null) {
+                    previous.put(dbKeyHashes[i], hash.longValue());
+                }
+            }
+        }
+
+        int h = keyHashes.length;
+        boolean[] unchanged = new boolean[h];
+        for (int i = 0; i < h; i++) {
+            unchanged[i] = previous.containsEntry(keyHashes[i], rowHashes[i]);
+        }
+
+        return unchanged;
+    }
+
+    /**
+     * Returns the keys of the table rows that are not present in the DataFrame. The DataFrame keys are matched by the
+     * DB (the same way the "upsert" matches them), and the result is compared with the table keys loaded from the same
+     * columns, so the comparison doesn't depend on the Java types of the DataFrame keys.
+     */
+    private DataFrame missingKeys(DataFrame dbKeys, DataFrame df) {
+
+        Index keyIndex = Index.forLabels(keyColumns);
+        DataFrame allKeys = dbKeys.selectColumns(keyIndex);
+        if (allKeys.height() == 0) {
+            return allKeys;
+        }
+
+        DataFrame matchedKeys = new TableLoader(connector, tableName)
+                .includeColumns(keyColumns)
+                .eq(df.selectColumns(keyIndex))
+                .load();
+
+        DataFrame joined = allKeys.leftJoin()
+                .on(keyHasher())
+                .indicatorColumn(INDICATOR_COLUMN)
+                .with(matchedKeys);
+
+        Series<JoinIndicator> index = joined.getColumn(INDICATOR_COLUMN);
+        IntSeries missingIndex = index.index(i -> i == JoinIndicator.left_only);
+
+        return joined
+                .selectRows(missingIndex)
+                .selectColumns(joined.getColumnsIndex().rangeOpenClosed(0, keyColumns.length))
+                .renameColumns(keyColumns);
+    }
+
+    private void delete(Connection connection, DataFrame keys) {
+
+        log("Rows missing from the DataFrame: {}", keys.height());
+        if (keys.height() == 0) {
+            return;
+        }
+
+        Index keyIndex = Index.forLabels(keyColumns);
+        createStatementBuilder(createDeleteStatement(keyColumns))
+                .paramDescriptors(fixedParams(keyIndex))
+                .bindBatch(keys)
+                .update(connection);
+    }
+
+    private Series<SaveOp> mergeInfo(boolean[] unchanged, Supplier<Series<SaveOp>> changedInfo) {
+
+        Series<SaveOp> changedOps = changedInfo != null ? changedInfo.get() : null;
+
+        int h = unchanged.length;
+        ObjectAccumulator<SaveOp> accum = new ObjectAccumulator<>(h);
+        for (int i = 0, j = 0; i < h; i++) {
+            accum.add(unchanged[i] ? SaveOp.skip : changedOps.get(j++));
+        }
+
+        return accum.toSeries();
+    }
+
+    protected String createDeleteStatement(String[] conditionColumns) {
+
+        StringBuilder sql = new StringBuilder("delete from ")
+                .append(connector.quoteTableName(tableName))
+                .append(" where ")
+                .append(connector.quoteIdentifier(conditionColumns[0]))
+                .append(" = ?");
+
+        for (int i = 1; i < conditionColumns.length; i++) {
+            sql.append(" and ").append(connector.quoteIdentifier(conditionColumns[i])).append(" = ?");
+        }
+
+        return sql.toString();
+    }
+}
@@ -24,7 +24,7 @@ public class SaveViaInsert extends TableSaveStrategy {
 
     @Override
     protected Supplier<Series<SaveOp>> doSave(Connection connection, DataFrame df) {
-        connector.createStatementBuilder(createInsertStatement(df))
+        createStatementBuilder(createInsertStatement(df))
 
                 // use param descriptors from metadata, as (1) we can and (b) some DBs don't support real
                 // metadata in PreparedStatements. See e.g. https://github.com/nhl/dflib/issues/49
@@ -36,6 +36,15 @@ public class SaveViaInsert extends TableSaveStrategy {
         return () -> new SingleValueSeries<>(SaveOp.insert, df.height());
     }
 
+    /**
+     * @since 0.8
+     */
+    @Override
+    protected boolean supportsParallelSave() {
+        // plain inserts of disjoint row ranges are independent of each other
+        return true;
+    }
+
     @Override
     protected boolean shouldSave(DataFrame df) {
         if (df.height() == 0) {
@@ -1,7 +1,6 @@
 package com.nhl.dflib.jdbc.connector.saver;
 
 import com.nhl.dflib.DataFrame;
-import com.nhl.dflib.GroupBy;
 import com.nhl.dflib.Hasher;
 import com.nhl.dflib.Index;
 import com.nhl.dflib.IntSeries;
@@ -10,13 +9,16 @@ import com.nhl.dflib.jdbc.SaveOp;
 import com.nhl.dflib.jdbc.connector.JdbcConnector;
 import com.nhl.dflib.jdbc.connector.TableLoader;
 import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.jdbc.connector.tx.TxConnectionWrapper;
+import com.nhl.dflib.jdbc.connector.tx.TxJdbcConnector;
 import com.nhl.dflib.join.JoinIndicator;
-import com.nhl.dflib.row.RowProxy;
+import com.nhl.dflib.series.IntSequenceSeries;
 import com.nhl.dflib.series.SingleValueSeries;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.BitSet;
+import java.util.List;
 import java.util.function.Supplier;
 
 /**
@@ -26,22 +28,114 @@ public class SaveViaUpsert extends SaveViaInsert {
 
     // used as a column for join indicator. Semi-random to avoid conflicts with real column names
     private static final String INDICATOR_COLUMN = "dflib_ind_%$#86AcD3";
-    private static final String DIFF_COLUMN = "dflib_dif_%4$#96Ac3";
 
+    // used as a column for the original row positions when sorting the DataFrame by key
+    private static final String ROW_NUMBER_COLUMN = "dflib_row_%$#86AcD3";
 
-    private String[] keyColumns;
+    protected String[] keyColumns;
+    protected String rowHashColumn;
+    protected int chunkSize;
 
     public SaveViaUpsert(JdbcConnector connector, TableFQName tableName, String[] keyColumns) {
         super(connector, tableName);
         this.keyColumns = keyColumns;
     }
 
+    /**
+     * Sets a column containing a hash of the row data. Rows with the same hash in the DataFrame and in the DB are
+     * treated as unchanged, without comparing the values of the other columns.
+     *
+     * @since 0.8
+     */
+    public SaveViaUpsert rowHashColumn(String rowHashColumn) {
+        this.rowHashColumn = rowHashColumn;
+        return this;
+    }
+
+    /**
+     * Sets the max number of rows to "merge" at once. Bigger DataFrames are sorted by key and processed in chunks, each
+     * one loaded from the DB, compared and saved independently within the same transaction. Zero (the default) means
+     * the entire DataFrame is processed at once.
+     *
+     * @since 0.8
+     */
+    public SaveViaUpsert chunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * @since 0.8
+     */
+    @Override
+    protected boolean supportsParallelSave() {
+        return false;
+    }
+
     @Override
     protected Supplier<Series<SaveOp>> doSave(Connection connection, DataFrame df) {
+        return chunkSize > 0 && df.height() > chunkSize
+                ? doSaveInChunks(connection, df)
+                : doSaveChunk(connection, df, connector);
+    }
+
+    /**
+     * Saves the DataFrame sorted by key in chunks of up to "chunkSize" rows. The memory used by the "merge" is
+     * proportional to the chunk size instead of the DataFrame size.
+     *
+     * @since 0.8
+     */
+    protected Supplier<Series<SaveOp>> doSaveInChunks(Connection connection, DataFrame df) {
+
+        int h = df.height();
+
+        boolean[] ascending = new boolean[keyColumns.length];
+        Arrays.fill(ascending, true);
+
+        DataFrame sorted = df
+                .addColumn(ROW_NUMBER_COLUMN, new IntSequenceSeries(0, h))
+                .sort(keyColumns, ascending);
+
+        IntSeries rowNumbers = sorted.getColumnAsInt(ROW_NUMBER_COLUMN);
+        DataFrame sortedData = sorted.dropColumns(ROW_NUMBER_COLUMN);
+
+        // read the chunks within the save transaction. Otherwise on the DBs with locking reads, reading the rows of a
+        // chunk may get blocked by the writes of the previous chunks
+        JdbcConnector txConnector = new TxJdbcConnector(connector, new TxConnectionWrapper(connection));
+
+        List<Supplier<Series<SaveOp>>> infos = new ArrayList<>(h / chunkSize + 1);
+        for (int i = 0; i < h; i += chunkSize) {
+            DataFrame chunk = sortedData.selectRows(new IntSequenceSeries(i, Math.min(i + chunkSize, h)));
+            infos.add(doSaveChunk(connection, chunk, txConnector));
+        }
+
+        return () -> unsortInfo(infos, rowNumbers);
+    }
+
+    private static Series<SaveOp> unsortInfo(List<Supplier<Series<SaveOp>>> infos, IntSeries rowNumbers) {
+
+        SaveOp[] ops = new SaveOp[rowNumbers.size()];
+
+        int pos = 0;
+        for (Supplier<Series<SaveOp>> info : infos) {
+            Series<SaveOp> chunkOps = info.get();
+            int len = chunkOps.size();
+            for (int i = 0; i < len; i++) {
+                ops[rowNumbers.getInt(pos++)] = chunkOps.get(i);
+            }
+        }
+
+        return Series.forData(ops);
+    }
+
+    /**
+     * @since 0.8
+     */
+    protected Supplier<Series<SaveOp>> doSaveChunk(Connection connection, DataFrame df, JdbcConnector loadConnector) {
 
         DataFrame keyDf = df.selectColumns(Index.forLabels(keyColumns));
 
-        DataFrame previouslySaved = new TableLoader(connector, tableName)
+        DataFrame previouslySaved = new TableLoader(loadConnector, tableName)
                 .includeColumns(df.getColumnsIndex().getLabels())
                 .eq(keyDf)
                 .load();
@@ -74,7 +168,7 @@ public class SaveViaUpsert extends SaveViaInsert {
             throw new IllegalStateException();
         }
 
-        UpsertInfoTracker infoTracker = new UpsertInfoTracker(df.width(), df.height());
+        UpsertInfoTracker infoTracker = new UpsertInfoTracker(df.height());
         infoTracker.insertAndUpdate(index);
 
         if (insertIndex.size() > 0) {
@@ -105,70 +199,36 @@ public class SaveViaUpsert extends SaveViaInsert {
 
     protected void update(Connection connection, DataFrame toSave, DataFrame previouslySaved, UpsertInfoTracker infoTracker) {
 
-        int w = toSave.width();
-        if (w == keyColumns.length) {
+        String[] valueColumns = toSave.getColumnsIndex().dropLabels(keyColumns).getLabels();
+        if (valueColumns.length == 0) {
             log("All DataFrame columns are key columns. Skipping update.");
             return;
         }
 
-        // partition data to save by updated value positions (using a BitSet), then skip unchanged rows, and generate
-        // a batch UPDATE for each parameter pattern
-
-        // TODO: speed up equality test by excluding "keyColumns" from both sides
-
-        // note that "toSave" and "previouslySaved" must be ordered by key for "eq" to be meaningful
-        DataFrame eqMatrix = toSave.eq(previouslySaved);
-        DataFrame toSaveClassified = toSave
-                .addColumn(DIFF_COLUMN, eqMatrix.mapColumn(this::booleansAsBitSet));
-
-        infoTracker.updatesCardinality(toSaveClassified.getColumn(DIFF_COLUMN));
+        // partition data to save by the pattern of changed non-key columns, then skip unchanged rows, and generate
+        // a batch UPDATE for each pattern
 
-        GroupBy byUpdatePattern = toSaveClassified.group(DIFF_COLUMN);
-        for (Object o : byUpdatePattern.getGroups()) {
-            BitSet bits = (BitSet) o;
+        // note that "toSave" and "previouslySaved" must be ordered by key for the diff to be meaningful
+        UpsertDiff diff = UpsertDiff.compute(toSave, previouslySaved, valueColumns, rowHashColumn);
+        infoTracker.updatedRows(diff.getChangedRows());
 
-            int cardinality = bits.cardinality();
-
-            // no changes, skip group
-            if (cardinality == w) {
-                continue;
-            }
-
-            DataFrame toUpdate = byUpdatePattern.getGroup(bits);
-            String[] updateColumns = new String[w - cardinality];
-            for (int i = 0, j = 0; i < w; i++) {
-                if (!bits.get(i)) {
-                    updateColumns[j++] = toUpdate.getColumnsIndex().getLabel(i);
-                }
-            }
+        for (UpsertDiff.Group group : diff.getGroups()) {
 
             // reorder columns to start with updated values and end with keys to match PreparedStatement parameter ordering
-            Index valueIndex = Index.forLabels(updateColumns).dropLabels(keyColumns);
+            Index valueIndex = Index.forLabels(group.getColumns());
             Index valueAndKeyIndex = valueIndex.addLabels(keyColumns);
 
-            connector.createStatementBuilder(createUpdateStatement(keyColumns, valueIndex.getLabels()))
+            createStatementBuilder(createUpdateStatement(keyColumns, valueIndex.getLabels()))
 
                     // use param descriptors from metadata, as (1) we can and (b) some DBs don't support real
                     // metadata in PreparedStatements. See e.g. https://github.com/nhl/dflib/issues/49
 
                     .paramDescriptors(fixedParams(valueAndKeyIndex))
-                    .bindBatch(toUpdate.selectColumns(valueAndKeyIndex))
+                    .bindBatch(toSave.selectRows(group.getRows()).selectColumns(valueAndKeyIndex))
                     .update(connection);
         }
     }
 
-    protected BitSet booleansAsBitSet(RowProxy booleanRow) {
-        int w = booleanRow.getIndex().size();
-        BitSet s = new BitSet(w);
-
-        for (int i = 0; i < w; i++) {
-            if ((boolean) booleanRow.get(i)) {
-                s.set(i);
-            }
-        }
-        return s;
-    }
-
     protected Hasher keyHasher() {
         Hasher h = Hasher.forColumn(keyColumns[0]);
         for (int i = 1; i < keyColumns.length; i++) {
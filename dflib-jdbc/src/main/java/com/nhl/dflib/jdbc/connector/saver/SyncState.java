@@ -0,0 +1,68 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+/**
+ * An in-memory record of the rows saved to a single DB table in the "incremental sync" mode of
+ * {@link com.nhl.dflib.jdbc.connector.TableSaver}. Stores a 64-bit hash of the row contents for each 64-bit hash of
+ * the row key in a compact primitive hash map, so that the subsequent saves can skip the unchanged rows without
+ * reading them from the DB. The same state object should be passed to every save of a given table, and should not be
+ * shared between the tables. The state is not persistent, and the first save with a new state object sends all the
+ * rows to the DB.
+ * <p>Since the rows are identified by the key hashes, two keys with colliding hashes share a single entry, and a
+ * change to one of them may be skipped. With 64-bit hashes such collisions are very unlikely, but not impossible.</p>
+ *
+ * @since 0.8
+ */
+public class SyncState {
+
+    private LongLongHashMap rowHashes;
+
+    public SyncState() {
+        this.rowHashes = new LongLongHashMap();
+    }
+
+    /**
+     * Returns the number of rows known to the state.
+     */
+    public synchronized int size() {
+        return rowHashes.size();
+    }
+
+    /**
+     * Forgets all the rows, so that the next save sends all the rows to the DB. Should be called when the table is
+     * modified by other means, or when a transaction that included a sync was rolled back.
+     */
+    public synchronized void clear() {
+        rowHashes.clear();
+    }
+
+    /**
+     * Returns a flag for each row indicating whether the row with the given key hash was saved with the given
+     * contents hash.
+     */
+    synchronized boolean[] unchangedRows(long[] keyHashes, long[] rowHashes) {
+
+        int h = keyHashes.length;
+        boolean[] unchanged = new boolean[h];
+        for (int i = 0; i < h; i++) {
+            unchanged[i] = this.rowHashes.containsEntry(keyHashes[i], rowHashes[i]);
+        }
+
+        return unchanged;
+    }
+
+    /**
+     * Records the hashes of the saved rows. If "replace" is true, the rows not included in the arguments are
+     * forgotten, as they are no longer present in the table.
+     */
+    synchronized void update(long[] keyHashes, long[] rowHashes, boolean replace) {
+
+        if (replace) {
+            this.rowHashes = new LongLongHashMap(keyHashes.length);
+        }
+
+        int h = keyHashes.length;
+        for (int i = 0; i < h; i++) {
+            this.rowHashes.put(keyHashes[i], rowHashes[i]);
+        }
+    }
+}
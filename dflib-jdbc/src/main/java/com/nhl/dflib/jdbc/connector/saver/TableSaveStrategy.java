@@ -4,13 +4,24 @@ import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.jdbc.SaveOp;
 import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.StatementBuilder;
 import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.jdbc.connector.tx.TxJdbcConnector;
+import com.nhl.dflib.series.IntSequenceSeries;
 import com.nhl.dflib.series.SingleValueSeries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 /**
@@ -23,9 +34,50 @@ public abstract class TableSaveStrategy {
     protected JdbcConnector connector;
     protected TableFQName tableName;
 
+    protected int batchSize;
+    protected boolean intermediateCommits;
+    protected int threads;
+
     public TableSaveStrategy(JdbcConnector connector, TableFQName tableName) {
         this.connector = connector;
         this.tableName = tableName;
+        this.threads = 1;
+    }
+
+    /**
+     * Sets the max number of rows sent to the DB in a single JDBC batch. Zero means all rows are sent in one batch.
+     *
+     * @since 0.8
+     */
+    public TableSaveStrategy batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets whether the transaction should be committed after each JDBC batch.
+     *
+     * @since 0.8
+     */
+    public TableSaveStrategy intermediateCommits(boolean intermediateCommits) {
+        this.intermediateCommits = intermediateCommits;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads (and connections) used to save the DataFrame. Only has effect for the strategies that
+     * support parallel saving (see {@link #supportsParallelSave()}), and is ignored inside a transaction, that has a
+     * single connection.
+     *
+     * @since 0.8
+     */
+    public TableSaveStrategy threads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Invalid number of threads: " + threads);
+        }
+
+        this.threads = threads;
+        return this;
     }
 
     public Supplier<Series<SaveOp>> save(DataFrame df) {
@@ -34,6 +86,11 @@ public abstract class TableSaveStrategy {
             return () -> new SingleValueSeries<>(SaveOp.skip, df.height());
         }
 
+        // a transaction has a single connection, that can't be used concurrently, so save sequentially
+        if (threads > 1 && df.height() > 1 && supportsParallelSave() && !(connector instanceof TxJdbcConnector)) {
+            return saveParallel(df);
+        }
+
         try (Connection c = connector.getConnection()) {
             Supplier<Series<SaveOp>> info = doSave(c, df);
             c.commit();
@@ -43,6 +100,93 @@ public abstract class TableSaveStrategy {
         }
     }
 
+    /**
+     * Returns whether disjoint row ranges of a DataFrame can be saved independently of each other, each in its own
+     * transaction.
+     *
+     * @since 0.8
+     */
+    protected boolean supportsParallelSave() {
+        return false;
+    }
+
+    /**
+     * Splits the DataFrame in a number of disjoint row ranges, saving each one on a separate connection and in
+     * a separate transaction.
+     *
+     * @since 0.8
+     */
+    protected Supplier<Series<SaveOp>> saveParallel(DataFrame df) {
+
+        int h = df.height();
+        int parts = Math.min(threads, h);
+        int partSize = h / parts + (h % parts > 0 ? 1 : 0);
+
+        List<Callable<Supplier<Series<SaveOp>>>> tasks = new ArrayList<>(parts);
+        for (int i = 0; i < h; i += partSize) {
+            DataFrame part = df.selectRows(new IntSequenceSeries(i, Math.min(i + partSize, h)));
+            tasks.add(() -> {
+                try (Connection c = connector.getConnection()) {
+                    Supplier<Series<SaveOp>> info = doSave(c, part);
+                    c.commit();
+                    return info;
+                }
+            });
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size(), r -> {
+            Thread t = new Thread(r, "dflib-jdbc-saver-" + counter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<Supplier<Series<SaveOp>>>> futures = executor.invokeAll(tasks);
+            List<Supplier<Series<SaveOp>>> infos = new ArrayList<>(futures.size());
+            for (Future<Supplier<Series<SaveOp>>> f : futures) {
+                infos.add(f.get());
+            }
+
+            return () -> concatInfo(infos);
+
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error storing data in DB: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while storing data in DB", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Series<SaveOp> concatInfo(List<Supplier<Series<SaveOp>>> infos) {
+
+        int len = infos.size();
+        Series<SaveOp> first = infos.get(0).get();
+        if (len == 1) {
+            return first;
+        }
+
+        Series<SaveOp>[] rest = new Series[len - 1];
+        for (int i = 1; i < len; i++) {
+            rest[i - 1] = infos.get(i).get();
+        }
+
+        return first.concat(rest);
+    }
+
+    /**
+     * Creates a statement builder configured with this strategy batching settings.
+     *
+     * @since 0.8
+     */
+    protected StatementBuilder createStatementBuilder(String sql) {
+        return connector.createStatementBuilder(sql)
+                .batchSize(batchSize)
+                .intermediateCommits(intermediateCommits);
+    }
+
     protected abstract boolean shouldSave(DataFrame df);
 
     protected abstract Supplier<Series<SaveOp>> doSave(Connection connection, DataFrame df);
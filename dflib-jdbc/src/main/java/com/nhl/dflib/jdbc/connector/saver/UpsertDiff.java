@@ -0,0 +1,243 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.series.builder.IntAccumulator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Calculates the differences between the new and the previously saved versions of the same rows, grouping the changed
+ * rows by the pattern of the changed columns. Compares the data column by column, using primitive comparisons for
+ * the primitive Series. Changed column patterns are encoded as a "long" bit mask for up to 64 columns, and as a
+ * {@link BitSet} otherwise.
+ *
+ * @since 0.8
+ */
+class UpsertDiff {
+
+    private static final int MAX_MASK_WIDTH = 64;
+
+    private String[] valueColumns;
+    private boolean[] changedRows;
+    private Map<Object, IntAccumulator> rowsByPattern;
+
+    private UpsertDiff(String[] valueColumns, int height) {
+        this.valueColumns = valueColumns;
+        this.changedRows = new boolean[height];
+        this.rowsByPattern = new LinkedHashMap<>();
+    }
+
+    /**
+     * @param toSave          new version of the rows
+     * @param previouslySaved previously saved version of the rows, ordered the same way as "toSave"
+     * @param valueColumns    non-key columns to compare
+     * @param rowHashColumn   an optional column (one of the "valueColumns") that contains a hash of the row. If not
+     *                        null, rows with matching hashes are considered unchanged without comparing other columns.
+     */
+    static UpsertDiff compute(DataFrame toSave, DataFrame previouslySaved, String[] valueColumns, String rowHashColumn) {
+
+        int h = toSave.height();
+        UpsertDiff diff = new UpsertDiff(valueColumns, h);
+
+        int[] candidates = rowHashColumn != null
+                ? rowsWithChangedHash(toSave.getColumn(rowHashColumn), previouslySaved.getColumn(rowHashColumn))
+                : allRows(h);
+
+        if (valueColumns.length <= MAX_MASK_WIDTH) {
+            diff.diffAsLongs(toSave, previouslySaved, candidates);
+        } else {
+            diff.diffAsBitSets(toSave, previouslySaved, candidates);
+        }
+
+        return diff;
+    }
+
+    private static int[] allRows(int h) {
+        int[] rows = new int[h];
+        for (int i = 0; i < h; i++) {
+            rows[i] = i;
+        }
+
+        return rows;
+    }
+
+    private static int[] rowsWithChangedHash(Series<?> s1, Series<?> s2) {
+        ColumnComparator comparator = comparator(s1, s2);
+
+        int h = s1.size();
+        int[] rows = new int[h];
+        int len = 0;
+        for (int i = 0; i < h; i++) {
+            if (!comparator.equal(i)) {
+                rows[len++] = i;
+            }
+        }
+
+        return Arrays.copyOf(rows, len);
+    }
+
+    private void diffAsLongs(DataFrame toSave, DataFrame previouslySaved, int[] rows) {
+
+        int w = valueColumns.length;
+        long[] patterns = new long[rows.length];
+
+        for (int j = 0; j < w; j++) {
+            ColumnComparator comparator = comparator(
+                    toSave.getColumn(valueColumns[j]),
+                    previouslySaved.getColumn(valueColumns[j]));
+
+            long bit = 1L << j;
+            for (int i = 0; i < rows.length; i++) {
+                if (!comparator.equal(rows[i])) {
+                    patterns[i] |= bit;
+                }
+            }
+        }
+
+        for (int i = 0; i < rows.length; i++) {
+            if (patterns[i] != 0L) {
+                addChangedRow(rows[i], patterns[i]);
+            }
+        }
+    }
+
+    private void diffAsBitSets(DataFrame toSave, DataFrame previouslySaved, int[] rows) {
+
+        int w = valueColumns.length;
+        BitSet[] patterns = new BitSet[rows.length];
+
+        for (int j = 0; j < w; j++) {
+            ColumnComparator comparator = comparator(
+                    toSave.getColumn(valueColumns[j]),
+                    previouslySaved.getColumn(valueColumns[j]));
+
+            for (int i = 0; i < rows.length; i++) {
+                if (!comparator.equal(rows[i])) {
+                    if (patterns[i] == null) {
+                        patterns[i] = new BitSet(w);
+                    }
+
+                    patterns[i].set(j);
+                }
+            }
+        }
+
+        for (int i = 0; i < rows.length; i++) {
+            if (patterns[i] != null) {
+                addChangedRow(rows[i], patterns[i]);
+            }
+        }
+    }
+
+    private void addChangedRow(int row, Object pattern) {
+        changedRows[row] = true;
+        rowsByPattern.computeIfAbsent(pattern, p -> new IntAccumulator()).add(row);
+    }
+
+    /**
+     * Returns a flag per row indicating whether the row has any changes.
+     */
+    boolean[] getChangedRows() {
+        return changedRows;
+    }
+
+    List<Group> getGroups() {
+
+        List<Group> groups = new ArrayList<>(rowsByPattern.size());
+        for (Map.Entry<Object, IntAccumulator> e : rowsByPattern.entrySet()) {
+            groups.add(new Group(changedColumns(e.getKey()), e.getValue().toIntSeries()));
+        }
+
+        return groups;
+    }
+
+    private String[] changedColumns(Object pattern) {
+
+        int w = valueColumns.length;
+        List<String> columns = new ArrayList<>(w);
+
+        if (pattern instanceof Long) {
+            long bits = (Long) pattern;
+            for (int j = 0; j < w; j++) {
+                if ((bits & (1L << j)) != 0) {
+                    columns.add(valueColumns[j]);
+                }
+            }
+        } else {
+            BitSet bits = (BitSet) pattern;
+            for (int j = bits.nextSetBit(0); j >= 0; j = bits.nextSetBit(j + 1)) {
+                columns.add(valueColumns[j]);
+            }
+        }
+
+        return columns.toArray(new String[0]);
+    }
+
+    private static ColumnComparator comparator(Series<?> s1, Series<?> s2) {
+
+        if (s1 instanceof IntSeries && s2 instanceof IntSeries) {
+            IntSeries i1 = (IntSeries) s1;
+            IntSeries i2 = (IntSeries) s2;
+            return i -> i1.getInt(i) == i2.getInt(i);
+        }
+
+        if (s1 instanceof LongSeries && s2 instanceof LongSeries) {
+            LongSeries l1 = (LongSeries) s1;
+            LongSeries l2 = (LongSeries) s2;
+            return i -> l1.getLong(i) == l2.getLong(i);
+        }
+
+        // compare the same way as Double.equals(..)
+        if (s1 instanceof DoubleSeries && s2 instanceof DoubleSeries) {
+            DoubleSeries d1 = (DoubleSeries) s1;
+            DoubleSeries d2 = (DoubleSeries) s2;
+            return i -> Double.doubleToLongBits(d1.getDouble(i)) == Double.doubleToLongBits(d2.getDouble(i));
+        }
+
+        if (s1 instanceof BooleanSeries && s2 instanceof BooleanSeries) {
+            BooleanSeries b1 = (BooleanSeries) s1;
+            BooleanSeries b2 = (BooleanSeries) s2;
+            return i -> b1.getBoolean(i) == b2.getBoolean(i);
+        }
+
+        return i -> Objects.equals(s1.get(i), s2.get(i));
+    }
+
+    @FunctionalInterface
+    private interface ColumnComparator {
+        boolean equal(int row);
+    }
+
+    static class Group {
+
+        private String[] columns;
+        private IntSeries rows;
+
+        Group(String[] columns, IntSeries rows) {
+            this.columns = columns;
+            this.rows = rows;
+        }
+
+        /**
+         * Returns changed columns shared by all rows in the group.
+         */
+        String[] getColumns() {
+            return columns;
+        }
+
+        IntSeries getRows() {
+            return rows;
+        }
+    }
+}
@@ -5,24 +5,20 @@ import com.nhl.dflib.jdbc.SaveOp;
 import com.nhl.dflib.join.JoinIndicator;
 import com.nhl.dflib.series.builder.ObjectAccumulator;
 
-import java.util.BitSet;
-
 class UpsertInfoTracker {
 
-    private int width;
     private int height;
 
     private Series<JoinIndicator> newOldJoin;
-    private Series<BitSet> updatePositions;
+    private boolean[] changedRows;
 
-    public UpsertInfoTracker(int width, int height) {
-        this.width = width;
+    public UpsertInfoTracker(int height) {
         this.height = height;
     }
 
     public Series<SaveOp> getInfo() {
         // chances are this method won't get called at all, so defer any calculation till this method is actually called
-        return updatePositions != null ? insertsUpdatesAndSkips() : insertsAndSkips();
+        return changedRows != null ? insertsUpdatesAndSkips() : insertsAndSkips();
     }
 
     private Series<SaveOp> insertsAndSkips() {
@@ -50,8 +46,7 @@ class UpsertInfoTracker {
 
             switch (newOldJoin.get(i)) {
                 case both:
-                    int c = updatePositions.get(updatePos).cardinality();
-                    accum.add(c == width ? SaveOp.skip : SaveOp.update);
+                    accum.add(changedRows[updatePos] ? SaveOp.update : SaveOp.skip);
                     updatePos++;
                     break;
                 case left_only:
@@ -68,7 +63,11 @@ class UpsertInfoTracker {
         this.newOldJoin = newOldJoin;
     }
 
-    public void updatesCardinality(Series<BitSet> updatePositions) {
-        this.updatePositions = updatePositions;
+    /**
+     * @param changedRows per-row change flags of the rows matched in the DB, in the order of the matched rows
+     * @since 0.8
+     */
+    public void updatedRows(boolean[] changedRows) {
+        this.changedRows = changedRows;
     }
 }
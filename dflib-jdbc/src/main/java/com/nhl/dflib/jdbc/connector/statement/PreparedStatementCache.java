@@ -0,0 +1,124 @@
+package com.nhl.dflib.jdbc.connector.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded LRU cache of PreparedStatements for a single JDBC connection, keyed by SQL text. Allows to reuse the
+ * statements (and the corresponding server-side execution plans) when the same SQL is run multiple times over the same
+ * connection. Statements returned by the cache are wrappers that are returned to the cache on "close". If a statement
+ * for the requested SQL is already in use, a regular non-cached statement is returned. Physical statements are closed
+ * when evicted or when the cache itself is closed.
+ *
+ * @since 0.8
+ */
+public class PreparedStatementCache implements AutoCloseable {
+
+    private Connection connection;
+    private Map<String, CachedPreparedStatement> statements;
+    private boolean closed;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * @param connection a physical connection used to prepare statements
+     * @param maxSize    max number of cached statements
+     */
+    public PreparedStatementCache(Connection connection, int maxSize) {
+
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Invalid statement cache size: " + maxSize);
+        }
+
+        this.connection = connection;
+        this.statements = new LinkedHashMap<String, CachedPreparedStatement>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPreparedStatement> eldest) {
+                if (size() > maxSize) {
+                    eldest.getValue().evict();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a cached statement for the SQL, preparing a new one if needed.
+     *
+     * @param owner a connection that the caller will see as the statement connection. Usually a wrapper of the
+     *              physical connection.
+     * @param sql   SQL of the statement
+     */
+    public synchronized PreparedStatement prepareStatement(Connection owner, String sql) throws SQLException {
+
+        if (closed) {
+            throw new SQLException("Statement cache is closed");
+        }
+
+        CachedPreparedStatement st = statements.get(sql);
+        if (st != null) {
+
+            if (st.isInUse()) {
+                // the same SQL is still being processed (e.g. a stream is open). Can't share the statement
+                misses++;
+                return connection.prepareStatement(sql);
+            }
+
+            hits++;
+            st.checkout(owner);
+            return st;
+        }
+
+        misses++;
+        st = new CachedPreparedStatement(this, sql, connection.prepareStatement(sql));
+        statements.put(sql, st);
+        st.checkout(owner);
+        return st;
+    }
+
+    /**
+     * Closes all cached statements. Statements that are currently in use are closed when the caller closes them.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+
+        List<CachedPreparedStatement> toEvict = new ArrayList<>(statements.values());
+        statements.clear();
+        toEvict.forEach(CachedPreparedStatement::evict);
+    }
+
+    public synchronized int size() {
+        return statements.size();
+    }
+
+    /**
+     * Returns the number of requests that were served with a previously prepared statement.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of requests that required preparing a new statement.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    synchronized void release(CachedPreparedStatement statement) {
+        if (!statement.checkin()) {
+            statements.remove(statement.getSql(), statement);
+            statement.closePhysical();
+        }
+    }
+}
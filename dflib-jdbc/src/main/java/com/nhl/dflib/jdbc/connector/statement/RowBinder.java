@@ -0,0 +1,14 @@
+package com.nhl.dflib.jdbc.connector.statement;
+
+import java.sql.SQLException;
+
+/**
+ * Binds values from a given row of some columnar data source to the statement parameters.
+ *
+ * @since 0.8
+ */
+@FunctionalInterface
+public interface RowBinder {
+
+    void bind(int row) throws SQLException;
+}
@@ -3,6 +3,7 @@ package com.nhl.dflib.jdbc.connector.statement;
 import com.nhl.dflib.jdbc.connector.JdbcFunction;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -10,4 +11,11 @@ public interface SelectStatement {
 
     <T> T select(Connection connection, JdbcFunction<ResultSet, T> resultReader) throws SQLException;
 
+    /**
+     * Creates a PreparedStatement with all the parameters bound, ready to be executed. The caller is responsible for
+     * closing the returned statement.
+     *
+     * @since 0.8
+     */
+    PreparedStatement prepare(Connection connection) throws SQLException;
 }
@@ -1,6 +1,7 @@
 package com.nhl.dflib.jdbc.connector.statement;
 
 import com.nhl.dflib.jdbc.connector.JdbcFunction;
+import com.nhl.dflib.jdbc.connector.JdbcMetrics;
 import com.nhl.dflib.jdbc.connector.SqlLogger;
 
 import java.sql.Connection;
@@ -12,23 +13,93 @@ public class SelectStatementNoParams implements SelectStatement {
 
     private String sql;
     private SqlLogger logger;
+    private JdbcMetrics metrics;
+    private int fetchSize;
+    private int maxRows;
 
     public SelectStatementNoParams(String sql, SqlLogger logger) {
         this.logger = logger;
         this.sql = sql;
+        this.metrics = JdbcMetrics.noop();
     }
 
     @Override
     public <T> T select(Connection connection, JdbcFunction<ResultSet, T> resultReader) throws SQLException {
 
-        logger.log(sql);
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = prepare(connection)) {
 
-            try (ResultSet rs = ps.executeQuery()) {
+            try (ResultSet rs = execute(ps)) {
 
                 return resultReader.apply(rs);
             }
         }
     }
+
+    /**
+     * @since 0.8
+     */
+    @Override
+    public PreparedStatement prepare(Connection connection) throws SQLException {
+        logger.log(sql);
+
+        PreparedStatement ps = connection.prepareStatement(sql);
+        try {
+            applyFetchSize(ps);
+            applyMaxRows(ps);
+        } catch (SQLException | RuntimeException e) {
+            ps.close();
+            throw e;
+        }
+
+        return ps;
+    }
+
+    private ResultSet execute(PreparedStatement ps) throws SQLException {
+        long t0 = System.nanoTime();
+        ResultSet rs = ps.executeQuery();
+        metrics.queryExecuted(sql, System.nanoTime() - t0);
+        return rs;
+    }
+
+    /**
+     * Sets a fetch size passed to the JDBC driver. Zero means the driver default.
+     *
+     * @since 0.8
+     */
+    public SelectStatementNoParams fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Sets a max number of rows returned by the statement. Zero means no limit.
+     *
+     * @since 0.8
+     */
+    public SelectStatementNoParams maxRows(int maxRows) {
+        this.maxRows = maxRows;
+        return this;
+    }
+
+    private void applyMaxRows(PreparedStatement statement) throws SQLException {
+        if (maxRows > 0) {
+            statement.setMaxRows(maxRows);
+        }
+    }
+
+    private void applyFetchSize(PreparedStatement statement) throws SQLException {
+        if (fetchSize != 0) {
+            statement.setFetchSize(fetchSize);
+        }
+    }
+
+    /**
+     * Sets a callback notified about the statement execution time.
+     *
+     * @since 0.8
+     */
+    public SelectStatementNoParams metrics(JdbcMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
 }
@@ -2,6 +2,7 @@ package com.nhl.dflib.jdbc.connector.statement;
 
 import com.nhl.dflib.Series;
 import com.nhl.dflib.jdbc.connector.JdbcFunction;
+import com.nhl.dflib.jdbc.connector.JdbcMetrics;
 import com.nhl.dflib.jdbc.connector.SqlLogger;
 
 import java.sql.Connection;
@@ -15,6 +16,9 @@ public class SelectStatementWithParams implements SelectStatement {
     private Series<?> params;
     private StatementBinderFactory binderFactory;
     private SqlLogger logger;
+    private JdbcMetrics metrics;
+    private int fetchSize;
+    private int maxRows;
 
     public SelectStatementWithParams(
             String sql,
@@ -26,21 +30,45 @@ public class SelectStatementWithParams implements SelectStatement {
         this.params = params;
         this.binderFactory = binderFactory;
         this.logger = logger;
+        this.metrics = JdbcMetrics.noop();
     }
 
     @Override
     public <T> T select(Connection connection, JdbcFunction<ResultSet, T> resultReader) throws SQLException {
 
-        logger.log(sql, params);
+        try (PreparedStatement ps = prepare(connection)) {
+            try (ResultSet rs = execute(ps)) {
+                return resultReader.apply(rs);
+            }
+        }
+    }
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+    /**
+     * @since 0.8
+     */
+    @Override
+    public PreparedStatement prepare(Connection connection) throws SQLException {
 
-            bind(ps);
+        logger.log(sql, params);
 
-            try (ResultSet rs = ps.executeQuery()) {
-                return resultReader.apply(rs);
-            }
+        PreparedStatement ps = connection.prepareStatement(sql);
+        try {
+            applyFetchSize(ps);
+            applyMaxRows(ps);
+            bind(ps);
+        } catch (SQLException | RuntimeException e) {
+            ps.close();
+            throw e;
         }
+
+        return ps;
+    }
+
+    private ResultSet execute(PreparedStatement ps) throws SQLException {
+        long t0 = System.nanoTime();
+        ResultSet rs = ps.executeQuery();
+        metrics.queryExecuted(sql, System.nanoTime() - t0);
+        return rs;
     }
 
     private void bind(PreparedStatement statement) throws SQLException {
@@ -48,4 +76,46 @@ public class SelectStatementWithParams implements SelectStatement {
             binderFactory.createBinder(statement).bind(params);
         }
     }
+
+    /**
+     * Sets a fetch size passed to the JDBC driver. Zero means the driver default.
+     *
+     * @since 0.8
+     */
+    public SelectStatementWithParams fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Sets a max number of rows returned by the statement. Zero means no limit.
+     *
+     * @since 0.8
+     */
+    public SelectStatementWithParams maxRows(int maxRows) {
+        this.maxRows = maxRows;
+        return this;
+    }
+
+    private void applyMaxRows(PreparedStatement statement) throws SQLException {
+        if (maxRows > 0) {
+            statement.setMaxRows(maxRows);
+        }
+    }
+
+    private void applyFetchSize(PreparedStatement statement) throws SQLException {
+        if (fetchSize != 0) {
+            statement.setFetchSize(fetchSize);
+        }
+    }
+
+    /**
+     * Sets a callback notified about the statement execution time.
+     *
+     * @since 0.8
+     */
+    public SelectStatementWithParams metrics(JdbcMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
 }
@@ -1,5 +1,6 @@
 package com.nhl.dflib.jdbc.connector.statement;
 
+import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.Series;
 import com.nhl.dflib.row.RowProxy;
 
@@ -30,6 +31,33 @@ public class StatementBinder {
         }
     }
 
+    /**
+     * Creates a binder of the DataFrame rows to the statement. Setters for each column are resolved once, so binding
+     * of the primitive columns is done without boxing.
+     *
+     * @since 0.8
+     */
+    public RowBinder rowBinder(DataFrame values) throws SQLException {
+
+        int len = this.positions != null ? this.positions.length : 0;
+
+        // like "bind(RowProxy)", tolerate extra columns
+        if (values.width() < len) {
+            throw new SQLException("Expected " + len + " bindings, got " + values.width());
+        }
+
+        RowBinder[] binders = new RowBinder[len];
+        for (int i = 0; i < len; i++) {
+            binders[i] = positions[i].rowBinder(values.getColumn(i));
+        }
+
+        return r -> {
+            for (int i = 0; i < len; i++) {
+                binders[i].bind(r);
+            }
+        };
+    }
+
     public void bind(RowProxy values) throws SQLException {
 
         // unlike "bind(Object[]), will skip bounds checking on RowProxy to avoid extra work when iterating over a DataFrame
@@ -1,7 +1,14 @@
 package com.nhl.dflib.jdbc.connector.statement;
 
+import com.nhl.dflib.BooleanSeries;
+import com.nhl.dflib.DoubleSeries;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.LongSeries;
+import com.nhl.dflib.Series;
+
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Types;
 
 public class StatementPosition {
 
@@ -22,6 +29,56 @@ public class StatementPosition {
         this.valueConverter = valueConverter;
     }
 
+    /**
+     * Creates a binder of the column values to this position. For primitive Series whose type matches the parameter
+     * JDBC type, the binder calls the primitive setters of the statement, avoiding boxing and per-value conversion.
+     * Other columns are bound via {@link #bind(Object)}.
+     *
+     * @since 0.8
+     */
+    public RowBinder rowBinder(Series<?> column) {
+
+        switch (type) {
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+                if (column instanceof IntSeries) {
+                    IntSeries ints = (IntSeries) column;
+                    return r -> statement.setInt(position, ints.getInt(r));
+                }
+                break;
+            case Types.BIGINT:
+                if (column instanceof LongSeries) {
+                    LongSeries longs = (LongSeries) column;
+                    return r -> statement.setLong(position, longs.getLong(r));
+                }
+
+                if (column instanceof IntSeries) {
+                    IntSeries ints = (IntSeries) column;
+                    return r -> statement.setLong(position, ints.getInt(r));
+                }
+                break;
+            case Types.DOUBLE:
+            case Types.FLOAT:
+                if (column instanceof DoubleSeries) {
+                    DoubleSeries doubles = (DoubleSeries) column;
+                    return r -> statement.setDouble(position, doubles.getDouble(r));
+                }
+                break;
+            case Types.BOOLEAN:
+            case Types.BIT:
+                if (column instanceof BooleanSeries) {
+                    BooleanSeries booleans = (BooleanSeries) column;
+                    return r -> statement.setBoolean(position, booleans.getBoolean(r));
+                }
+                break;
+            default:
+                break;
+        }
+
+        return r -> bind(column.get(r));
+    }
+
     public void bind(Object o) throws SQLException {
         Object boundable = o != null ? valueConverter.convert(o) : null;
 
@@ -5,5 +5,11 @@ import java.sql.SQLException;
 
 public interface UpdateStatement {
 
-    void update(Connection c) throws SQLException;
+    /**
+     * Runs the update, returning update counts for each set of bound parameters (or a single count for statements
+     * without parameters).
+     *
+     * @since 0.8 returns update counts
+     */
+    int[] update(Connection c) throws SQLException;
 }
@@ -1,8 +1,8 @@
 package com.nhl.dflib.jdbc.connector.statement;
 
 import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.connector.JdbcMetrics;
 import com.nhl.dflib.jdbc.connector.SqlLogger;
-import com.nhl.dflib.row.RowProxy;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -14,6 +14,9 @@ public class UpdateStatementBatch implements UpdateStatement {
     private DataFrame paramsBatch;
     private StatementBinderFactory binderFactory;
     private SqlLogger logger;
+    private JdbcMetrics metrics;
+    private int batchSize;
+    private boolean intermediateCommits;
 
     public UpdateStatementBatch(
             String sql,
@@ -25,23 +28,98 @@ public class UpdateStatementBatch implements UpdateStatement {
         this.paramsBatch = paramsBatch;
         this.binderFactory = binderFactory;
         this.logger = logger;
+        this.metrics = JdbcMetrics.noop();
     }
 
     @Override
-    public void update(Connection c) throws SQLException {
+    public int[] update(Connection c) throws SQLException {
 
         logger.log(sql, paramsBatch);
 
         try (PreparedStatement st = c.prepareStatement(sql)) {
 
-            StatementBinder binder = binderFactory.createBinder(st);
+            RowBinder binder = binderFactory.createBinder(st).rowBinder(paramsBatch);
 
-            for (RowProxy row : paramsBatch) {
-                binder.bind(row);
+            int h = paramsBatch.height();
+            int[] counts = new int[h];
+            int done = 0;
+            int pending = 0;
+            for (int i = 0; i < h; i++) {
+                binder.bind(i);
                 st.addBatch();
+
+                // flush intermediate batches to avoid accumulating the entire DataFrame in the driver
+                if (++pending == batchSize) {
+                    done = copyCounts(executeBatch(st, pending), counts, done);
+                    pending = 0;
+
+                    if (intermediateCommits) {
+                        c.commit();
+                    }
+                }
             }
 
-            st.executeBatch();
+            if (pending > 0) {
+                copyCounts(executeBatch(st, pending), counts, done);
+            }
+
+            return counts;
+        }
+    }
+
+    private int[] executeBatch(PreparedStatement st, int batchSize) throws SQLException {
+        long t0 = System.nanoTime();
+        int[] batchCounts = st.executeBatch();
+        metrics.updateExecuted(sql, batchSize, rowsWritten(batchCounts), System.nanoTime() - t0);
+        return batchCounts;
+    }
+
+    // "SUCCESS_NO_INFO" and other negative counts are ignored
+    private static long rowsWritten(int[] batchCounts) {
+        long rows = 0;
+        for (int c : batchCounts) {
+            if (c > 0) {
+                rows += c;
+            }
         }
+
+        return rows;
+    }
+
+    private static int copyCounts(int[] batchCounts, int[] counts, int offset) {
+        System.arraycopy(batchCounts, 0, counts, offset, batchCounts.length);
+        return offset + batchCounts.length;
+    }
+
+    /**
+     * Sets the max number of rows sent to the DB in a single batch. Zero or negative number means all rows are
+     * sent in one batch.
+     *
+     * @since 0.8
+     */
+    public UpdateStatementBatch batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets whether the transaction should be committed after each batch, limiting the size of the DB transaction
+     * log at the expense of atomicity. Has no effect within an external transaction.
+     *
+     * @since 0.8
+     */
+    public UpdateStatementBatch intermediateCommits(boolean intermediateCommits) {
+        this.intermediateCommits = intermediateCommits;
+        return this;
+    }
+
+    /**
+     * Sets a callback notified about the statement execution time.
+     *
+     * @since 0.8
+     */
+    public UpdateStatementBatch metrics(JdbcMetrics metrics) {
+        this.metrics = metrics;
+        return this;
     }
 }
@@ -1,8 +1,8 @@
 package com.nhl.dflib.jdbc.connector.statement;
 
 import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.connector.JdbcMetrics;
 import com.nhl.dflib.jdbc.connector.SqlLogger;
-import com.nhl.dflib.row.RowProxy;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -14,6 +14,9 @@ public class UpdateStatementNoBatch implements UpdateStatement {
     private DataFrame paramsBatch;
     private StatementBinderFactory binderFactory;
     private SqlLogger logger;
+    private JdbcMetrics metrics;
+    private int batchSize;
+    private boolean intermediateCommits;
 
     public UpdateStatementNoBatch(
             String sql,
@@ -25,21 +28,67 @@ public class UpdateStatementNoBatch implements UpdateStatement {
         this.paramsBatch = paramsBatch;
         this.binderFactory = binderFactory;
         this.logger = logger;
+        this.metrics = JdbcMetrics.noop();
     }
 
     @Override
-    public void update(Connection c) throws SQLException {
+    public int[] update(Connection c) throws SQLException {
 
         logger.log(sql, paramsBatch);
 
         try (PreparedStatement st = c.prepareStatement(sql)) {
 
-            StatementBinder binder = binderFactory.createBinder(st);
+            RowBinder binder = binderFactory.createBinder(st).rowBinder(paramsBatch);
 
-            for (RowProxy row : paramsBatch) {
-                binder.bind(row);
-                st.executeUpdate();
+            int h = paramsBatch.height();
+            int[] counts = new int[h];
+            int pending = 0;
+            for (int i = 0; i < h; i++) {
+                binder.bind(i);
+                long t0 = System.nanoTime();
+                int count = st.executeUpdate();
+                metrics.updateExecuted(sql, 1, Math.max(count, 0), System.nanoTime() - t0);
+                counts[i] = count;
+
+                if (intermediateCommits && ++pending == batchSize) {
+                    c.commit();
+                    pending = 0;
+                }
             }
+
+            return counts;
         }
     }
+
+    /**
+     * Sets the max number of rows sent to the DB in a single batch. Zero or negative number means all rows are
+     * sent in one batch.
+     *
+     * @since 0.8
+     */
+    public UpdateStatementNoBatch batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets whether the transaction should be committed after each batch, limiting the size of the DB transaction
+     * log at the expense of atomicity. Has no effect within an external transaction.
+     *
+     * @since 0.8
+     */
+    public UpdateStatementNoBatch intermediateCommits(boolean intermediateCommits) {
+        this.intermediateCommits = intermediateCommits;
+        return this;
+    }
+
+    /**
+     * Sets a callback notified about the statement execution time.
+     *
+     * @since 0.8
+     */
+    public UpdateStatementNoBatch metrics(JdbcMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
 }
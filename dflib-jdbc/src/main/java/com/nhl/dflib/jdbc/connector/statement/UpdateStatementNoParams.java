@@ -1,5 +1,6 @@
 package com.nhl.dflib.jdbc.connector.statement;
 
+import com.nhl.dflib.jdbc.connector.JdbcMetrics;
 import com.nhl.dflib.jdbc.connector.SqlLogger;
 
 import java.sql.Connection;
@@ -10,19 +11,34 @@ public class UpdateStatementNoParams implements UpdateStatement {
 
     private String sql;
     private SqlLogger logger;
+    private JdbcMetrics metrics;
 
     public UpdateStatementNoParams(String sql, SqlLogger logger) {
         this.sql = sql;
         this.logger = logger;
+        this.metrics = JdbcMetrics.noop();
     }
 
     @Override
-    public void update(Connection c) throws SQLException {
+    public int[] update(Connection c) throws SQLException {
 
         logger.log(sql);
 
         try (PreparedStatement st = c.prepareStatement(sql)) {
-            st.executeUpdate();
+            long t0 = System.nanoTime();
+            int count = st.executeUpdate();
+            metrics.updateExecuted(sql, 1, Math.max(count, 0), System.nanoTime() - t0);
+            return new int[]{count};
         }
     }
+
+    /**
+     * Sets a callback notified about the statement execution time.
+     *
+     * @since 0.8
+     */
+    public UpdateStatementNoParams metrics(JdbcMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
 }
@@ -1,6 +1,7 @@
 package com.nhl.dflib.jdbc.connector.statement;
 
 import com.nhl.dflib.Series;
+import com.nhl.dflib.jdbc.connector.JdbcMetrics;
 import com.nhl.dflib.jdbc.connector.SqlLogger;
 
 import java.sql.Connection;
@@ -16,6 +17,7 @@ public class UpdateStatementParamsRow implements UpdateStatement {
     private Series<?> params;
     private StatementBinderFactory binderFactory;
     private SqlLogger logger;
+    private JdbcMetrics metrics;
 
     public UpdateStatementParamsRow(
             String sql,
@@ -27,16 +29,31 @@ public class UpdateStatementParamsRow implements UpdateStatement {
         this.params = params;
         this.binderFactory = binderFactory;
         this.logger = logger;
+        this.metrics = JdbcMetrics.noop();
     }
 
     @Override
-    public void update(Connection c) throws SQLException {
+    public int[] update(Connection c) throws SQLException {
 
         logger.log(sql, params);
 
         try (PreparedStatement st = c.prepareStatement(sql)) {
             binderFactory.createBinder(st).bind(params);
-            st.executeUpdate();
+
+            long t0 = System.nanoTime();
+            int count = st.executeUpdate();
+            metrics.updateExecuted(sql, 1, Math.max(count, 0), System.nanoTime() - t0);
+            return new int[]{count};
         }
     }
+
+    /**
+     * Sets a callback notified about the statement execution time.
+     *
+     * @since 0.8
+     */
+    public UpdateStatementParamsRow metrics(JdbcMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
 }
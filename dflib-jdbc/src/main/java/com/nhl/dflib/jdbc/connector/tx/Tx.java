@@ -1,6 +1,7 @@
 package com.nhl.dflib.jdbc.connector.tx;
 
 import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.statement.PreparedStatementCache;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -17,6 +18,7 @@ public class Tx {
 
     private JdbcConnector connector;
     private TxIsolation isolation;
+    private int statementCacheSize;
 
     protected Tx(JdbcConnector connector) {
         this.connector = Objects.requireNonNull(connector);
@@ -31,6 +33,34 @@ public class Tx {
         return this;
     }
 
+    /**
+     * Enables caching of the PreparedStatements within the transaction, so that the operations that run the same SQL
+     * multiple times (e.g. repeated saves of the same table) would prepare it only once. The statements are closed when
+     * the transaction ends.
+     *
+     * @param maxStatements max number of distinct SQL statements to cache. Zero disables the cache (the default).
+     * @since 0.8
+     */
+    public Tx statementCache(int maxStatements) {
+        if (maxStatements < 0) {
+            throw new IllegalArgumentException("Invalid statement cache size: " + maxStatements);
+        }
+
+        this.statementCacheSize = maxStatements;
+        return this;
+    }
+
+    /**
+     * Starts a batch save of multiple DataFrames to multiple tables within this transaction. The tables are saved in
+     * the order of their foreign key dependencies, while the data for the subsequent tables is prepared in parallel.
+     *
+     * @return a new batch save object
+     * @since 0.8
+     */
+    public TxBatchSave batchSave() {
+        return new TxBatchSave(this, connector);
+    }
+
     /**
      * Executes operation that returns no result. The operation is wrapped in transaction. So all database operations
      * will be committed or rolled back together.
@@ -59,7 +89,11 @@ public class Tx {
                 connection.setTransactionIsolation(isolation.value);
             }
 
-            TxConnectionWrapper connectionWrapper = new TxConnectionWrapper(connection);
+            PreparedStatementCache statementCache = statementCacheSize > 0
+                    ? new PreparedStatementCache(connection, statementCacheSize)
+                    : null;
+
+            TxConnectionWrapper connectionWrapper = new TxConnectionWrapper(connection, statementCache);
 
             try {
                 T result = op.apply(new TxJdbcConnector(connector, connectionWrapper));
@@ -68,6 +102,10 @@ public class Tx {
             } catch (SQLException e) {
                 connection.rollback();
                 throw new RuntimeException(e);
+            } finally {
+                if (statementCache != null) {
+                    statementCache.close();
+                }
             }
 
         } catch (SQLException e) {
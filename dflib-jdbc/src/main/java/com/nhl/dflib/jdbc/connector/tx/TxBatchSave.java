@@ -0,0 +1,255 @@
+package com.nhl.dflib.jdbc.connector.tx;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.Series;
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.SaveStats;
+import com.nhl.dflib.jdbc.connector.TableSaver;
+import com.nhl.dflib.jdbc.connector.metadata.DbMetadata;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Saves multiple DataFrames to multiple tables in a single transaction. The tables are saved in the order of their
+ * foreign key dependencies (i.e. the referenced tables are saved before the tables that reference them), regardless of
+ * the order they were added to the batch. While the transaction connection is saving a table, the data of the
+ * following tables is "staged" on worker threads, i.e. their metadata is loaded and their DataFrames are fully
+ * calculated, so that the connection doesn't have to wait for the CPU-bound work.
+ *
+ * @since 0.8
+ */
+public class TxBatchSave {
+
+    private Tx tx;
+    private JdbcConnector connector;
+    private List<Entry> entries;
+    private int stagingThreads;
+
+    protected TxBatchSave(Tx tx, JdbcConnector connector) {
+        this.tx = tx;
+        this.connector = connector;
+        this.entries = new ArrayList<>();
+        this.stagingThreads = 1;
+    }
+
+    /**
+     * Adds a DataFrame to be inserted into the table.
+     */
+    public TxBatchSave table(String tableName, DataFrame df) {
+        return table(tableName, df, s -> {
+        });
+    }
+
+    /**
+     * Adds a DataFrame to be saved to the table with a custom save configuration.
+     *
+     * @param tableName   the name of the table
+     * @param df          a DataFrame to save
+     * @param saverConfig a function to configure the save strategy, e.g. <code>s -&gt; s.mergeByPk()</code>
+     */
+    public TxBatchSave table(String tableName, DataFrame df, Consumer<TableSaver> saverConfig) {
+        entries.add(new Entry(
+                connector.getMetadata().parseTableName(tableName),
+                Objects.requireNonNull(df),
+                Objects.requireNonNull(saverConfig)));
+        return this;
+    }
+
+    /**
+     * Sets the number of worker threads used to load the tables metadata and to prepare the DataFrames for saving.
+     * The default is 1, i.e. a single thread is staging the data while the transaction connection is saving.
+     */
+    public TxBatchSave stagingThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Invalid number of threads: " + threads);
+        }
+
+        this.stagingThreads = threads;
+        return this;
+    }
+
+    /**
+     * Saves all the DataFrames in a single transaction.
+     *
+     * @return save stats for each DataFrame, in the order the DataFrames were added to the batch
+     */
+    public List<SaveStats> save() {
+
+        int len = entries.size();
+        if (len == 0) {
+            return new ArrayList<>();
+        }
+
+        DbMetadata metadata = connector.getMetadata();
+        List<TableFQName> tableNames = new ArrayList<>(len);
+        entries.forEach(e -> tableNames.add(e.tableName));
+        metadata.preloadTables(stagingThreads, tableNames);
+
+        int[] order = saveOrder(metadata);
+
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(len, stagingThreads), r -> {
+            Thread t = new Thread(r, "dflib-jdbc-staging-" + counter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+
+            // start staging in the save order, so that the first tables to save are ready first
+            List<CompletableFuture<DataFrame>> staged = new ArrayList<>(len);
+            for (int i = 0; i < len; i++) {
+                staged.add(null);
+            }
+
+            for (int i : order) {
+                DataFrame df = entries.get(i).df;
+                staged.set(i, CompletableFuture.supplyAsync(() -> materialize(df), executor));
+            }
+
+            return tx.call(c -> {
+
+                SaveStats[] stats = new SaveStats[len];
+                for (int i : order) {
+                    Entry e = entries.get(i);
+                    TableSaver saver = c.tableSaver(e.tableName);
+                    e.saverConfig.accept(saver);
+                    stats[i] = saver.save(waitForStaging(e, staged.get(i)));
+                }
+
+                return Arrays.asList(stats);
+            });
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the positions of the entries in the order they should be saved, so that each table is saved after the
+     * tables it references. Entries with no dependencies between them keep the order they were added. Entries that
+     * form a reference cycle are saved in the order they were added as well. The foreign keys are read from the DB
+     * metadata on each call.
+     */
+    protected int[] saveOrder(DbMetadata metadata) {
+
+        int len = entries.size();
+        int[] order = new int[len];
+
+        // nothing to reorder, so don't bother reading the foreign keys
+        if (len == 1) {
+            return order;
+        }
+
+        boolean[][] dependsOn = new boolean[len][len];
+        for (int i = 0; i < len; i++) {
+            TableFQName[] referenced = metadata.getReferencedTables(entries.get(i).tableName);
+            for (int j = 0; j < len; j++) {
+                dependsOn[i][j] = i != j && references(referenced, entries.get(j).tableName);
+            }
+        }
+
+        boolean[] added = new boolean[len];
+
+        for (int pos = 0; pos < len; pos++) {
+            int next = nextReady(dependsOn, added);
+
+            // a reference cycle... take the first remaining entry
+            if (next < 0) {
+                next = 0;
+                while (added[next]) {
+                    next++;
+                }
+            }
+
+            added[next] = true;
+            order[pos] = next;
+        }
+
+        return order;
+    }
+
+    private static int nextReady(boolean[][] dependsOn, boolean[] added) {
+
+        int len = added.length;
+        for (int i = 0; i < len; i++) {
+            if (!added[i] && dependenciesAdded(dependsOn[i], added)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static boolean dependenciesAdded(boolean[] dependsOn, boolean[] added) {
+        for (int j = 0; j < dependsOn.length; j++) {
+            if (dependsOn[j] && !added[j]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean references(TableFQName[] referenced, TableFQName table) {
+        for (TableFQName r : referenced) {
+            if (sameTable(r, table)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // names parsed from user input may omit catalog and schema, that are present in the names coming from the DB
+    private static boolean sameTable(TableFQName fromDb, TableFQName fromUser) {
+        return fromDb.getTable().equals(fromUser.getTable())
+                && (!fromUser.hasSchema() || Objects.equals(fromDb.getSchema(), fromUser.getSchema()))
+                && (!fromUser.hasCatalog() || Objects.equals(fromDb.getCatalog(), fromUser.getCatalog()));
+    }
+
+    private static DataFrame materialize(DataFrame df) {
+
+        // calculate lazily-evaluated columns (e.g. produced by "map" or "selectRows"), so that this work is not done
+        // by the thread holding the transaction connection
+        int w = df.width();
+        Series<?>[] columns = new Series[w];
+        for (int i = 0; i < w; i++) {
+            columns[i] = df.getColumn(i).materialize();
+        }
+
+        return DataFrame.newFrame(df.getColumnsIndex()).columns(columns);
+    }
+
+    private static DataFrame waitForStaging(Entry entry, CompletableFuture<DataFrame> staged) {
+        try {
+            return staged.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            throw new RuntimeException("Error preparing data for table '" + entry.tableName + "': " + cause.getMessage(), cause);
+        }
+    }
+
+    private static class Entry {
+
+        final TableFQName tableName;
+        final DataFrame df;
+        final Consumer<TableSaver> saverConfig;
+
+        Entry(TableFQName tableName, DataFrame df, Consumer<TableSaver> saverConfig) {
+            this.tableName = tableName;
+            this.df = df;
+            this.saverConfig = saverConfig;
+        }
+    }
+}
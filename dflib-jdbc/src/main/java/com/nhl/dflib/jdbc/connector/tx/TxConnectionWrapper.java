@@ -1,5 +1,7 @@
 package com.nhl.dflib.jdbc.connector.tx;
 
+import com.nhl.dflib.jdbc.connector.statement.PreparedStatementCache;
+
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
@@ -29,11 +31,21 @@ import java.util.concurrent.Executor;
 public class TxConnectionWrapper implements Connection {
 
     private Connection delegate;
+    private PreparedStatementCache statementCache;
 
     public TxConnectionWrapper(Connection delegate) {
         this.delegate = delegate;
     }
 
+    /**
+     * @param statementCache an optional cache of prepared statements for the transaction connection
+     * @since 0.8
+     */
+    public TxConnectionWrapper(Connection delegate, PreparedStatementCache statementCache) {
+        this.delegate = delegate;
+        this.statementCache = statementCache;
+    }
+
     @Override
     public Statement createStatement() throws SQLException {
         return delegate.createStatement();
@@ -41,7 +53,9 @@ public class TxConnectionWrapper implements Connection {
 
     @Override
     public PreparedStatement prepareStatement(String sql) throws SQLException {
-        return delegate.prepareStatement(sql);
+        return statementCache != null
+                ? statementCache.prepareStatement(this, sql)
+                : delegate.prepareStatement(sql);
     }
 
     @Override
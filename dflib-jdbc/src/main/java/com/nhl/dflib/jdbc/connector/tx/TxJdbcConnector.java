@@ -1,6 +1,7 @@
 package com.nhl.dflib.jdbc.connector.tx;
 
 import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.JdbcMetrics;
 import com.nhl.dflib.jdbc.connector.SqlLoader;
 import com.nhl.dflib.jdbc.connector.SqlLogger;
 import com.nhl.dflib.jdbc.connector.StatementBuilder;
@@ -103,6 +104,14 @@ public class TxJdbcConnector implements JdbcConnector {
         return delegate.getSqlLogger();
     }
 
+    /**
+     * @since 0.8
+     */
+    @Override
+    public JdbcMetrics getMetrics() {
+        return delegate.getMetrics();
+    }
+
     @Override
     public ValueConverterFactory getBindConverterFactory() {
         return delegate.getBindConverterFactory();
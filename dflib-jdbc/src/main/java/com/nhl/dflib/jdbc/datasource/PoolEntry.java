@@ -0,0 +1,87 @@
+package com.nhl.dflib.jdbc.datasource;
+
+import com.nhl.dflib.jdbc.connector.statement.PreparedStatementCache;
+
+import java.sql.Connection;
+
+/**
+ * A physical connection in the {@link PoolingDataSource} with its bookkeeping information.
+ *
+ * @since 0.8
+ */
+class PoolEntry {
+
+    private Connection connection;
+    private boolean initialAutoCommit;
+    private int initialIsolation;
+    private boolean initialReadOnly;
+    private boolean stateChanged;
+    private long createdAt;
+    private long lastReleasedAt;
+    private PreparedStatementCache statementCache;
+
+    PoolEntry(
+            Connection connection,
+            boolean initialAutoCommit,
+            int initialIsolation,
+            boolean initialReadOnly,
+            long now,
+            int statementCacheSize) {
+        this.connection = connection;
+        this.statementCache = statementCacheSize > 0
+                ? new PreparedStatementCache(connection, statementCacheSize)
+                : null;
+        this.initialAutoCommit = initialAutoCommit;
+        this.initialIsolation = initialIsolation;
+        this.initialReadOnly = initialReadOnly;
+        this.createdAt = now;
+        this.lastReleasedAt = now;
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Returns a statement cache of this connection or null if statement caching is disabled.
+     */
+    PreparedStatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    boolean isInitialAutoCommit() {
+        return initialAutoCommit;
+    }
+
+    int getInitialIsolation() {
+        return initialIsolation;
+    }
+
+    boolean isInitialReadOnly() {
+        return initialReadOnly;
+    }
+
+    /**
+     * Returns true if the connection settings that the pool can't reliably restore were changed by the user (e.g.
+     * catalog or schema), so the connection must not be reused.
+     */
+    boolean isStateChanged() {
+        return stateChanged;
+    }
+
+    void stateChanged() {
+        this.stateChanged = true;
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    long getLastReleasedAt() {
+        return lastReleasedAt;
+    }
+
+    void released(long now) {
+        this.lastReleasedAt = now;
+    }
+}
@@ -0,0 +1,375 @@
+package com.nhl.dflib.jdbc.datasource;
+
+import com.nhl.dflib.jdbc.connector.statement.PreparedStatementCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lightweight bounded connection pool on top of a non-pooling DataSource. Reuses physical connections between
+ * {@link #getConnection()} calls, validating connections that were idle, closing connections that exceeded their max
+ * lifetime or stayed idle for too long, and blocking the callers up to a configured timeout when all connections are
+ * checked out. Doesn't start any background threads, doing all housekeeping when connections are checked out or
+ * returned. Returned connections are rolled back, and their auto-commit, isolation level and read-only mode are
+ * restored to the initial values. Provides a few basic usage metrics.
+ *
+ * @since 0.8
+ */
+// based on Cayenne UnmanagedPoolingDataSource
+public class PoolingDataSource implements DataSource, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PoolingDataSource.class);
+
+    // connections that were in use very recently are presumed to be alive, so they are not validated
+    private static final long VALIDATION_BYPASS_MS = 500;
+
+    private DataSource nonPoolingDataSource;
+    private PoolingDataSourceParameters parameters;
+
+    private Semaphore permits;
+
+    // most recently released connections are at the head, the ones idle the longest are at the tail
+    private LinkedBlockingDeque<PoolEntry> idle;
+    private volatile boolean closed;
+
+    private AtomicInteger activeConnections;
+    private AtomicLong createdConnections;
+    private AtomicLong closedConnections;
+    private AtomicLong waitTimeouts;
+
+    public PoolingDataSource(DataSource nonPoolingDataSource, PoolingDataSourceParameters parameters) {
+        this.nonPoolingDataSource = Objects.requireNonNull(nonPoolingDataSource);
+        this.parameters = Objects.requireNonNull(parameters);
+
+        this.permits = new Semaphore(parameters.getMaxConnections(), true);
+        this.idle = new LinkedBlockingDeque<>();
+
+        this.activeConnections = new AtomicInteger();
+        this.createdConnections = new AtomicLong();
+        this.closedConnections = new AtomicLong();
+        this.waitTimeouts = new AtomicLong();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        try {
+            if (!permits.tryAcquire(parameters.getMaxQueueWaitTime(), TimeUnit.MILLISECONDS)) {
+                waitTimeouts.incrementAndGet();
+                throw new SQLException("Can't obtain connection. Request to pool timed out. Max connections: "
+                        + parameters.getMaxConnections());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+
+        try {
+            PoolEntry entry = checkout();
+            activeConnections.incrementAndGet();
+            return new PooledConnection(this, entry);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String userName, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Connection pool doesn't support per-connection credentials");
+    }
+
+    /**
+     * Closes all idle connections and prevents the pool from issuing new connections. Connections that are currently
+     * checked out are closed when returned to the pool.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        PoolEntry e;
+        while ((e = idle.pollFirst()) != null) {
+            closePhysical(e);
+        }
+    }
+
+    /**
+     * Returns the number of connections currently checked out from the pool.
+     */
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    /**
+     * Returns the number of open connections currently sitting in the pool.
+     */
+    public int getIdleConnections() {
+        return idle.size();
+    }
+
+    /**
+     * Returns an estimate of the number of threads waiting for a connection.
+     */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Returns the total number of physical connections opened by the pool.
+     */
+    public long getCreatedConnections() {
+        return createdConnections.get();
+    }
+
+    /**
+     * Returns the total number of physical connections closed by the pool.
+     */
+    public long getClosedConnections() {
+        return closedConnections.get();
+    }
+
+    /**
+     * Returns the total number of requests that failed, as no connection was available within the max wait time.
+     */
+    public long getWaitTimeouts() {
+        return waitTimeouts.get();
+    }
+
+    public PoolingDataSourceParameters getParameters() {
+        return parameters;
+    }
+
+    void release(PoolEntry entry) {
+
+        activeConnections.decrementAndGet();
+
+        try {
+            long now = System.currentTimeMillis();
+            if (closed || isExpired(entry, now) || !reset(entry)) {
+                closePhysical(entry);
+            } else {
+                entry.released(now);
+                idle.offerFirst(entry);
+
+                // the pool may have been closed after the check above, and "close()" may have already drained the
+                // idle connections, so the connection would never be closed. Whoever removes it first, closes it
+                if (closed && idle.remove(entry)) {
+                    closePhysical(entry);
+                }
+            }
+
+            evictIdle(now);
+        } finally {
+            permits.release();
+        }
+    }
+
+    void discard(PoolEntry entry) {
+        activeConnections.decrementAndGet();
+        closedConnections.incrementAndGet();
+        permits.release();
+    }
+
+    private PoolEntry checkout() throws SQLException {
+
+        long now = System.currentTimeMillis();
+        evictIdle(now);
+
+        PoolEntry e;
+        while ((e = idle.pollFirst()) != null) {
+
+            if (isExpired(e, now)) {
+                closePhysical(e);
+                continue;
+            }
+
+            if (now - e.getLastReleasedAt() > VALIDATION_BYPASS_MS && !isValid(e)) {
+                LOGGER.debug("Discarding invalid connection");
+                closePhysical(e);
+                continue;
+            }
+
+            return e;
+        }
+
+        return createEntry(now);
+    }
+
+    private PoolEntry createEntry(long now) throws SQLException {
+        Connection c = nonPoolingDataSource.getConnection();
+
+        try {
+            PoolEntry e = new PoolEntry(
+                    c,
+                    c.getAutoCommit(),
+                    c.getTransactionIsolation(),
+                    c.isReadOnly(),
+                    now,
+                    parameters.getStatementCacheSize());
+
+            createdConnections.incrementAndGet();
+            return e;
+        } catch (SQLException | RuntimeException e) {
+            try {
+                c.close();
+            } catch (SQLException ignored) {
+            }
+
+            throw e;
+        }
+    }
+
+    private boolean isExpired(PoolEntry e, long now) {
+        long maxLifetime = parameters.getMaxLifetime();
+        return maxLifetime > 0 && now - e.getCreatedAt() > maxLifetime;
+    }
+
+    private boolean isIdleTooLong(PoolEntry e, long now) {
+        long maxIdleTime = parameters.getMaxIdleTime();
+        return maxIdleTime > 0 && now - e.getLastReleasedAt() > maxIdleTime;
+    }
+
+    private void evictIdle(long now) {
+
+        PoolEntry e;
+        while ((e = idle.peekLast()) != null && (isIdleTooLong(e, now) || isExpired(e, now))) {
+
+            // another thread may have taken this connection already
+            if (idle.removeLastOccurrence(e)) {
+                closePhysical(e);
+            }
+        }
+    }
+
+    private boolean isValid(PoolEntry e) {
+
+        Connection c = e.getConnection();
+        String validationQuery = parameters.getValidationQuery();
+
+        try {
+            if (validationQuery == null) {
+                return c.isValid(parameters.getValidationTimeout());
+            }
+
+            try (Statement st = c.createStatement()) {
+                st.setQueryTimeout(parameters.getValidationTimeout());
+                st.execute(validationQuery);
+            }
+
+            // end the transaction started by the query, if any
+            if (!c.getAutoCommit()) {
+                c.rollback();
+            }
+
+            return true;
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    // returns the connection to the state it was when created
+    private boolean reset(PoolEntry e) {
+
+        if (e.isStateChanged()) {
+            LOGGER.debug("Connection settings were changed, discarding");
+            return false;
+        }
+
+        Connection c = e.getConnection();
+        try {
+            if (!c.getAutoCommit()) {
+                // discard uncommitted changes
+                c.rollback();
+            }
+
+            // isolation and read-only mode can only be changed outside a transaction, so restore them after rollback
+            if (c.getTransactionIsolation() != e.getInitialIsolation()) {
+                c.setTransactionIsolation(e.getInitialIsolation());
+            }
+
+            if (c.isReadOnly() != e.isInitialReadOnly()) {
+                c.setReadOnly(e.isInitialReadOnly());
+            }
+
+            if (c.getAutoCommit() != e.isInitialAutoCommit()) {
+                c.setAutoCommit(e.isInitialAutoCommit());
+            }
+
+            c.clearWarnings();
+            return true;
+        } catch (SQLException ex) {
+            LOGGER.debug("Error resetting connection, discarding", ex);
+            return false;
+        }
+    }
+
+    private void closePhysical(PoolEntry e) {
+        closedConnections.incrementAndGet();
+
+        PreparedStatementCache statementCache = e.getStatementCache();
+        if (statementCache != null) {
+            statementCache.close();
+        }
+
+        try {
+            e.getConnection().close();
+        } catch (SQLException ex) {
+            LOGGER.debug("Error closing connection", ex);
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return nonPoolingDataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        nonPoolingDataSource.setLogWriter(out);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return nonPoolingDataSource.getLoginTimeout();
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        nonPoolingDataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+}
@@ -0,0 +1,124 @@
+package com.nhl.dflib.jdbc.datasource;
+
+/**
+ * Configuration of the {@link PoolingDataSource}. All time intervals are in milliseconds.
+ *
+ * @since 0.8
+ */
+// based on Cayenne PoolingDataSourceParameters
+public class PoolingDataSourceParameters {
+
+    private int maxConnections;
+    private long maxQueueWaitTime;
+    private long maxIdleTime;
+    private long maxLifetime;
+    private String validationQuery;
+    private int validationTimeout;
+    private int statementCacheSize;
+
+    public PoolingDataSourceParameters() {
+        this.maxConnections = 10;
+        this.maxQueueWaitTime = 20_000;
+        this.maxIdleTime = 600_000;
+        this.maxLifetime = 1_800_000;
+        this.validationTimeout = 5;
+    }
+
+    /**
+     * Sets the max number of physical connections that the pool can open at the same time.
+     */
+    public PoolingDataSourceParameters maxConnections(int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Invalid max connections: " + maxConnections);
+        }
+
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    /**
+     * Sets how long a caller should wait for a connection when all connections are checked out, before failing
+     * with an exception.
+     */
+    public PoolingDataSourceParameters maxQueueWaitTime(long ms) {
+        this.maxQueueWaitTime = ms;
+        return this;
+    }
+
+    /**
+     * Sets how long an unused connection can stay in the pool before being closed. Zero or negative value means idle
+     * connections are never closed.
+     */
+    public PoolingDataSourceParameters maxIdleTime(long ms) {
+        this.maxIdleTime = ms;
+        return this;
+    }
+
+    /**
+     * Sets the max age of a physical connection, after which it is closed when returned to the pool or before it is
+     * handed to the caller. Zero or negative value means unlimited connection age.
+     */
+    public PoolingDataSourceParameters maxLifetime(long ms) {
+        this.maxLifetime = ms;
+        return this;
+    }
+
+    /**
+     * Sets a SQL query used to check whether an idle connection is still alive before handing it to the caller. If
+     * not set, {@link java.sql.Connection#isValid(int)} is used.
+     */
+    public PoolingDataSourceParameters validationQuery(String validationQuery) {
+        this.validationQuery = validationQuery;
+        return this;
+    }
+
+    /**
+     * Sets a timeout in seconds for the connection validation.
+     */
+    public PoolingDataSourceParameters validationTimeout(int seconds) {
+        this.validationTimeout = seconds;
+        return this;
+    }
+
+    /**
+     * Sets the max number of PreparedStatements cached per physical connection. Cached statements are reused when the
+     * same SQL is executed again over the same connection, even if the connection was returned to the pool in
+     * between. Zero (the default) disables statement caching.
+     */
+    public PoolingDataSourceParameters statementCacheSize(int statementCacheSize) {
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("Invalid statement cache size: " + statementCacheSize);
+        }
+
+        this.statementCacheSize = statementCacheSize;
+        return this;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public long getMaxQueueWaitTime() {
+        return maxQueueWaitTime;
+    }
+
+    public long getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    public long getMaxLifetime() {
+        return maxLifetime;
+    }
+
+    public String getValidationQuery() {
+        return validationQuery;
+    }
+
+    public int getValidationTimeout() {
+        return validationTimeout;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+}
@@ -1,6 +1,11 @@
 package com.nhl.dflib.jdbc.connector;
 
+import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.connector.tx.Tx;
+import com.nhl.dflib.jdbc.connector.tx.TxIsolation;
+import com.nhl.dflib.jdbc.datasource.PoolingDataSource;
+import com.nhl.dflib.jdbc.datasource.PoolingDataSourceParameters;
 import io.bootique.jdbc.test.derby.DerbyListener;
 import io.bootique.log.DefaultBootLogger;
 import org.junit.After;
@@ -68,4 +73,74 @@ public class JdbcConnectorBuilder_IT {
             c3.commit();
         }
     }
+
+    @Test
+    public void testBuild_Pool() throws SQLException {
+
+        JdbcConnector connector = Jdbc.connector(DERBY_URL)
+                .pool(new PoolingDataSourceParameters().maxConnections(2))
+                .build();
+
+        PoolingDataSource pool = (PoolingDataSource) connector.getDataSource();
+
+        try (Connection c1 = connector.getConnection()) {
+            try (PreparedStatement st = c1.prepareStatement("create table \"x\" (\"id\" int)")) {
+                st.executeUpdate();
+            }
+
+            c1.commit();
+        }
+
+        for (int i = 0; i < 5; i++) {
+            connector.tableSaver("x").save(DataFrame.newFrame("id").foldByRow(i));
+            assertEquals(i + 1, connector.tableLoader("x").load().height());
+        }
+
+        assertEquals(0, pool.getActiveConnections());
+
+        // metadata loading may require a second connection while the first one is in use
+        assertTrue(pool.getCreatedConnections() <= 2);
+        assertEquals(0, pool.getClosedConnections());
+
+        pool.close();
+        assertEquals(0, pool.getIdleConnections());
+    }
+
+    @Test
+    public void testBuild_Pool_TxSettingsReset() throws SQLException {
+
+        JdbcConnector connector = Jdbc.connector(DERBY_URL)
+                .pool(new PoolingDataSourceParameters().maxConnections(1))
+                .build();
+
+        PoolingDataSource pool = (PoolingDataSource) connector.getDataSource();
+
+        int initialIsolation;
+        try (Connection c1 = connector.getConnection()) {
+            initialIsolation = c1.getTransactionIsolation();
+        }
+
+        assertNotEquals(Connection.TRANSACTION_SERIALIZABLE, initialIsolation);
+
+        Tx.newTransaction(connector)
+                .isolation(TxIsolation.serializable)
+                .run(c -> assertNotNull(c.getMetadata()));
+
+        try (Connection c2 = connector.getConnection()) {
+            assertEquals(initialIsolation, c2.getTransactionIsolation());
+            c2.setReadOnly(true);
+        }
+
+        try (Connection c3 = connector.getConnection()) {
+            assertFalse(c3.isReadOnly());
+            c3.setSchema("APP");
+        }
+
+        // the connection with a changed schema must not be reused
+        try (Connection c4 = connector.getConnection()) {
+            assertEquals(2, pool.getCreatedConnections());
+        }
+
+        pool.close();
+    }
 }
@@ -2,7 +2,9 @@ package com.nhl.dflib.jdbc.connector;
 
 import com.nhl.dflib.jdbc.Jdbc;
 import com.nhl.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import com.nhl.dflib.jdbc.connector.metadata.DbMetadata;
 import com.nhl.dflib.jdbc.connector.metadata.DbTableMetadata;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
 import com.nhl.dflib.jdbc.unit.BaseDbTest;
 import org.junit.Test;
 
@@ -45,4 +47,44 @@ public class JdbcConnector_MetadataIT extends BaseDbTest {
         assertFalse(salary.isPk());
         assertTrue(salary.isNullable());
     }
+
+    @Test
+    public void testGetMetadata_Cached() {
+
+        DbMetadata md = createConnector().getMetadata();
+        DbTableMetadata t1 = md.getTable("t1");
+        assertSame(t1, md.getTable("t1"));
+
+        md.invalidateTable(t1.getName());
+        DbTableMetadata t1_reloaded = md.getTable("t1");
+        assertNotSame(t1, t1_reloaded);
+        assertEquals(3, t1_reloaded.getColumns().length);
+    }
+
+    @Test
+    public void testPreloadTables() {
+
+        DbMetadata md = createConnector().getMetadata();
+        md.preloadTables(3, "t1", "t2", "t3");
+
+        assertEquals(3, md.getTable("t1").getColumns().length);
+        assertEquals(9, md.getTable("t2").getColumns().length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPreloadTables_Threads() {
+        createConnector().getMetadata().preloadTables(0, "t1");
+    }
+
+    @Test
+    public void testGetReferencedTables() {
+
+        DbMetadata md = createConnector().getMetadata();
+
+        TableFQName[] t4Refs = md.getReferencedTables(md.parseTableName("t4"));
+        assertEquals(1, t4Refs.length);
+        assertEquals("t1", t4Refs[0].getTable());
+
+        assertEquals(0, md.getReferencedTables(md.parseTableName("t1")).length);
+    }
 }
@@ -0,0 +1,112 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class JdbcConnector_MetricsIT extends BaseDbTest {
+
+    private RecordingMetrics metrics;
+    private JdbcConnector connector;
+
+    @Before
+    public void createConnector() {
+        this.metrics = new RecordingMetrics();
+        this.connector = Jdbc.connector(getDataSource(), metrics);
+    }
+
+    @Test
+    public void testLoad() {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.);
+
+        connector.tableLoader("t1").load();
+
+        assertTrue(metrics.connections.get() > 0);
+        assertEquals(1, metrics.queries.size());
+        assertTrue(metrics.queries.get(0).contains("t1"));
+        assertEquals(1, metrics.loadedFrames.size());
+        assertEquals(Integer.valueOf(2), metrics.loadedFrames.get(0));
+    }
+
+    @Test
+    public void testStream() {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.);
+
+        connector.sqlLoader("SELECT * FROM \"t1\"").stream(2, df -> {
+        });
+
+        assertEquals(1, metrics.queries.size());
+        assertEquals(2, metrics.loadedFrames.size());
+        assertEquals(Integer.valueOf(2), metrics.loadedFrames.get(0));
+        assertEquals(Integer.valueOf(1), metrics.loadedFrames.get(1));
+    }
+
+    @Test
+    public void testSave() {
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 50_000.01,
+                2L, "n2", 120_000.,
+                3L, "n3", 1_000.);
+
+        connector.tableSaver("t1").batchSize(2).save(df);
+
+        assertEquals(2, metrics.updateBatchSizes.size());
+        assertEquals(Integer.valueOf(2), metrics.updateBatchSizes.get(0));
+        assertEquals(Integer.valueOf(1), metrics.updateBatchSizes.get(1));
+        assertEquals(3, metrics.rowsWritten);
+
+        assertEquals(1, metrics.savedTables.size());
+        assertEquals(TableFQName.forName("t1"), metrics.savedTables.get(0));
+    }
+
+    static class RecordingMetrics implements JdbcMetrics {
+
+        final AtomicInteger connections = new AtomicInteger();
+        final List<String> queries = new ArrayList<>();
+        final List<Integer> loadedFrames = new ArrayList<>();
+        final List<Integer> updateBatchSizes = new ArrayList<>();
+        final List<TableFQName> savedTables = new ArrayList<>();
+        long rowsWritten;
+
+        @Override
+        public void connectionAcquired(long nanos) {
+            connections.incrementAndGet();
+        }
+
+        @Override
+        public void queryExecuted(String sql, long nanos) {
+            queries.add(sql);
+        }
+
+        @Override
+        public void updateExecuted(String sql, int batchSize, long rowsWritten, long nanos) {
+            updateBatchSizes.add(batchSize);
+            this.rowsWritten += rowsWritten;
+        }
+
+        @Override
+        public void dataFrameLoaded(int rows, long nanos) {
+            loadedFrames.add(rows);
+        }
+
+        @Override
+        public void dataFrameSaved(TableFQName table, int rows, long nanos) {
+            savedTables.add(table);
+        }
+    }
+}
@@ -9,6 +9,10 @@ import org.junit.Test;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class SqlLoaderIT extends BaseDbTest {
 
@@ -63,6 +67,30 @@ public class SqlLoaderIT extends BaseDbTest {
                 .expectRow(1, 2L, "n2", 120_000.);
     }
 
+    @Test
+    public void testFetchSize() {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 20_000.);
+
+        DataFrame df = createConnector()
+                .sqlLoader("SELECT * from \"t1\" ORDER BY \"id\"")
+                .fetchSize(2)
+                .load();
+
+        new DataFrameAsserts(df, columnNames(T1))
+                .expectHeight(3)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, "n2", 120_000.)
+                .expectRow(2, 3L, "n3", 20_000.);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFetchSize_Negative() {
+        createConnector().sqlLoader("SELECT * from \"t1\"").fetchSize(-1);
+    }
+
     @Test
     public void testParams() {
 
@@ -112,4 +140,100 @@ public class SqlLoaderIT extends BaseDbTest {
                 .expectBooleanColumns(3)
                 .expectRow(0, -15, Long.MAX_VALUE - 1, 0.505, true);
     }
+
+    @Test
+    public void testPrimitives_Nullable() {
+
+        T2.insertColumns("bigint", "int", "double")
+                .values(1L, 2, 3.5)
+                .values(4L, 5, 6.5)
+                .exec();
+
+        DataFrame df = createConnector()
+                .sqlLoader("SELECT \"bigint\", \"int\", \"double\" from \"t2\" ORDER BY \"bigint\"")
+                .load();
+
+        new DataFrameAsserts(df, "bigint", "int", "double")
+                .expectHeight(2)
+                .expectLongColumns(0)
+                .expectIntColumns(1)
+                .expectDoubleColumns(2)
+                .expectRow(0, 1L, 2, 3.5)
+                .expectRow(1, 4L, 5, 6.5);
+    }
+
+    @Test
+    public void testPrimitives_Nullable_Nulls() {
+
+        T2.insertColumns("bigint", "int", "double")
+                .values(1L, null, 3.5)
+                .values(4L, 5, null)
+                .exec();
+
+        DataFrame df = createConnector()
+                .sqlLoader("SELECT \"bigint\", \"int\", \"double\" from \"t2\" ORDER BY \"bigint\"")
+                .load();
+
+        new DataFrameAsserts(df, "bigint", "int", "double")
+                .expectHeight(2)
+                .expectLongColumns(0)
+                .expectRow(0, 1L, null, 3.5)
+                .expectRow(1, 4L, 5, null);
+    }
+
+    @Test
+    public void testPrimitives_Nullable_NullsAsSentinel() {
+
+        T2.insertColumns("bigint", "int", "double")
+                .values(1L, null, 3.5)
+                .values(4L, 5, null)
+                .exec();
+
+        DataFrame df = createConnector()
+                .sqlLoader("SELECT \"bigint\", \"int\", \"double\" from \"t2\" ORDER BY \"bigint\"")
+                .numericNullsAs(-1)
+                .load();
+
+        new DataFrameAsserts(df, "bigint", "int", "double")
+                .expectHeight(2)
+                .expectLongColumns(0)
+                .expectIntColumns(1)
+                .expectDoubleColumns(2)
+                .expectRow(0, 1L, -1, 3.5)
+                .expectRow(1, 4L, 5, -1.);
+    }
+
+    @Test
+    public void testLoadAsync() throws ExecutionException, InterruptedException {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<DataFrame> future = createConnector()
+                    .sqlLoader("SELECT \"id\", \"salary\" from \"t1\" WHERE \"id\" > 1")
+                    .loadAsync(executor);
+
+            new DataFrameAsserts(future.get(), "id", "salary")
+                    .expectHeight(1)
+                    .expectRow(0, 2L, 120_000.);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void testLoadAsync_Error() throws ExecutionException, InterruptedException {
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            createConnector()
+                    .sqlLoader("SELECT * from \"no_such_table\"")
+                    .loadAsync(executor)
+                    .get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,133 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SqlLoader_StreamIT extends BaseDbTest {
+
+    private static final String SQL = "SELECT \"id\", \"name\" from \"t1\" ORDER BY \"id\"";
+
+    private JdbcConnector createConnector() {
+        return Jdbc.connector(getDataSource());
+    }
+
+    private void insert5() {
+        T1.insertColumns("id", "name")
+                .values(1L, "n1")
+                .values(2L, "n2")
+                .values(3L, "n3")
+                .values(4L, "n4")
+                .values(5L, "n5")
+                .exec();
+    }
+
+    @Test
+    public void testStream() {
+
+        insert5();
+
+        List<DataFrame> batches = new ArrayList<>();
+        try (DataFrameBatchIterator it = createConnector().sqlLoader(SQL).stream(2)) {
+            it.forEachRemaining(batches::add);
+        }
+
+        assertEquals(3, batches.size());
+
+        new DataFrameAsserts(batches.get(0), "id", "name")
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1")
+                .expectRow(1, 2L, "n2");
+
+        new DataFrameAsserts(batches.get(1), "id", "name")
+                .expectHeight(2)
+                .expectRow(0, 3L, "n3")
+                .expectRow(1, 4L, "n4");
+
+        new DataFrameAsserts(batches.get(2), "id", "name")
+                .expectHeight(1)
+                .expectRow(0, 5L, "n5");
+    }
+
+    @Test
+    public void testStream_ExactBatches() {
+
+        insert5();
+
+        List<DataFrame> batches = new ArrayList<>();
+        createConnector().sqlLoader(SQL).stream(5, batches::add);
+
+        assertEquals(1, batches.size());
+        new DataFrameAsserts(batches.get(0), "id", "name").expectHeight(5);
+    }
+
+    @Test
+    public void testStream_MaxRows() {
+
+        insert5();
+
+        List<DataFrame> batches = new ArrayList<>();
+        createConnector().sqlLoader(SQL).maxRows(3).stream(2, batches::add);
+
+        assertEquals(2, batches.size());
+        new DataFrameAsserts(batches.get(0), "id", "name").expectHeight(2);
+        new DataFrameAsserts(batches.get(1), "id", "name")
+                .expectHeight(1)
+                .expectRow(0, 3L, "n3");
+    }
+
+    @Test
+    public void testStream_Params() {
+
+        insert5();
+
+        List<DataFrame> batches = new ArrayList<>();
+        createConnector()
+                .sqlLoader("SELECT \"id\", \"name\" from \"t1\" WHERE \"id\" > ? ORDER BY \"id\"")
+                .params(3L)
+                .stream(10, batches::add);
+
+        assertEquals(1, batches.size());
+        new DataFrameAsserts(batches.get(0), "id", "name")
+                .expectHeight(2)
+                .expectRow(0, 4L, "n4")
+                .expectRow(1, 5L, "n5");
+    }
+
+    @Test
+    public void testStream_Empty() {
+
+        try (DataFrameBatchIterator it = createConnector().sqlLoader(SQL).stream(2)) {
+            assertFalse(it.hasNext());
+            assertArrayEquals(new String[]{"id", "name"}, it.getColumnsIndex().getLabels());
+        }
+    }
+
+    @Test
+    public void testStream_CloseEarly() {
+
+        insert5();
+
+        JdbcConnector connector = createConnector();
+        try (DataFrameBatchIterator it = connector.sqlLoader(SQL).stream(2)) {
+            assertTrue(it.hasNext());
+            new DataFrameAsserts(it.next(), "id", "name").expectHeight(2);
+        }
+
+        // must be able to continue working with the DB after abandoning the stream
+        DataFrame df = connector.sqlLoader(SQL).load();
+        new DataFrameAsserts(df, "id", "name").expectHeight(5);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStream_Sampling() {
+        createConnector().sqlLoader(SQL).sampleRows(2).stream(2);
+    }
+}
@@ -2,13 +2,28 @@ package com.nhl.dflib.jdbc.connector;
 
 import com.nhl.dflib.DataFrame;
 import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.connector.tx.TxConnectionWrapper;
+import com.nhl.dflib.jdbc.connector.tx.TxJdbcConnector;
 import com.nhl.dflib.jdbc.unit.BaseDbTest;
 import com.nhl.dflib.unit.DataFrameAsserts;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class TableLoaderIT extends BaseDbTest {
 
@@ -133,6 +148,156 @@ public class TableLoaderIT extends BaseDbTest {
                 .expectRow(0, "n3", 11_000.);
     }
 
+    @Test
+    public void testEq_Batches() {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 11_000.)
+                .insert(4L, "n4", 12_000.)
+                .insert(5L, "n5", 13_000.);
+
+        DataFrame matcher = DataFrame.newFrame("id").foldByRow(5L, 1L, 3L, 4L, 8L);
+
+        DataFrame df = createConnector()
+                .tableLoader("t1")
+                .eq(matcher)
+                .eqBatchSize(2)
+                .includeColumns("id", "name")
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, "id", "name")
+                .expectHeight(4)
+                .expectRow(0, 1L, "n1")
+                .expectRow(1, 3L, "n3")
+                .expectRow(2, 4L, "n4")
+                .expectRow(3, 5L, "n5");
+    }
+
+    @Test
+    public void testEq_Batches_Duplicates() {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 11_000.);
+
+        // duplicate keys end up in different batches
+        DataFrame matcher = DataFrame.newFrame("id").foldByRow(1L, 3L, 1L, 2L, 3L, 1L);
+
+        DataFrame df = createConnector()
+                .tableLoader("t1")
+                .eq(matcher)
+                .eqBatchSize(2)
+                .includeColumns("id", "name")
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, "id", "name")
+                .expectHeight(3)
+                .expectRow(0, 1L, "n1")
+                .expectRow(1, 2L, "n2")
+                .expectRow(2, 3L, "n3");
+    }
+
+    @Test
+    public void testEq_Batches_MaxRows() {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 11_000.)
+                .insert(4L, "n4", 12_000.);
+
+        DataFrame matcher = DataFrame.newFrame("id").foldByRow(1L, 2L, 3L, 4L);
+
+        DataFrame df = createConnector()
+                .tableLoader("t1")
+                .eq(matcher)
+                .eqBatchSize(2)
+                .maxRows(3)
+                .includeColumns("id")
+                .load();
+
+        assertEquals(3, df.height());
+    }
+
+    @Test
+    public void testEq_Batches_MultiColumn_Parallel() {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 11_000.)
+                .insert(4L, "n4", 12_000.);
+
+        DataFrame matcher = DataFrame.newFrame("id", "name").foldByRow(
+                1L, "n1",
+                2L, "nX",
+                3L, "n3",
+                4L, "n4");
+
+        DataFrame df = createConnector()
+                .tableLoader("t1")
+                .eq(matcher)
+                .eqBatchSize(1)
+                .eqThreads(3)
+                .includeColumns("id", "salary")
+                .load();
+
+        // batch results must be concatenated in the order of batches
+        new DataFrameAsserts(df, "id", "salary")
+                .expectHeight(3)
+                .expectRow(0, 1L, 50_000.01)
+                .expectRow(1, 3L, 11_000.)
+                .expectRow(2, 4L, 12_000.);
+    }
+
+    @Test
+    public void testEq_Batches_Parallel_Tx() throws SQLException {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 11_000.);
+
+        DataFrame matcher = DataFrame.newFrame("id").foldByRow(1L, 2L, 3L);
+
+        JdbcConnector connector = createConnector();
+        Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+
+        try (Connection connection = connector.getConnection()) {
+
+            // record the threads using the transaction connection
+            Connection recording = (Connection) Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class[]{Connection.class},
+                    (proxy, method, args) -> {
+                        threads.add(Thread.currentThread());
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+
+            DataFrame df = new TxJdbcConnector(connector, new TxConnectionWrapper(recording))
+                    .tableLoader("t1")
+                    .eq(matcher)
+                    .eqBatchSize(1)
+                    .eqThreads(3)
+                    .includeColumns("id")
+                    .load();
+
+            new DataFrameAsserts(df, "id")
+                    .expectHeight(3)
+                    .expectRow(0, 1L)
+                    .expectRow(1, 2L)
+                    .expectRow(2, 3L);
+        }
+
+        // batches must run sequentially on the calling thread, as they share the transaction connection
+        assertEquals(1, threads.size());
+        assertTrue(threads.contains(Thread.currentThread()));
+    }
+
     @Test
     public void testEq_EmptyCondition() {
 
@@ -167,4 +332,32 @@ public class TableLoaderIT extends BaseDbTest {
 
         new DataFrameAsserts(df, "name", "salary").expectHeight(0);
     }
+
+    @Test
+    public void testLoadAsync_Concurrent() {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.);
+
+        T3.insertColumns("int", "long", "double", "boolean").values(5, 6L, 7.5, true).exec();
+
+        JdbcConnector connector = createConnector();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<DataFrame> f1 = connector.tableLoader("t1").loadAsync(executor);
+            CompletableFuture<DataFrame> f3 = connector.tableLoader("t3").loadAsync(executor);
+            CompletableFuture.allOf(f1, f3).join();
+
+            new DataFrameAsserts(f1.join(), columnNames(T1))
+                    .expectHeight(2)
+                    .expectRow(0, 1L, "n1", 50_000.01)
+                    .expectRow(1, 2L, "n2", 120_000.);
+
+            new DataFrameAsserts(f3.join(), columnNames(T3))
+                    .expectHeight(1)
+                    .expectRow(0, 5, 6L, 7.5, true);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
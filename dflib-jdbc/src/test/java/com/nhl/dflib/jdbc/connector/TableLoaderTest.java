@@ -0,0 +1,123 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.connector.metadata.DbFlavor;
+import com.nhl.dflib.jdbc.connector.metadata.DbMetadata;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TableLoaderTest {
+
+    private static JdbcConnector mockConnector(DbFlavor flavor) {
+
+        DbMetadata metadata = mock(DbMetadata.class);
+        when(metadata.getFlavor()).thenReturn(flavor);
+
+        JdbcConnector connector = mock(JdbcConnector.class);
+        when(connector.getMetadata()).thenReturn(metadata);
+        when(connector.quoteIdentifier(anyString())).then(i -> "\"" + i.getArguments()[0] + "\"");
+        when(connector.quoteTableName(any(TableFQName.class))).then(i -> "\"" + i.getArguments()[0] + "\"");
+        return connector;
+    }
+
+    private static TableLoader loader(DbFlavor flavor) {
+        return new TableLoader(mockConnector(flavor), TableFQName.forName("t")).includeColumns("a", "b");
+    }
+
+    @Test
+    public void testBuildSql_NoLimit() {
+        assertEquals("select \"a\", \"b\" from \"t\"", loader(DbFlavor.DERBY).buildSql());
+    }
+
+    @Test
+    public void testBuildSql_Limit() {
+        assertEquals("select \"a\", \"b\" from \"t\" limit 5",
+                loader(DbFlavor.POSTGRES).maxRows(5).buildSql());
+        assertEquals("select \"a\", \"b\" from \"t\" limit 5",
+                loader(DbFlavor.MYSQL).maxRows(5).buildSql());
+        assertEquals("select \"a\", \"b\" from \"t\" limit 5",
+                loader(DbFlavor.MARIA_DB).maxRows(5).buildSql());
+    }
+
+    @Test
+    public void testBuildGroupSql() {
+        SqlAggregator<?>[] aggregators = {
+                SqlAggregator.first("a"),
+                SqlAggregator.countLong(),
+                SqlAggregator.sumDouble("b"),
+                SqlAggregator.averageDouble("b")
+        };
+
+        assertEquals("select \"a\", count(*), sum(\"b\"), avg(1.0E0 * \"b\") from \"t\" group by \"a\" order by \"a\"",
+                loader(DbFlavor.DERBY).buildGroupSql(new String[]{"a"}, aggregators));
+    }
+
+    @Test
+    public void testBuildSql_FetchFirst() {
+        assertEquals("select \"a\", \"b\" from \"t\" fetch first 5 rows only",
+                loader(DbFlavor.DERBY).maxRows(5).buildSql());
+    }
+
+    @Test
+    public void testBuildSql_Top() {
+        assertEquals("select top 5 \"a\", \"b\" from \"t\"",
+                loader(DbFlavor.SQLSERVER).maxRows(5).buildSql());
+    }
+
+    @Test
+    public void testBuildSql_UnknownFlavor() {
+        // must rely on Statement.setMaxRows
+        assertEquals("select \"a\", \"b\" from \"t\"", loader(DbFlavor.OTHER).maxRows(5).buildSql());
+    }
+
+    @Test
+    public void testBuildSql_EqMultiColumn() {
+
+        DataFrame condition = DataFrame.newFrame("a", "b").foldByRow(1, 2, 3, 4);
+
+        assertEquals("select \"a\", \"b\" from \"t\" where (\"a\" = ? and \"b\" = ?) or (\"a\" = ? and \"b\" = ?)",
+                loader(DbFlavor.DERBY).eq(condition).buildSql());
+    }
+
+    @Test
+    public void testBuildSql_EqMultiColumn_RowValueIn() {
+
+        DataFrame condition = DataFrame.newFrame("a", "b").foldByRow(1, 2, 3, 4);
+
+        JdbcConnector connector = mockConnector(DbFlavor.POSTGRES);
+        when(connector.getMetadata().supportsRowValueIn()).thenReturn(true);
+        TableLoader loader = new TableLoader(connector, TableFQName.forName("t")).includeColumns("a", "b");
+
+        assertEquals("select \"a\", \"b\" from \"t\" where (\"a\", \"b\") in ((?, ?), (?, ?))",
+                loader.eq(condition).buildSql());
+    }
+
+    @Test
+    public void testResolveEqBatchSize() {
+
+        DataFrame condition = DataFrame.newFrame("a", "b", "c").foldByRow(1, 2, 3);
+
+        JdbcConnector connector = mockConnector(DbFlavor.SQLSERVER);
+        when(connector.getMetadata().getMaxBindParameters()).thenReturn(2_100);
+        TableLoader loader = new TableLoader(connector, TableFQName.forName("t")).eq(condition);
+
+        assertEquals(700, loader.resolveEqBatchSize());
+        assertEquals(5, loader.eqBatchSize(5).resolveEqBatchSize());
+    }
+
+    @Test
+    public void testBuildSql_PartitionSortedLimit() {
+        assertEquals("select \"a\", \"b\" from \"t\" where \"a\" >= 5 order by \"a\" limit 3",
+                loader(DbFlavor.POSTGRES)
+                        .partitionBy("a", 2)
+                        .sortByPartitionColumn()
+                        .maxRows(3)
+                        .buildSql("\"a\" >= 5"));
+    }
+}
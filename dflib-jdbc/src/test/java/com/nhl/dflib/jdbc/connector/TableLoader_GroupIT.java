@@ -0,0 +1,188 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.Aggregator;
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TableLoader_GroupIT extends BaseDbTest {
+
+    private JdbcConnector connector;
+
+    @Before
+    public void createConnector() {
+        this.connector = Jdbc.connector(getDataSource());
+    }
+
+    @Before
+    public void insertData() {
+        T2.insertColumns("string", "int", "bigint", "double")
+                .values("a", 1, 10L, 1.5)
+                .values("b", 2, 20L, 2.5)
+                .values("a", 4, 30L, 3.5)
+                .values("b", 5, 40L, null)
+                .values("c", 7, 50L, 4.)
+                .exec();
+    }
+
+    @Test
+    public void testAgg() {
+
+        DataFrame df = connector.tableLoader("t2")
+                .group("string")
+                .agg(
+                        SqlAggregator.first("string"),
+                        SqlAggregator.countLong(),
+                        SqlAggregator.sumInt("int"),
+                        SqlAggregator.sumLong("bigint"),
+                        SqlAggregator.averageDouble("int").named("avg_int"),
+                        SqlAggregator.<Long>max("bigint").named("max_bigint"));
+
+        new DataFrameAsserts(df, "string", "_long_count", "int", "bigint", "avg_int", "max_bigint")
+                .expectHeight(3)
+                .expectRow(0, "a", 2L, 5, 40L, 2.5, 30L)
+                .expectRow(1, "b", 2L, 7, 60L, 3.5, 40L)
+                .expectRow(2, "c", 1L, 7, 50L, 7., 50L);
+    }
+
+    @Test
+    public void testAgg_Eq() {
+
+        DataFrame df = connector.tableLoader("t2")
+                .eq(DataFrame.newFrame("string").foldByRow("a", "c"))
+                .group("string")
+                .agg(SqlAggregator.first("string"), SqlAggregator.sumDouble("double"));
+
+        new DataFrameAsserts(df, "string", "double")
+                .expectHeight(2)
+                .expectRow(0, "a", 5.)
+                .expectRow(1, "c", 4.);
+    }
+
+    @Test
+    public void testAgg_InMemoryFallback() {
+
+        // "median" has no SQL counterpart, so the rows are aggregated in memory
+        DataFrame df = connector.tableLoader("t2")
+                .includeColumns("string", "int")
+                .group("string")
+                .agg(SqlAggregator.first("string"), Aggregator.medianDouble("int"), SqlAggregator.sumInt("int").named("sum"));
+
+        new DataFrameAsserts(df, "string", "int", "sum")
+                .expectHeight(3)
+                .expectRow(0, "a", 2.5, 5)
+                .expectRow(1, "b", 3.5, 7)
+                .expectRow(2, "c", 7., 7);
+    }
+
+    @Test
+    public void testAgg_DbAndInMemoryMatch() {
+
+        // a group with no non-NULL values, and a NULL group
+        T2.insertColumns("string", "int", "bigint", "double")
+                .values("d", null, null, null)
+                .values(null, 3, 60L, 1.)
+                .exec();
+
+        DataFrame condition = DataFrame.newFrame("string").foldByRow("d", "c", "b", "a");
+
+        SqlAggregator<?>[] aggregators = {
+                SqlAggregator.first("string"),
+                SqlAggregator.countLong(),
+                SqlAggregator.sumInt("int"),
+                SqlAggregator.sumLong("bigint"),
+                SqlAggregator.sumDouble("double"),
+                SqlAggregator.averageDouble("int").named("avg_int"),
+                SqlAggregator.<Long>min("bigint").named("min_bigint")
+        };
+
+        DataFrame inDb = connector.tableLoader("t2").group("string").agg(aggregators);
+
+        // a big "eq" condition forces in-memory aggregation
+        DataFrame inMemory = connector.tableLoader("t2")
+                .eq(condition.vConcat(DataFrame.newFrame("string").foldByRow("x")))
+                .eqBatchSize(2)
+                .group("string")
+                .agg(aggregators);
+
+        DataFrame inDbEq = connector.tableLoader("t2")
+                .eq(condition.vConcat(DataFrame.newFrame("string").foldByRow("x")))
+                .group("string")
+                .agg(aggregators);
+
+        String[] labels = {"string", "_long_count", "int", "bigint", "double", "avg_int", "min_bigint"};
+
+        // on Derby NULL group goes last
+        new DataFrameAsserts(inDb, labels)
+                .expectHeight(5)
+                .expectRow(0, "a", 2L, 5, 40L, 5., 2.5, 10L)
+                .expectRow(1, "b", 2L, 7, 60L, 2.5, 3.5, 20L)
+                .expectRow(2, "c", 1L, 7, 50L, 4., 7., 50L)
+                .expectRow(3, "d", 1L, null, null, null, null, null)
+                .expectRow(4, null, 1L, 3, 60L, 1., 3., 60L);
+
+        for (DataFrame df : new DataFrame[]{inMemory, inDbEq}) {
+            new DataFrameAsserts(df, labels)
+                    .expectHeight(4)
+                    .expectRow(0, "a", 2L, 5, 40L, 5., 2.5, 10L)
+                    .expectRow(1, "b", 2L, 7, 60L, 2.5, 3.5, 20L)
+                    .expectRow(2, "c", 1L, 7, 50L, 4., 7., 50L)
+                    .expectRow(3, "d", 1L, null, null, null, null, null);
+        }
+    }
+
+    @Test
+    public void testAgg_InMemory_IncludeColumns() {
+
+        DataFrame condition = DataFrame.newFrame("string").foldByRow("a", "b", "c", "x");
+
+        SqlAggregator<?>[] aggregators = {
+                SqlAggregator.first("string"),
+                SqlAggregator.countLong(),
+                SqlAggregator.sumInt("int"),
+                SqlAggregator.<Long>min("bigint").named("min_bigint")
+        };
+
+        // "includeColumns" leaves out the aggregated columns, and must be ignored by both DB and in-memory aggregation
+        DataFrame inDb = connector.tableLoader("t2")
+                .includeColumns("double")
+                .group("string")
+                .agg(aggregators);
+
+        DataFrame inMemory = connector.tableLoader("t2")
+                .includeColumns("double")
+                .eq(condition)
+                .eqBatchSize(2)
+                .group("string")
+                .agg(aggregators);
+
+        for (DataFrame df : new DataFrame[]{inDb, inMemory}) {
+            new DataFrameAsserts(df, "string", "_long_count", "int", "min_bigint")
+                    .expectHeight(3)
+                    .expectRow(0, "a", 2L, 5, 10L)
+                    .expectRow(1, "b", 2L, 7, 20L)
+                    .expectRow(2, "c", 1L, 7, 50L);
+        }
+    }
+
+    @Test
+    public void testAgg_InMemoryNullGroupLast() {
+
+        T2.insertColumns("string", "int").values(null, 3).exec();
+
+        DataFrame df = connector.tableLoader("t2")
+                .includeColumns("string", "int")
+                .group("string")
+                .agg(SqlAggregator.first("string"), Aggregator.medianDouble("int"));
+
+        new DataFrameAsserts(df, "string", "int")
+                .expectHeight(4)
+                .expectRow(0, "a", 2.5)
+                .expectRow(1, "b", 3.5)
+                .expectRow(2, "c", 7.)
+                .expectRow(3, null, 3.);
+    }
+}
@@ -0,0 +1,209 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.connector.tx.TxConnectionWrapper;
+import com.nhl.dflib.jdbc.connector.tx.TxJdbcConnector;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import io.bootique.jdbc.test.InsertBuilder;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TableLoader_PartitionIT extends BaseDbTest {
+
+    private JdbcConnector createConnector() {
+        return Jdbc.connector(getDataSource());
+    }
+
+    private void insert(int rows) {
+        InsertBuilder insert = T1.insertColumns("id", "name");
+        for (int i = 1; i <= rows; i++) {
+            insert.values((long) i, "n" + i);
+        }
+        insert.exec();
+    }
+
+    @Test
+    public void testPartitionBy() {
+
+        insert(10);
+
+        DataFrame df = createConnector()
+                .tableLoader("t1")
+                .includeColumns("id", "name")
+                .partitionBy("id", 3)
+                .sortByPartitionColumn()
+                .load();
+
+        DataFrameAsserts asserts = new DataFrameAsserts(df, "id", "name").expectHeight(10);
+        for (int i = 0; i < 10; i++) {
+            asserts.expectRow(i, i + 1L, "n" + (i + 1));
+        }
+    }
+
+    @Test
+    public void testPartitionBy_ExplicitBounds() {
+
+        insert(10);
+
+        // the bounds do not cover all the values, still all rows must be returned
+        DataFrame df = createConnector()
+                .tableLoader("t1")
+                .includeColumns("id")
+                .partitionBy("id", 4, 3, 6)
+                .sortByPartitionColumn()
+                .load();
+
+        DataFrameAsserts asserts = new DataFrameAsserts(df, "id").expectHeight(10);
+        for (int i = 0; i < 10; i++) {
+            asserts.expectRow(i, i + 1L);
+        }
+    }
+
+    @Test
+    public void testPartitionBy_MorePartitionsThanValues() {
+
+        insert(2);
+
+        DataFrame df = createConnector()
+                .tableLoader("t1")
+                .includeColumns("id")
+                .partitionBy("id", 8)
+                .sortByPartitionColumn()
+                .load();
+
+        new DataFrameAsserts(df, "id")
+                .expectHeight(2)
+                .expectRow(0, 1L)
+                .expectRow(1, 2L);
+    }
+
+    @Test
+    public void testPartitionBy_Condition() {
+
+        insert(10);
+
+        DataFrame condition = DataFrame.newFrame("id").foldByRow(2L, 5L, 9L);
+
+        DataFrame df = createConnector()
+                .tableLoader("t1")
+                .includeColumns("id", "name")
+                .eq(condition)
+                .partitionBy("id", 3)
+                .sortByPartitionColumn()
+                .load();
+
+        new DataFrameAsserts(df, "id", "name")
+                .expectHeight(3)
+                .expectRow(0, 2L, "n2")
+                .expectRow(1, 5L, "n5")
+                .expectRow(2, 9L, "n9");
+    }
+
+    @Test
+    public void testPartitionBy_Nulls() {
+
+        T2.insertColumns("int", "string")
+                .values(1, "a")
+                .values(null, "b")
+                .values(5, "c")
+                .values(10, "d")
+                .exec();
+
+        DataFrame df = createConnector()
+                .tableLoader("t2")
+                .includeColumns("int", "string")
+                .partitionBy("int", 2)
+                .load()
+                .sort("string", true);
+
+        new DataFrameAsserts(df, "int", "string")
+                .expectHeight(4)
+                .expectRow(0, 1, "a")
+                .expectRow(1, null, "b")
+                .expectRow(2, 5, "c")
+                .expectRow(3, 10, "d");
+    }
+
+    @Test
+    public void testPartitionBy_MaxRows() {
+
+        insert(10);
+
+        DataFrame df = createConnector()
+                .tableLoader("t1")
+                .includeColumns("id")
+                .partitionBy("id", 3)
+                .maxRows(4)
+                .load();
+
+        new DataFrameAsserts(df, "id").expectHeight(4);
+    }
+
+    @Test
+    public void testPartitionBy_Empty() {
+
+        DataFrame df = createConnector()
+                .tableLoader("t1")
+                .includeColumns("id", "name")
+                .partitionBy("id", 3)
+                .load();
+
+        new DataFrameAsserts(df, "id", "name").expectHeight(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPartitionBy_InvalidBounds() {
+        createConnector().tableLoader("t1").partitionBy("id", 3, 10, 1);
+    }
+
+    @Test
+    public void testPartitionBy_Tx() throws SQLException {
+
+        insert(10);
+
+        JdbcConnector connector = createConnector();
+        Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+
+        try (Connection connection = connector.getConnection()) {
+
+            // record the threads using the transaction connection
+            Connection recording = (Connection) Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class[]{Connection.class},
+                    (proxy, method, args) -> {
+                        threads.add(Thread.currentThread());
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+
+            JdbcConnector txConnector = new TxJdbcConnector(connector, new TxConnectionWrapper(recording));
+
+            DataFrame df = txConnector
+                    .tableLoader("t1")
+                    .includeColumns("id")
+                    .partitionBy("id", 3)
+                    .sortByPartitionColumn()
+                    .load();
+
+            new DataFrameAsserts(df, "id").expectHeight(10);
+        }
+
+        assertEquals(1, threads.size());
+        assertTrue(threads.contains(Thread.currentThread()));
+    }
+}
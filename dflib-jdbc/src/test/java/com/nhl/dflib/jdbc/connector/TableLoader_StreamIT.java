@@ -0,0 +1,80 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TableLoader_StreamIT extends BaseDbTest {
+
+    private JdbcConnector createConnector() {
+        return Jdbc.connector(getDataSource());
+    }
+
+    @Test
+    public void testStream() {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 20_000.);
+
+        List<DataFrame> batches = new ArrayList<>();
+        createConnector()
+                .tableLoader("t1")
+                .includeColumns("id", "salary")
+                .stream(2, batches::add);
+
+        assertEquals(2, batches.size());
+        new DataFrameAsserts(batches.get(0), "id", "salary").expectHeight(2);
+        new DataFrameAsserts(batches.get(1), "id", "salary").expectHeight(1);
+    }
+
+    @Test
+    public void testStream_Condition() {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 20_000.);
+
+        List<DataFrame> batches = new ArrayList<>();
+        createConnector()
+                .tableLoader("t1")
+                .eq(DataFrame.newFrame("id").foldByRow(1L, 3L))
+                .eqBatchSize(2)
+                .includeColumns("id")
+                .stream(5, batches::add);
+
+        assertEquals(1, batches.size());
+        new DataFrameAsserts(batches.get(0), "id").expectHeight(2);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStream_ConditionOverBatchSize() {
+        createConnector()
+                .tableLoader("t1")
+                .eq(DataFrame.newFrame("id").foldByRow(1L, 2L, 3L))
+                .eqBatchSize(2)
+                .stream(5);
+    }
+
+    @Test
+    public void testStream_EmptyCondition() {
+
+        T1.insert(1L, "n1", 50_000.01);
+
+        try (DataFrameBatchIterator it = createConnector()
+                .tableLoader("t1")
+                .eq(DataFrame.newFrame("id").empty())
+                .stream(2)) {
+
+            assertFalse(it.hasNext());
+            assertArrayEquals(columnNames(T1).toArray(), it.getColumnsIndex().getLabels());
+        }
+    }
+}
@@ -15,6 +15,9 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
 import java.time.Year;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class TableSaverIT extends BaseDbTest {
 
@@ -143,6 +146,44 @@ public class TableSaverIT extends BaseDbTest {
                 .expectRow(3, 4L, "n4", 20_000.);
     }
 
+    @Test
+    public void testSave_MergeByPk_Chunks() {
+
+        T1.insertColumns("id", "name", "salary")
+                .values(1L, "n1", 50_000.01)
+                .values(2L, "n2", 120_000.)
+                .values(5L, "n5", 10_000.)
+                .exec();
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                5L, "n5", 10_000.,
+                4L, "n4", 20_000.,
+                1L, "n1_x", 50_000.02,
+                3L, "n3", 60_000.01);
+
+        SaveStats info = connector
+                .tableSaver("t1")
+                .mergeByPk()
+                .mergeChunkSize(3)
+                .save(df);
+
+        // statuses must be reported in the order of the original DataFrame, not the key order
+        new SeriesAsserts(info.getRowSaveStatuses()).expectData(SaveOp.skip, SaveOp.insert, SaveOp.update, SaveOp.insert);
+
+        DataFrame df3 = connector
+                .tableLoader("t1")
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df3, columnNames(T1))
+                .expectHeight(5)
+                .expectRow(0, 1L, "n1_x", 50_000.02)
+                .expectRow(1, 2L, "n2", 120_000.)
+                .expectRow(2, 3L, "n3", 60_000.01)
+                .expectRow(3, 4L, "n4", 20_000.)
+                .expectRow(4, 5L, "n5", 10_000.);
+    }
+
     @Test
     public void testSave_MergeByColumns() {
 
@@ -255,6 +296,36 @@ public class TableSaverIT extends BaseDbTest {
                 .expectRow(4, 5L, "n5_x", 9.01);
     }
 
+    @Test
+    public void testSave_MergeByPk_RowHashColumn() {
+
+        T1.insertColumns("id", "name", "salary")
+                .values(1L, "n1", 1.)
+                .values(2L, "n2", 2.)
+                .exec();
+
+        // using "salary" as a stand-in for the row hash
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1_x", 1.,
+                2L, "n2_x", 2.01);
+
+        T1_AUDIT.deleteAll();
+        SaveStats info = connector
+                .tableSaver("t1")
+                .mergeByPk()
+                .rowHashColumn("salary")
+                .save(df);
+
+        new SeriesAsserts(info.getRowSaveStatuses()).expectData(SaveOp.skip, SaveOp.update);
+        T1_AUDIT.matcher().eq("op", "UPDATE").assertMatches(1);
+
+        DataFrame saved = connector.tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, columnNames(T1))
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 1.)
+                .expectRow(1, 2L, "n2_x", 2.01);
+    }
+
     @Test
     public void testDataTypes() {
 
@@ -403,4 +474,33 @@ public class TableSaverIT extends BaseDbTest {
     }
 
     enum X {a, b}
+
+    @Test
+    public void testSaveAsync() throws ExecutionException, InterruptedException {
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 50_000.01,
+                2L, "n2", 120_000.);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SaveStats stats = connector
+                    .tableSaver("t1")
+                    .saveAsync(df, executor)
+                    .get();
+
+            new SeriesAsserts(stats.getRowSaveStatuses()).expectData(SaveOp.insert, SaveOp.insert);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        DataFrame df2 = connector
+                .tableLoader("t1")
+                .load();
+
+        new DataFrameAsserts(df2, columnNames(T1))
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, "n2", 120_000.);
+    }
 }
@@ -1,9 +1,12 @@
 package com.nhl.dflib.jdbc.connector;
 
 import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import com.nhl.dflib.jdbc.connector.saver.SaveViaBulkLoad;
+import com.nhl.dflib.jdbc.connector.saver.SaveViaDbMerge;
 import com.nhl.dflib.jdbc.connector.saver.SaveViaDeleteThenInsert;
 import com.nhl.dflib.jdbc.connector.saver.SaveViaInsert;
 import com.nhl.dflib.jdbc.connector.saver.SaveViaUpsert;
+import com.nhl.dflib.jdbc.connector.saver.TableSaveStrategy;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -58,4 +61,47 @@ public class TableSaverTest {
 
         assertEquals(SaveViaUpsert.class, saver.createSaveStrategy().getClass());
     }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCreateSaveStrategy_ParallelUpsert() {
+        new TableSaver(mock(DefaultJdbcConnector.class), TableFQName.forName("xt"))
+                .mergeByColumns("X")
+                .parallelInsert(2)
+                .createSaveStrategy();
+    }
+
+    @Test
+    public void testCreateSaveStrategy_ParallelInsert() {
+        TableSaveStrategy strategy = new TableSaver(mock(DefaultJdbcConnector.class), TableFQName.forName("xt"))
+                .parallelInsert(2)
+                .createSaveStrategy();
+
+        assertEquals(SaveViaInsert.class, strategy.getClass());
+    }
+
+    @Test
+    public void testCreateSaveStrategy_BulkLoad() {
+        TableSaver saver = new TableSaver(mock(DefaultJdbcConnector.class), TableFQName.forName("xt"))
+                .bulkLoad();
+
+        assertEquals(SaveViaBulkLoad.class, saver.createSaveStrategy().getClass());
+    }
+
+    @Test
+    public void testCreateSaveStrategy_DeleteBulkLoad() {
+        TableSaver saver = new TableSaver(mock(DefaultJdbcConnector.class), TableFQName.forName("xt"))
+                .deleteTableData()
+                .bulkLoad();
+
+        assertEquals(SaveViaBulkLoad.class, saver.createSaveStrategy().getClass());
+    }
+
+    @Test
+    public void testCreateSaveStrategy_DbMerge() {
+        TableSaver saver = new TableSaver(mock(DefaultJdbcConnector.class), TableFQName.forName("xt"))
+                .mergeByColumns("X", "Y")
+                .dbMerge();
+
+        assertEquals(SaveViaDbMerge.class, saver.createSaveStrategy().getClass());
+    }
 }
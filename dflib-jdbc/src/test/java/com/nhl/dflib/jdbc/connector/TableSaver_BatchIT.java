@@ -0,0 +1,130 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.connector.tx.Tx;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TableSaver_BatchIT extends BaseDbTest {
+
+    private JdbcConnector connector;
+
+    @Before
+    public void createConnector() {
+        this.connector = Jdbc.connector(getDataSource());
+    }
+
+    private static DataFrame rows(long... ids) {
+        Object[] data = new Object[ids.length * 3];
+        for (int i = 0; i < ids.length; i++) {
+            data[i * 3] = ids[i];
+            data[i * 3 + 1] = "n" + ids[i];
+            data[i * 3 + 2] = ids[i] * 1000.;
+        }
+
+        return DataFrame.newFrame("id", "name", "salary").foldByRow(data);
+    }
+
+    @Test
+    public void testBatchSize() {
+
+        connector.tableSaver("t1")
+                .batchSize(2)
+                .save(rows(1, 2, 3, 4, 5));
+
+        DataFrame saved = connector.tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, columnNames(T1))
+                .expectHeight(5)
+                .expectRow(0, 1L, "n1", 1000.)
+                .expectRow(4, 5L, "n5", 5000.);
+    }
+
+    @Test
+    public void testBatchSize_Failure_Atomic() {
+
+        // PK violation in the second batch
+        try {
+            connector.tableSaver("t1").batchSize(2).save(rows(1, 2, 3, 1));
+            fail("Exception expected");
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        assertEquals(0, connector.tableLoader("t1").load().height());
+    }
+
+    @Test
+    public void testIntermediateCommits() {
+
+        // PK violation in the second batch
+        try {
+            connector.tableSaver("t1").batchSize(2).intermediateCommits().save(rows(1, 2, 3, 1));
+            fail("Exception expected");
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        // the first batch must have been committed
+        DataFrame saved = connector.tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, columnNames(T1))
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 1000.)
+                .expectRow(1, 2L, "n2", 2000.);
+    }
+
+    @Test
+    public void testParallelInsert() {
+
+        SaveStats stats = connector.tableSaver("t1")
+                .parallelInsert(3)
+                .batchSize(2)
+                .save(rows(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+
+        assertEquals(10, stats.getInsertCount());
+        assertEquals(10, stats.getRowSaveStatuses().size());
+
+        DataFrame saved = connector.tableLoader("t1").load().sort("id", true);
+        DataFrameAsserts asserts = new DataFrameAsserts(saved, columnNames(T1)).expectHeight(10);
+        for (int i = 0; i < 10; i++) {
+            asserts.expectRow(i, i + 1L, "n" + (i + 1), (i + 1) * 1000.);
+        }
+    }
+
+    @Test
+    public void testParallelInsert_FewerRowsThanThreads() {
+
+        connector.tableSaver("t1")
+                .parallelInsert(4)
+                .save(rows(1, 2));
+
+        assertEquals(2, connector.tableLoader("t1").load().height());
+    }
+
+    @Test
+    public void testParallelInsert_Tx() {
+
+        try {
+            Tx.newTransaction(connector).run(c -> {
+
+                SaveStats stats = c.tableSaver("t1")
+                        .parallelInsert(3)
+                        .save(rows(1, 2, 3, 4, 5, 6));
+
+                assertEquals(6, stats.getRowSaveStatuses().size());
+                throw new IllegalStateException("rollback");
+            });
+
+            fail("Exception expected");
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        // the insert must be a part of the transaction and must be rolled back with it
+        assertEquals(0, connector.tableLoader("t1").load().height());
+    }
+}
@@ -0,0 +1,171 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.SaveOp;
+import com.nhl.dflib.jdbc.connector.tx.Tx;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.Assert.*;
+
+public class TableSaver_BulkLoadIT extends BaseDbTest {
+
+    private JdbcConnector connector;
+
+    @Before
+    public void createConnector() {
+        this.connector = Jdbc.connector(getDataSource());
+    }
+
+    @Test
+    public void test() {
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 50_000.01,
+                2L, "n2", 120_000.);
+
+        SaveStats info = connector.tableSaver("t1").bulkLoad().save(df);
+        new SeriesAsserts(info.getRowSaveStatuses()).expectData(SaveOp.insert, SaveOp.insert);
+
+        DataFrame saved = connector.tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, columnNames(T1))
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, "n2", 120_000.);
+    }
+
+    @Test
+    public void testEmpty() {
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").empty();
+
+        SaveStats info = connector.tableSaver("t1").bulkLoad().save(df);
+        new SeriesAsserts(info.getRowSaveStatuses()).expectData();
+
+        assertEquals(0, connector.tableLoader("t1").load().height());
+    }
+
+    @Test
+    public void testNullsAndSpecialChars() {
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, null, null,
+                2L, "", 2.,
+                3L, "a,\"b\"\nc", 3.);
+
+        connector.tableSaver("t1").bulkLoad().save(df);
+
+        DataFrame saved = connector.tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, columnNames(T1))
+                .expectHeight(3)
+                .expectRow(0, 1L, null, null)
+                .expectRow(1, 2L, "", 2.)
+                .expectRow(2, 3L, "a,\"b\"\nc", 3.);
+    }
+
+    @Test
+    public void testDeleteTableData() {
+
+        T1.insert(1L, "n1", 50_000.01)
+                .insert(3L, "n3", 20_000.);
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1_x", 1.,
+                2L, "n2", 2.);
+
+        connector.tableSaver("t1").bulkLoad().deleteTableData().save(df);
+
+        DataFrame saved = connector.tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, columnNames(T1))
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1_x", 1.)
+                .expectRow(1, 2L, "n2", 2.);
+    }
+
+    @Test
+    public void testDeleteTableData_Failure() {
+
+        T1.insert(1L, "n1", 50_000.01);
+
+        // duplicate key fails the load, and the DELETE must be rolled back with it
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                2L, "n2", 2.,
+                2L, "n2", 2.);
+
+        try {
+            connector.tableSaver("t1").bulkLoad().deleteTableData().save(df);
+            fail("Exception expected");
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        DataFrame saved = connector.tableLoader("t1").load();
+        new DataFrameAsserts(saved, columnNames(T1))
+                .expectHeight(1)
+                .expectRow(0, 1L, "n1", 50_000.01);
+    }
+
+    @Test
+    public void testTx() {
+
+        DataFrame df1 = DataFrame.newFrame("id", "name", "salary").foldByRow(1L, "n1", 1.);
+        DataFrame df2 = DataFrame.newFrame("id", "name", "salary").foldByRow(2L, "n2", 2.);
+
+        try {
+            Tx.newTransaction(connector).run(c -> {
+                c.tableSaver("t1").save(df1);
+                c.tableSaver("t1").bulkLoad().save(df2);
+                throw new IllegalStateException("rollback");
+            });
+
+            fail("Exception expected");
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        // the load must not commit the transaction, so both saves must be rolled back
+        assertEquals(0, connector.tableLoader("t1").load().height());
+    }
+
+    @Test
+    public void testDataTypes() {
+
+        LocalDate ld = LocalDate.of(1977, 2, 5);
+        LocalDateTime ldt = LocalDateTime.of(2019, 2, 3, 1, 2, 5);
+        LocalTime lt = LocalTime.of(5, 6, 8);
+
+        byte[] bytes = new byte[]{3, 5, 11, -1};
+        long l1 = Integer.MAX_VALUE + 1L;
+
+        DataFrame df = DataFrame.newFrame("bigint", "int", "double", "boolean", "timestamp", "time", "date", "bytes")
+                .foldByRow(
+                        l1, 1, 3.5, true, ldt, lt, ld, bytes,
+                        2L, null, null, false, null, null, null, null);
+
+        connector.tableSaver("t2").bulkLoad().save(df);
+
+        DataFrame saved = connector
+                .tableLoader("t2")
+                .includeColumns("bigint", "int", "double", "boolean", "timestamp", "time", "date", "bytes")
+                .load()
+                .sort("bigint", false);
+
+        new DataFrameAsserts(saved, df.getColumnsIndex())
+                .expectHeight(2)
+                .expectRow(0, l1, 1, 3.5, true, ldt, lt, ld, bytes)
+                .expectRow(1, 2L, null, null, false, null, null, null, null);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMerge() {
+        connector.tableSaver("t1").bulkLoad().mergeByPk().save(DataFrame.newFrame("id").foldByRow(1L));
+    }
+}
@@ -0,0 +1,129 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.SaveOp;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TableSaver_DbMergeIT extends BaseDbTest {
+
+    private JdbcConnector connector;
+
+    @Before
+    public void createConnector() {
+        this.connector = Jdbc.connector(getDataSource());
+    }
+
+    @Test
+    public void testMergeByPk() {
+
+        T1.insertColumns("id", "name", "salary")
+                .values(1L, "n1", 50_000.01)
+                .values(2L, "n2", 120_000.)
+                .exec();
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1_x", 50_000.02,
+                3L, "n3", 60_000.01,
+                4L, "n4", null);
+
+        T1_AUDIT.deleteAll();
+        SaveStats info = connector
+                .tableSaver("t1")
+                .mergeByPk()
+                .dbMerge()
+                .save(df);
+
+        // Derby doesn't distinguish between inserts and updates in the update counts
+        new SeriesAsserts(info.getRowSaveStatuses()).expectData(SaveOp.merge, SaveOp.merge, SaveOp.merge);
+        assertEquals(3, info.getMergeCount());
+
+        T1_AUDIT.matcher().eq("op", "INSERT").assertMatches(2);
+        T1_AUDIT.matcher().eq("op", "UPDATE").assertMatches(1);
+
+        DataFrame saved = connector.tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, columnNames(T1))
+                .expectHeight(4)
+                .expectRow(0, 1L, "n1_x", 50_000.02)
+                .expectRow(1, 2L, "n2", 120_000.)
+                .expectRow(2, 3L, "n3", 60_000.01)
+                .expectRow(3, 4L, "n4", null);
+    }
+
+    @Test
+    public void testMergeByColumns() {
+
+        T1.insertColumns("id", "name", "salary")
+                .values(1L, "n1", 50_000.01)
+                .values(2L, "n2", 120_000.)
+                .exec();
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 50_000.02,
+                3L, "n3", 60_000.01);
+
+        T1_AUDIT.deleteAll();
+        connector
+                .tableSaver("t1")
+                .mergeByColumns("name", "id")
+                .dbMerge()
+                .save(df);
+
+        T1_AUDIT.matcher().eq("op", "INSERT").assertMatches(1);
+        T1_AUDIT.matcher().eq("op", "UPDATE").assertMatches(1);
+
+        DataFrame saved = connector.tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, columnNames(T1))
+                .expectHeight(3)
+                .expectRow(0, 1L, "n1", 50_000.02)
+                .expectRow(1, 2L, "n2", 120_000.)
+                .expectRow(2, 3L, "n3", 60_000.01);
+    }
+
+    @Test
+    public void testMerge_KeyColumnsOnly() {
+
+        T1.insertColumns("id", "name", "salary")
+                .values(1L, "n1", 50_000.01)
+                .exec();
+
+        DataFrame df = DataFrame.newFrame("id").foldByRow(1L, 2L);
+
+        SaveStats info = connector
+                .tableSaver("t1")
+                .mergeByPk()
+                .dbMerge()
+                .save(df);
+
+        new SeriesAsserts(info.getRowSaveStatuses()).expectData(SaveOp.skip, SaveOp.merge);
+
+        DataFrame saved = connector.tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, columnNames(T1))
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, null, null);
+    }
+
+    @Test
+    public void testMerge_Empty() {
+
+        T1.insertColumns("id", "name", "salary")
+                .values(1L, "n1", 50_000.01)
+                .exec();
+
+        SaveStats info = connector
+                .tableSaver("t1")
+                .mergeByPk()
+                .dbMerge()
+                .save(DataFrame.newFrame("id", "name", "salary").empty());
+
+        assertEquals(0, info.getRowSaveStatuses().size());
+        assertEquals(1, connector.tableLoader("t1").load().height());
+    }
+}
@@ -0,0 +1,181 @@
+package com.nhl.dflib.jdbc.connector;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.SaveOp;
+import com.nhl.dflib.jdbc.connector.saver.SyncState;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.*;
+
+public class TableSaver_IncrementalSyncIT extends BaseDbTest {
+
+    private JdbcConnector connector;
+
+    @Before
+    public void createConnector() {
+        this.connector = Jdbc.connector(getDataSource());
+    }
+
+    @Test
+    public void testIncrementalSync() {
+
+        SyncState state = new SyncState();
+
+        DataFrame df1 = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 50_000.01,
+                2L, "n2", 120_000.,
+                3L, "n3", null);
+
+        SaveStats info1 = connector.tableSaver("t1").mergeByPk().incrementalSync(state).save(df1);
+        new SeriesAsserts(info1.getRowSaveStatuses()).expectData(SaveOp.insert, SaveOp.insert, SaveOp.insert);
+        assertEquals(3, state.size());
+
+        DataFrame df2 = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 50_000.01,
+                2L, "n2_x", 120_000.,
+                3L, "n3", null,
+                4L, "n4", 10.);
+
+        T1_AUDIT.deleteAll();
+        SaveStats info2 = connector.tableSaver("t1").mergeByPk().incrementalSync(state).save(df2);
+        new SeriesAsserts(info2.getRowSaveStatuses()).expectData(SaveOp.skip, SaveOp.update, SaveOp.skip, SaveOp.insert);
+        assertEquals(4, state.size());
+
+        // unchanged rows must not be sent to the DB at all
+        T1_AUDIT.matcher().assertMatches(2);
+        T1_AUDIT.matcher().eq("op", "UPDATE").eq("op_id", 2L).assertOneMatch();
+        T1_AUDIT.matcher().eq("op", "INSERT").eq("op_id", 4L).assertOneMatch();
+
+        DataFrame saved = connector.tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, columnNames(T1))
+                .expectHeight(4)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, "n2_x", 120_000.)
+                .expectRow(2, 3L, "n3", null)
+                .expectRow(3, 4L, "n4", 10.);
+    }
+
+    @Test
+    public void testIncrementalSync_DeleteMissingKeys() {
+
+        SyncState state = new SyncState();
+
+        DataFrame df1 = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 50_000.01,
+                2L, "n2", 120_000.,
+                3L, "n3", 20_000.);
+
+        connector.tableSaver("t1").mergeByPk().incrementalSync(state).deleteMissingKeys().save(df1);
+
+        DataFrame df2 = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 50_000.01,
+                3L, "n3_x", 20_000.);
+
+        SaveStats info = connector.tableSaver("t1").mergeByPk().incrementalSync(state).deleteMissingKeys().save(df2);
+        new SeriesAsserts(info.getRowSaveStatuses()).expectData(SaveOp.skip, SaveOp.update);
+        assertEquals(2, state.size());
+
+        DataFrame saved = connector.tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, columnNames(T1))
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 3L, "n3_x", 20_000.);
+    }
+
+    @Test
+    public void testIncrementalSync_DeleteMissingKeys_DecimalKey() {
+
+        SyncState state = new SyncState();
+
+        // DataFrame keys are Integers, while the DB keys are loaded as BigDecimals with a scale of 2
+        DataFrame df = DataFrame.newFrame("id", "name").foldByRow(
+                1, "n1",
+                2, "n2");
+
+        connector.tableSaver("t5").mergeByPk().incrementalSync(state).deleteMissingKeys().save(df);
+
+        SaveStats info = connector.tableSaver("t5").mergeByPk().incrementalSync(state).deleteMissingKeys().save(df);
+        new SeriesAsserts(info.getRowSaveStatuses()).expectData(SaveOp.skip, SaveOp.skip);
+
+        DataFrame saved1 = connector.tableLoader("t5").load().sort("id", true);
+        new DataFrameAsserts(saved1, "id", "name")
+                .expectHeight(2)
+                .expectRow(0, new BigDecimal("1.00"), "n1")
+                .expectRow(1, new BigDecimal("2.00"), "n2");
+
+        connector.tableSaver("t5").mergeByPk().incrementalSync(state).deleteMissingKeys().save(df.head(1));
+
+        DataFrame saved2 = connector.tableLoader("t5").load();
+        new DataFrameAsserts(saved2, "id", "name")
+                .expectHeight(1)
+                .expectRow(0, new BigDecimal("1.00"), "n1");
+    }
+
+    @Test
+    public void testIncrementalSync_FreshState() {
+
+        T1.insertColumns("id", "name", "salary")
+                .values(1L, "n1", 50_000.01)
+                .values(2L, "n2", 120_000.)
+                .exec();
+
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 50_000.01,
+                2L, "n2_x", 120_000.);
+
+        // with no state, all rows go through a regular "merge"
+        SaveStats info = connector.tableSaver("t1").mergeByPk().incrementalSync(new SyncState()).save(df);
+        new SeriesAsserts(info.getRowSaveStatuses()).expectData(SaveOp.skip, SaveOp.update);
+    }
+
+    @Test
+    public void testIncrementalSyncByHashColumn() {
+
+        DataFrame df1 = DataFrame.newFrame("int", "string").foldByRow(
+                1, "s1",
+                2, "s2",
+                3, "s3");
+
+        connector.tableSaver("t2").mergeByColumns("int").incrementalSyncByHashColumn("bigint").save(df1);
+
+        DataFrame hashes1 = connector.tableLoader("t2").includeColumns("int", "bigint").load().sort("int", true);
+        assertEquals(3, hashes1.height());
+        assertNotNull(hashes1.getColumn("bigint").get(0));
+
+        DataFrame df2 = DataFrame.newFrame("int", "string").foldByRow(
+                1, "s1",
+                2, "s2_x",
+                3, "s3",
+                4, "s4");
+
+        SaveStats info = connector.tableSaver("t2")
+                .mergeByColumns("int")
+                .incrementalSyncByHashColumn("bigint")
+                .deleteMissingKeys()
+                .save(df2.selectRows(1, 2, 3));
+
+        new SeriesAsserts(info.getRowSaveStatuses()).expectData(SaveOp.update, SaveOp.skip, SaveOp.insert);
+
+        DataFrame saved = connector.tableLoader("t2").includeColumns("int", "string", "bigint").load().sort("int", true);
+        new DataFrameAsserts(saved, "int", "string", "bigint")
+                .expectHeight(3)
+                .expectRow(0, 2, "s2_x", saved.getColumn("bigint").get(0))
+                .expectRow(1, 3, "s3", hashes1.getColumn("bigint").get(2))
+                .expectRow(2, 4, "s4", saved.getColumn("bigint").get(2));
+
+        assertNotEquals(hashes1.getColumn("bigint").get(1), saved.getColumn("bigint").get(0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIncrementalSync_NoMerge() {
+        DataFrame df = DataFrame.newFrame("id", "name", "salary").foldByRow(1L, "n1", 50_000.01);
+        connector.tableSaver("t1").incrementalSync(new SyncState()).save(df);
+    }
+}
@@ -3,10 +3,15 @@ package com.nhl.dflib.jdbc.connector.metadata;
 import org.junit.Test;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 
 import static org.junit.Assert.*;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class DbMetadataTest {
 
@@ -19,4 +24,40 @@ public class DbMetadataTest {
         assertEquals(TableFQName.forName("tab"), md.parseTableName("tab"));
         assertEquals(TableFQName.forName("cat.schema.tab"), md.parseTableName("cat.schema.tab"));
     }
+
+    @Test
+    public void testGetDefaultFetchSize() {
+        assertEquals(0, new DbMetadata(mock(DataSource.class), DbFlavor.DERBY, mock(DatabaseMetaData.class)).getDefaultFetchSize());
+        assertEquals(0, new DbMetadata(mock(DataSource.class), DbFlavor.MYSQL, mock(DatabaseMetaData.class)).getDefaultFetchSize());
+        assertTrue(new DbMetadata(mock(DataSource.class), DbFlavor.POSTGRES, mock(DatabaseMetaData.class)).getDefaultFetchSize() > 0);
+    }
+
+    @Test
+    public void testDriverFetchSize() {
+
+        DbMetadata mysql = new DbMetadata(mock(DataSource.class), DbFlavor.MYSQL, mock(DatabaseMetaData.class));
+        assertEquals(0, mysql.driverFetchSize(0));
+        assertEquals(Integer.MIN_VALUE, mysql.driverFetchSize(500));
+
+        DbMetadata pg = new DbMetadata(mock(DataSource.class), DbFlavor.POSTGRES, mock(DatabaseMetaData.class));
+        assertEquals(0, pg.driverFetchSize(0));
+        assertEquals(500, pg.driverFetchSize(500));
+    }
+
+    @Test
+    public void testGetReferencedTables_NotSupported() throws SQLException {
+
+        DatabaseMetaData jdbcMd = mock(DatabaseMetaData.class);
+        when(jdbcMd.getImportedKeys(anyString(), anyString(), anyString()))
+                .thenThrow(new SQLFeatureNotSupportedException());
+
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(jdbcMd);
+
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        DbMetadata md = new DbMetadata(dataSource, DbFlavor.DERBY, jdbcMd);
+        assertEquals(0, md.getReferencedTables(TableFQName.forCatalogSchemaAndName("c", "s", "t")).length);
+    }
 }
@@ -0,0 +1,180 @@
+package com.nhl.dflib.jdbc.connector.metadata;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+public class TableMetadataCacheTest {
+
+    private static Function<TableFQName, DbTableMetadata> countingLoader(AtomicInteger counter) {
+        return n -> {
+            counter.incrementAndGet();
+            return new DbTableMetadata(n, new DbColumnMetadata[0]);
+        };
+    }
+
+    @Test
+    public void testGet_Cached() {
+
+        AtomicInteger loads = new AtomicInteger();
+        TableMetadataCache cache = new TableMetadataCache(countingLoader(loads), 10);
+
+        DbTableMetadata t1 = cache.get(TableFQName.forName("t1"));
+        assertSame(t1, cache.get(TableFQName.forName("t1")));
+        assertEquals(1, loads.get());
+
+        cache.get(TableFQName.forName("t2"));
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testGet_EvictsLeastRecentlyUsed() {
+
+        AtomicInteger loads = new AtomicInteger();
+        TableMetadataCache cache = new TableMetadataCache(countingLoader(loads), 2);
+
+        DbTableMetadata t1 = cache.get(TableFQName.forName("t1"));
+        cache.get(TableFQName.forName("t2"));
+
+        // touch "t1", so that "t2" becomes the eldest
+        cache.get(TableFQName.forName("t1"));
+        cache.get(TableFQName.forName("t3"));
+
+        assertEquals(2, cache.size());
+        assertEquals(3, loads.get());
+
+        assertSame(t1, cache.get(TableFQName.forName("t1")));
+        assertEquals(3, loads.get());
+
+        cache.get(TableFQName.forName("t2"));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testSetMaxSize() {
+
+        AtomicInteger loads = new AtomicInteger();
+        TableMetadataCache cache = new TableMetadataCache(countingLoader(loads), 10);
+
+        cache.get(TableFQName.forName("t1"));
+        cache.get(TableFQName.forName("t2"));
+        cache.get(TableFQName.forName("t3"));
+
+        cache.setMaxSize(1);
+        assertEquals(1, cache.size());
+
+        cache.get(TableFQName.forName("t3"));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testGet_Ttl() throws InterruptedException {
+
+        AtomicInteger loads = new AtomicInteger();
+        TableMetadataCache cache = new TableMetadataCache(countingLoader(loads), 10);
+        cache.setTtlMs(20);
+
+        DbTableMetadata t1 = cache.get(TableFQName.forName("t1"));
+        assertSame(t1, cache.get(TableFQName.forName("t1")));
+
+        Thread.sleep(50);
+
+        assertNotSame(t1, cache.get(TableFQName.forName("t1")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testGet_Ttl_AsyncRefresh() throws InterruptedException {
+
+        AtomicInteger loads = new AtomicInteger();
+        TableMetadataCache cache = new TableMetadataCache(countingLoader(loads), 10);
+        cache.setTtlMs(20);
+
+        CountDownLatch refreshed = new CountDownLatch(1);
+        Executor executor = r -> {
+            r.run();
+            refreshed.countDown();
+        };
+        cache.setRefreshExecutor(executor);
+
+        DbTableMetadata t1 = cache.get(TableFQName.forName("t1"));
+        Thread.sleep(50);
+
+        // the executor runs the refresh inline, still the stale value should be returned to this caller
+        assertSame(t1, cache.get(TableFQName.forName("t1")));
+        assertTrue(refreshed.await(1, TimeUnit.SECONDS));
+        assertEquals(2, loads.get());
+
+        assertNotSame(t1, cache.get(TableFQName.forName("t1")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testGet_FailedLoadIsNotCached() {
+
+        AtomicInteger loads = new AtomicInteger();
+        TableMetadataCache cache = new TableMetadataCache(n -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new RuntimeException("first load fails");
+            }
+
+            return new DbTableMetadata(n, new DbColumnMetadata[0]);
+        }, 10);
+
+        try {
+            cache.get(TableFQName.forName("t1"));
+            fail("Exception expected");
+        } catch (RuntimeException e) {
+            assertEquals("first load fails", e.getMessage());
+        }
+
+        assertNotNull(cache.get(TableFQName.forName("t1")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testGet_FailedLoadWithError() {
+
+        AtomicInteger loads = new AtomicInteger();
+        TableMetadataCache cache = new TableMetadataCache(n -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new NoClassDefFoundError("first load fails");
+            }
+
+            return new DbTableMetadata(n, new DbColumnMetadata[0]);
+        }, 10);
+
+        try {
+            cache.get(TableFQName.forName("t1"));
+            fail("Error expected");
+        } catch (NoClassDefFoundError e) {
+            assertEquals("first load fails", e.getMessage());
+        }
+
+        assertEquals(0, cache.size());
+
+        // must not block on the failed entry
+        assertNotNull(cache.get(TableFQName.forName("t1")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testRemove() {
+
+        AtomicInteger loads = new AtomicInteger();
+        TableMetadataCache cache = new TableMetadataCache(countingLoader(loads), 10);
+
+        cache.get(TableFQName.forName("t1"));
+        cache.remove(TableFQName.forName("t1"));
+        cache.get(TableFQName.forName("t1"));
+
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LongLongHashMapTest {
+
+    @Test
+    public void testPut() {
+        LongLongHashMap map = new LongLongHashMap();
+        map.put(1L, 10L);
+        map.put(0L, 5L);
+        map.put(1L, 11L);
+
+        assertEquals(2, map.size());
+        assertTrue(map.containsEntry(1L, 11L));
+        assertFalse(map.containsEntry(1L, 10L));
+        assertTrue(map.containsEntry(0L, 5L));
+        assertFalse(map.containsEntry(2L, 0L));
+    }
+
+    @Test
+    public void testPut_Resize() {
+        LongLongHashMap map = new LongLongHashMap();
+        for (long i = 1; i <= 10_000; i++) {
+            map.put(i * 31, -i);
+        }
+
+        assertEquals(10_000, map.size());
+        for (long i = 1; i <= 10_000; i++) {
+            assertTrue(map.containsEntry(i * 31, -i));
+        }
+    }
+
+    @Test
+    public void testRemove() {
+        LongLongHashMap map = new LongLongHashMap();
+        for (long i = 1; i <= 1000; i++) {
+            map.put(i, i);
+        }
+
+        for (long i = 1; i <= 1000; i += 2) {
+            map.remove(i);
+        }
+
+        map.remove(5000L);
+        assertEquals(500, map.size());
+
+        // remaining entries must still be reachable after the removals shifted the probe chains
+        for (long i = 1; i <= 1000; i++) {
+            assertEquals(i % 2 == 0, map.containsEntry(i, i));
+        }
+    }
+
+    @Test
+    public void testClear() {
+        LongLongHashMap map = new LongLongHashMap();
+        map.put(0L, 1L);
+        map.put(7L, 1L);
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertFalse(map.containsEntry(0L, 1L));
+        assertFalse(map.containsEntry(7L, 1L));
+    }
+}
@@ -0,0 +1,32 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+public class MySqlBulkLoaderTest {
+
+    private MySqlBulkLoader loader = new MySqlBulkLoader(mock(JdbcConnector.class));
+
+    @Test
+    public void testIsDisabled_Client() {
+        assertTrue(loader.isDisabled(new SQLException(
+                "Loading local data is disabled; this must be enabled on both the client and server sides")));
+    }
+
+    @Test
+    public void testIsDisabled_Server() {
+        assertTrue(loader.isDisabled(new SQLException("The used command is not allowed with this MySQL version", "42000", 1148)));
+        assertTrue(loader.isDisabled(new SQLException("x", "42000", 3948)));
+    }
+
+    @Test
+    public void testIsDisabled_OtherError() {
+        assertFalse(loader.isDisabled(new SQLException("Duplicate entry '1' for key 'PRIMARY'", "23000", 1062)));
+        assertFalse(loader.isDisabled(new SQLException()));
+    }
+}
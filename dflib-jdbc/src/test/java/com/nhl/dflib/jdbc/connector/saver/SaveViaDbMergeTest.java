@@ -0,0 +1,79 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.jdbc.SaveOp;
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.metadata.DbFlavor;
+import com.nhl.dflib.jdbc.connector.metadata.TableFQName;
+import org.junit.Test;
+
+import java.sql.Statement;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SaveViaDbMergeTest {
+
+    private static final String[] COLUMNS = {"id", "a", "b"};
+    private static final String[] VALUE_COLUMNS = {"a", "b"};
+
+    private static SaveViaDbMerge strategy() {
+        JdbcConnector connector = mock(JdbcConnector.class);
+        when(connector.quoteIdentifier(anyString())).then(i -> "\"" + i.getArguments()[0] + "\"");
+        when(connector.quoteTableName(any(TableFQName.class))).then(i -> "\"" + i.getArguments()[0] + "\"");
+        return new SaveViaDbMerge(connector, TableFQName.forName("t"), new String[]{"id"});
+    }
+
+    @Test
+    public void testCreateMergeStatement_Postgres() {
+        assertEquals("insert into \"t\" (\"id\", \"a\", \"b\") values (?, ?, ?) on conflict (\"id\") " +
+                        "do update set \"a\" = excluded.\"a\", \"b\" = excluded.\"b\" " +
+                        "where (\"t\".\"a\", \"t\".\"b\") is distinct from (excluded.\"a\", excluded.\"b\")",
+                strategy().createMergeStatement(DbFlavor.POSTGRES, COLUMNS, VALUE_COLUMNS));
+    }
+
+    @Test
+    public void testCreateMergeStatement_Postgres_KeysOnly() {
+        assertEquals("insert into \"t\" (\"id\") values (?) on conflict (\"id\") do nothing",
+                strategy().createMergeStatement(DbFlavor.POSTGRES, new String[]{"id"}, new String[0]));
+    }
+
+    @Test
+    public void testCreateMergeStatement_MySQL() {
+        assertEquals("insert into \"t\" (\"id\", \"a\", \"b\") values (?, ?, ?) " +
+                        "on duplicate key update \"a\" = values(\"a\"), \"b\" = values(\"b\")",
+                strategy().createMergeStatement(DbFlavor.MYSQL, COLUMNS, VALUE_COLUMNS));
+    }
+
+    @Test
+    public void testCreateMergeStatement_SQLServer() {
+        assertEquals("merge into \"t\" as t using (values (?, ?, ?)) as s (\"id\", \"a\", \"b\") on t.\"id\" = s.\"id\" " +
+                        "when matched and exists (select s.\"a\", s.\"b\" except select t.\"a\", t.\"b\") " +
+                        "then update set \"a\" = s.\"a\", \"b\" = s.\"b\" " +
+                        "when not matched then insert (\"id\", \"a\", \"b\") values (s.\"id\", s.\"a\", s.\"b\");",
+                strategy().createMergeStatement(DbFlavor.SQLSERVER, COLUMNS, VALUE_COLUMNS));
+    }
+
+    @Test
+    public void testCreateMergeStatement_Derby() {
+        assertEquals("merge into \"t\" t using SYSIBM.SYSDUMMY1 on t.\"id\" = ? " +
+                        "when matched then update set \"a\" = ?, \"b\" = ? " +
+                        "when not matched then insert (\"id\", \"a\", \"b\") values (?, ?, ?)",
+                strategy().createMergeStatement(DbFlavor.DERBY, COLUMNS, VALUE_COLUMNS));
+    }
+
+    @Test
+    public void testToSaveOp() {
+        SaveViaDbMerge strategy = strategy();
+
+        assertEquals(SaveOp.skip, strategy.toSaveOp(DbFlavor.POSTGRES, 0));
+        assertEquals(SaveOp.merge, strategy.toSaveOp(DbFlavor.POSTGRES, 1));
+
+        assertEquals(SaveOp.skip, strategy.toSaveOp(DbFlavor.MYSQL, 0));
+        assertEquals(SaveOp.merge, strategy.toSaveOp(DbFlavor.MYSQL, 1));
+        assertEquals(SaveOp.update, strategy.toSaveOp(DbFlavor.MYSQL, 2));
+        assertEquals(SaveOp.merge, strategy.toSaveOp(DbFlavor.MYSQL, Statement.SUCCESS_NO_INFO));
+    }
+}
@@ -0,0 +1,117 @@
+package com.nhl.dflib.jdbc.connector.saver;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.IntSeries;
+import com.nhl.dflib.unit.IntSeriesAsserts;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class UpsertDiffTest {
+
+    private static void assertChangedRows(UpsertDiff diff, boolean... expected) {
+        assertEquals(Arrays.toString(expected), Arrays.toString(diff.getChangedRows()));
+    }
+
+    @Test
+    public void testCompute() {
+
+        DataFrame toSave = DataFrame.newFrame("id", "a", "b").foldByRow(
+                1, "x", 1.,
+                2, "y", 2.,
+                3, "z", 3.5,
+                4, null, 4.,
+                5, "w", 5.5);
+
+        DataFrame saved = DataFrame.newFrame("id", "a", "b").foldByRow(
+                1, "x", 1.,
+                2, "Y", 2.,
+                3, "z", 3.,
+                4, "v", 4.,
+                5, "W", 5.);
+
+        UpsertDiff diff = UpsertDiff.compute(toSave, saved, new String[]{"a", "b"}, null);
+
+        assertChangedRows(diff, false, true, true, true, true);
+
+        List<UpsertDiff.Group> groups = diff.getGroups();
+        assertEquals(3, groups.size());
+
+        assertArrayEquals(new String[]{"a"}, groups.get(0).getColumns());
+        new IntSeriesAsserts(groups.get(0).getRows()).expectData(1, 3);
+
+        assertArrayEquals(new String[]{"b"}, groups.get(1).getColumns());
+        new IntSeriesAsserts(groups.get(1).getRows()).expectData(2);
+
+        assertArrayEquals(new String[]{"a", "b"}, groups.get(2).getColumns());
+        new IntSeriesAsserts(groups.get(2).getRows()).expectData(4);
+    }
+
+    @Test
+    public void testCompute_Primitive() {
+
+        DataFrame toSave = DataFrame.newFrame("a", "b").foldIntByColumn(0, 1, 2, 3, 4, 5, 6);
+        DataFrame saved = DataFrame.newFrame("a", "b").foldIntByColumn(0, 1, 2, 0, 4, 5, 0);
+
+        assertTrue(toSave.<Integer>getColumn("a") instanceof IntSeries);
+
+        UpsertDiff diff = UpsertDiff.compute(toSave, saved, new String[]{"a", "b"}, null);
+        assertChangedRows(diff, false, false, true);
+
+        List<UpsertDiff.Group> groups = diff.getGroups();
+        assertEquals(1, groups.size());
+        assertArrayEquals(new String[]{"a", "b"}, groups.get(0).getColumns());
+        new IntSeriesAsserts(groups.get(0).getRows()).expectData(2);
+    }
+
+    @Test
+    public void testCompute_RowHash() {
+
+        DataFrame toSave = DataFrame.newFrame("id", "a", "hash").foldByRow(
+                1, "x", 100,
+                2, "y", 200);
+
+        DataFrame saved = DataFrame.newFrame("id", "a", "hash").foldByRow(
+                1, "X", 100,
+                2, "Y", 201);
+
+        UpsertDiff diff = UpsertDiff.compute(toSave, saved, new String[]{"a", "hash"}, "hash");
+
+        // rows with the same hash must be treated as unchanged
+        assertChangedRows(diff, false, true);
+
+        List<UpsertDiff.Group> groups = diff.getGroups();
+        assertEquals(1, groups.size());
+        assertArrayEquals(new String[]{"a", "hash"}, groups.get(0).getColumns());
+        new IntSeriesAsserts(groups.get(0).getRows()).expectData(1);
+    }
+
+    @Test
+    public void testCompute_Wide() {
+
+        int w = 70;
+        String[] labels = new String[w];
+        Object[] row1 = new Object[w];
+        Object[] row2 = new Object[w];
+        for (int i = 0; i < w; i++) {
+            labels[i] = "c" + i;
+            row1[i] = i;
+            row2[i] = i;
+        }
+
+        row2[68] = -1;
+
+        DataFrame toSave = DataFrame.newFrame(labels).foldByRow(row1);
+        DataFrame saved = DataFrame.newFrame(labels).foldByRow(row2);
+
+        UpsertDiff diff = UpsertDiff.compute(toSave, saved, labels, null);
+        assertChangedRows(diff, true);
+
+        List<UpsertDiff.Group> groups = diff.getGroups();
+        assertEquals(1, groups.size());
+        assertArrayEquals(new String[]{"c68"}, groups.get(0).getColumns());
+    }
+}
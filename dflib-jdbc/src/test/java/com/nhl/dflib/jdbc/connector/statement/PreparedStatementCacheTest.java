@@ -0,0 +1,176 @@
+package com.nhl.dflib.jdbc.connector.statement;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class PreparedStatementCacheTest {
+
+    private Connection connection;
+    private Map<String, PreparedStatement> physical;
+
+    @Before
+    public void before() throws SQLException {
+        physical = new HashMap<>();
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).then(i -> {
+            PreparedStatement st = mock(PreparedStatement.class);
+            physical.put((String) i.getArguments()[0], st);
+            return st;
+        });
+    }
+
+    @Test
+    public void testPrepareStatement_Reuse() throws SQLException {
+
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 5);
+
+        PreparedStatement st1 = cache.prepareStatement(connection, "select 1");
+        st1.setInt(1, 5);
+        st1.close();
+
+        PreparedStatement st2 = cache.prepareStatement(connection, "select 1");
+        assertSame(st1, st2);
+        st2.close();
+
+        verify(connection, times(1)).prepareStatement("select 1");
+        verify(physical.get("select 1"), times(2)).clearParameters();
+        verify(physical.get("select 1"), never()).close();
+
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test(expected = SQLException.class)
+    public void testUseAfterClose() throws SQLException {
+
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 5);
+
+        PreparedStatement st = cache.prepareStatement(connection, "select 1");
+        st.close();
+        st.executeQuery();
+    }
+
+    @Test
+    public void testPrepareStatement_InUse() throws SQLException {
+
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 5);
+
+        PreparedStatement st1 = cache.prepareStatement(connection, "select 1");
+        PreparedStatement st2 = cache.prepareStatement(connection, "select 1");
+
+        assertNotSame(st1, st2);
+        assertFalse(st2 instanceof CachedPreparedStatement);
+        verify(connection, times(2)).prepareStatement("select 1");
+    }
+
+    @Test
+    public void testPrepareStatement_Evict() throws SQLException {
+
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 2);
+
+        cache.prepareStatement(connection, "select 1").close();
+        PreparedStatement st2 = cache.prepareStatement(connection, "select 2");
+        PreparedStatement st3 = cache.prepareStatement(connection, "select 3");
+
+        assertEquals(2, cache.size());
+        verify(physical.get("select 1")).close();
+
+        // evicted while in use, so must be closed when returned
+        cache.prepareStatement(connection, "select 4").close();
+        verify(physical.get("select 2"), never()).close();
+        st2.close();
+        verify(physical.get("select 2")).close();
+
+        st3.close();
+        verify(physical.get("select 3"), never()).close();
+    }
+
+    @Test
+    public void testResetSettings() throws SQLException {
+
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 2);
+
+        PreparedStatement st = cache.prepareStatement(connection, "select 1");
+        st.setMaxRows(5);
+        st.close();
+
+        verify(physical.get("select 1")).setMaxRows(0);
+    }
+
+    @Test
+    public void testResetSettings_Other() throws SQLException {
+
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 2);
+
+        PreparedStatement physicalSt = mock(PreparedStatement.class);
+        when(physicalSt.getFetchDirection()).thenReturn(ResultSet.FETCH_FORWARD);
+        when(connection.prepareStatement("select 1")).thenReturn(physicalSt);
+
+        PreparedStatement st = cache.prepareStatement(connection, "select 1");
+
+        st.setFetchDirection(ResultSet.FETCH_REVERSE);
+        st.setMaxFieldSize(10);
+        st.setEscapeProcessing(false);
+        st.setPoolable(false);
+        st.close();
+
+        verify(physicalSt).setFetchDirection(ResultSet.FETCH_FORWARD);
+        verify(physicalSt).setMaxFieldSize(0);
+        verify(physicalSt).setEscapeProcessing(true);
+    }
+
+    @Test
+    public void testClose_ClosesResultSet() throws SQLException {
+
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 2);
+
+        PreparedStatement st = cache.prepareStatement(connection, "select 1");
+        ResultSet rs = mock(ResultSet.class);
+        when(physical.get("select 1").getResultSet()).thenReturn(rs);
+
+        st.close();
+
+        verify(rs).close();
+        verify(physical.get("select 1"), never()).close();
+    }
+
+    @Test(expected = SQLException.class)
+    public void testSetCursorName() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 2);
+        cache.prepareStatement(connection, "select 1").setCursorName("c1");
+    }
+
+    @Test
+    public void testClose() throws SQLException {
+
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 5);
+
+        cache.prepareStatement(connection, "select 1").close();
+        PreparedStatement st2 = cache.prepareStatement(connection, "select 2");
+
+        cache.close();
+        verify(physical.get("select 1")).close();
+        verify(physical.get("select 2"), never()).close();
+
+        st2.close();
+        verify(physical.get("select 2")).close();
+
+        try {
+            cache.prepareStatement(connection, "select 1");
+            fail("Closed cache must not return statements");
+        } catch (SQLException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.nhl.dflib.jdbc.connector.statement;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.series.BooleanArraySeries;
+import com.nhl.dflib.series.DoubleArraySeries;
+import com.nhl.dflib.series.IntArraySeries;
+import com.nhl.dflib.series.LongArraySeries;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.mockito.Mockito.*;
+
+public class StatementBinderTest {
+
+    private PreparedStatement statement;
+
+    @Before
+    public void before() {
+        statement = mock(PreparedStatement.class);
+    }
+
+    private StatementBinder createBinder(int... types) {
+        StatementPosition[] positions = new StatementPosition[types.length];
+        for (int i = 0; i < types.length; i++) {
+            positions[i] = new StatementPosition(statement, i + 1, types[i], ValueConverter.defaultConverter());
+        }
+
+        return new StatementBinder(positions);
+    }
+
+    @Test
+    public void testRowBinder_Primitive() throws SQLException {
+
+        DataFrame df = DataFrame.newFrame("a", "b", "c", "d", "e").columns(
+                new IntArraySeries(1, 2),
+                new LongArraySeries(3L, 4L),
+                new DoubleArraySeries(5.5, 6.5),
+                new BooleanArraySeries(true, false),
+                new IntArraySeries(7, 8));
+
+        RowBinder binder = createBinder(Types.INTEGER, Types.BIGINT, Types.DOUBLE, Types.BOOLEAN, Types.BIGINT)
+                .rowBinder(df);
+
+        binder.bind(1);
+
+        verify(statement).setInt(1, 2);
+        verify(statement).setLong(2, 4L);
+        verify(statement).setDouble(3, 6.5);
+        verify(statement).setBoolean(4, false);
+        verify(statement).setLong(5, 8L);
+        verify(statement, never()).setObject(anyInt(), anyObject(), anyInt());
+    }
+
+    @Test
+    public void testRowBinder_Objects() throws SQLException {
+
+        DataFrame df = DataFrame.newFrame("a", "b", "c").foldByRow(
+                1, "x", null,
+                2, "y", 3L);
+
+        RowBinder binder = createBinder(Types.INTEGER, Types.VARCHAR, Types.BIGINT).rowBinder(df);
+
+        binder.bind(0);
+        verify(statement).setObject(1, 1, Types.INTEGER);
+        verify(statement).setObject(2, "x", Types.VARCHAR);
+        verify(statement).setNull(3, Types.BIGINT);
+
+        binder.bind(1);
+        verify(statement).setObject(3, 3L, Types.BIGINT);
+    }
+
+    @Test
+    public void testRowBinder_TypeMismatch() throws SQLException {
+
+        // primitive column, that doesn't match the param type, must be bound as an object
+        DataFrame df = DataFrame.newFrame("a").columns(new DoubleArraySeries(1.5));
+
+        createBinder(Types.VARCHAR).rowBinder(df).bind(0);
+        verify(statement).setObject(1, 1.5, Types.VARCHAR);
+    }
+
+    @Test(expected = SQLException.class)
+    public void testRowBinder_TooFewColumns() throws SQLException {
+        DataFrame df = DataFrame.newFrame("a").foldByRow(1);
+        createBinder(Types.INTEGER, Types.INTEGER).rowBinder(df);
+    }
+}
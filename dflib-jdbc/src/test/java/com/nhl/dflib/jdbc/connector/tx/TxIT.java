@@ -9,6 +9,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import static org.junit.Assert.*;
@@ -116,4 +117,47 @@ public class TxIT extends BaseDbTest {
         // the transaction must have been rolled back and no data saved
         new DataFrameAsserts(df_12, "id", "name", "salary").expectHeight(0);
     }
+
+    @Test
+    public void testRun_StatementCache() {
+
+        DataFrame df1 = DataFrame.newFrame("id", "name", "salary")
+                .foldByRow(
+                        1L, "n1", 50_000.01,
+                        2L, "n2", 120_000.);
+
+        DataFrame df2 = DataFrame.newFrame("id", "name", "salary")
+                .foldByRow(
+                        2L, "n2_x", 120_000.,
+                        3L, "n3", 60_000.01);
+
+        Tx.newTransaction(connector)
+                .statementCache(10)
+                .run(c -> {
+                            c.tableSaver("t1").mergeByPk().save(df1);
+                            c.tableSaver("t1").mergeByPk().save(df2);
+
+                            try {
+                                PreparedStatement st1 = c.getConnection().prepareStatement("select 1 from \"t1\"");
+                                st1.close();
+                                PreparedStatement st2 = c.getConnection().prepareStatement("select 1 from \"t1\"");
+                                st2.close();
+                                assertSame(st1, st2);
+                            } catch (SQLException e) {
+                                throw new RuntimeException(e);
+                            }
+                        }
+                );
+
+        DataFrame df_123 = connector
+                .tableLoader("t1")
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df_123, "id", "name", "salary")
+                .expectHeight(3)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, "n2_x", 120_000.)
+                .expectRow(2, 3L, "n3", 60_000.01);
+    }
 }
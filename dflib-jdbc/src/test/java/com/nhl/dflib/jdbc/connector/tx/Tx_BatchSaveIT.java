@@ -0,0 +1,107 @@
+package com.nhl.dflib.jdbc.connector.tx;
+
+import com.nhl.dflib.DataFrame;
+import com.nhl.dflib.jdbc.Jdbc;
+import com.nhl.dflib.jdbc.SaveOp;
+import com.nhl.dflib.jdbc.connector.JdbcConnector;
+import com.nhl.dflib.jdbc.connector.SaveStats;
+import com.nhl.dflib.jdbc.unit.BaseDbTest;
+import com.nhl.dflib.unit.DataFrameAsserts;
+import com.nhl.dflib.unit.SeriesAsserts;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class Tx_BatchSaveIT extends BaseDbTest {
+
+    private JdbcConnector connector;
+
+    @Before
+    public void createConnector() {
+        this.connector = Jdbc.connector(getDataSource());
+    }
+
+    @Test
+    public void testSave_FkOrder() {
+
+        T1.insertColumns("id", "name", "salary")
+                .values(1L, "n1", 50_000.01)
+                .exec();
+
+        DataFrame t4 = DataFrame.newFrame("id", "t1_id", "name").foldByRow(
+                10L, 1L, "c10",
+                11L, 2L, "c11");
+
+        DataFrame t1 = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1_x", 50_000.01,
+                2L, "n2", 120_000.);
+
+        // "t4" references "t1", so must be saved after it, even though it is added first
+        List<SaveStats> stats = Tx.newTransaction(connector)
+                .batchSave()
+                .table("t4", t4)
+                .table("t1", t1, s -> s.mergeByPk())
+                .stagingThreads(2)
+                .save();
+
+        assertEquals(2, stats.size());
+        new SeriesAsserts(stats.get(0).getRowSaveStatuses()).expectData(SaveOp.insert, SaveOp.insert);
+        new SeriesAsserts(stats.get(1).getRowSaveStatuses()).expectData(SaveOp.update, SaveOp.insert);
+
+        new DataFrameAsserts(connector.tableLoader("t1").load().sort("id", true), columnNames(T1))
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1_x", 50_000.01)
+                .expectRow(1, 2L, "n2", 120_000.);
+
+        new DataFrameAsserts(connector.tableLoader("t4").load().sort("id", true), columnNames(T4))
+                .expectHeight(2)
+                .expectRow(0, 10L, 1L, "c10")
+                .expectRow(1, 11L, 2L, "c11");
+    }
+
+    @Test
+    public void testSave_Rollback() {
+
+        DataFrame t1 = DataFrame.newFrame("id", "name", "salary").foldByRow(
+                1L, "n1", 50_000.01);
+
+        // references a missing "t1" row
+        DataFrame t4 = DataFrame.newFrame("id", "t1_id", "name").foldByRow(
+                10L, 5L, "c10");
+
+        try {
+            Tx.newTransaction(connector)
+                    .batchSave()
+                    .table("t1", t1)
+                    .table("t4", t4)
+                    .save();
+
+            fail("Exception expected");
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        T1.matcher().assertNoMatches();
+        T4.matcher().assertNoMatches();
+    }
+
+    @Test
+    public void testSave_LazyData() {
+
+        DataFrame t1 = DataFrame.newFrame("id", "name", "salary")
+                .foldByRow(
+                        1L, "n1", 1.,
+                        2L, "n2", 2.)
+                .convertColumn("salary", (Double s) -> s * 1000);
+
+        Tx.newTransaction(connector).batchSave().table("t1", t1).save();
+
+        new DataFrameAsserts(connector.tableLoader("t1").load().sort("id", true), columnNames(T1))
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 1000.)
+                .expectRow(1, 2L, "n2", 2000.);
+    }
+}
@@ -0,0 +1,259 @@
+package com.nhl.dflib.jdbc.datasource;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class PoolingDataSourceTest {
+
+    private DataSource nonPooling;
+    private List<Connection> physical;
+    private List<PreparedStatement> physicalStatements;
+
+    @Before
+    public void before() throws SQLException {
+        physical = new ArrayList<>();
+        physicalStatements = new ArrayList<>();
+        nonPooling = mock(DataSource.class);
+        when(nonPooling.getConnection()).then(i -> {
+            Connection c = mock(Connection.class);
+            when(c.isValid(anyInt())).thenReturn(true);
+            when(c.prepareStatement(anyString())).then(ii -> {
+                PreparedStatement st = mock(PreparedStatement.class);
+                physicalStatements.add(st);
+                return st;
+            });
+            physical.add(c);
+            return c;
+        });
+    }
+
+    @Test
+    public void testReuse() throws SQLException {
+
+        PoolingDataSource ds = new PoolingDataSource(nonPooling, new PoolingDataSourceParameters());
+
+        Connection c1 = ds.getConnection();
+        Connection physical1 = physical.get(0);
+        assertEquals(1, ds.getActiveConnections());
+        c1.close();
+
+        assertEquals(0, ds.getActiveConnections());
+        assertEquals(1, ds.getIdleConnections());
+
+        Connection c2 = ds.getConnection();
+        assertNotSame(c1, c2);
+        c2.close();
+
+        assertEquals(1, ds.getCreatedConnections());
+        assertEquals(0, ds.getClosedConnections());
+        verify(nonPooling, times(1)).getConnection();
+    }
+
+    @Test
+    public void testClose_Twice() throws SQLException {
+
+        PoolingDataSource ds = new PoolingDataSource(nonPooling, new PoolingDataSourceParameters());
+
+        Connection c1 = ds.getConnection();
+        c1.close();
+        c1.close();
+
+        assertTrue(c1.isClosed());
+        assertEquals(0, ds.getActiveConnections());
+        assertEquals(1, ds.getIdleConnections());
+    }
+
+    @Test(expected = SQLException.class)
+    public void testUseAfterClose() throws SQLException {
+
+        PoolingDataSource ds = new PoolingDataSource(nonPooling, new PoolingDataSourceParameters());
+
+        Connection c1 = ds.getConnection();
+        c1.close();
+        c1.prepareStatement("select 1");
+    }
+
+    @Test
+    public void testMaxConnections_WaitTimeout() throws SQLException {
+
+        PoolingDataSource ds = new PoolingDataSource(nonPooling, new PoolingDataSourceParameters()
+                .maxConnections(1)
+                .maxQueueWaitTime(10));
+
+        Connection c1 = ds.getConnection();
+
+        try {
+            ds.getConnection();
+            fail("Must have timed out");
+        } catch (SQLException e) {
+            // expected
+        }
+
+        assertEquals(1, ds.getWaitTimeouts());
+
+        c1.close();
+        ds.getConnection().close();
+        assertEquals(1, ds.getCreatedConnections());
+    }
+
+    @Test
+    public void testMaxLifetime() throws SQLException, InterruptedException {
+
+        PoolingDataSource ds = new PoolingDataSource(nonPooling, new PoolingDataSourceParameters().maxLifetime(1));
+
+        Connection c1 = ds.getConnection();
+        Connection physical1 = physical.get(0);
+        Thread.sleep(5);
+        c1.close();
+
+        verify(physical1).close();
+        assertEquals(0, ds.getIdleConnections());
+        assertEquals(1, ds.getClosedConnections());
+    }
+
+    @Test
+    public void testMaxIdleTime() throws SQLException, InterruptedException {
+
+        PoolingDataSource ds = new PoolingDataSource(nonPooling, new PoolingDataSourceParameters().maxIdleTime(1));
+
+        Connection c1 = ds.getConnection();
+        Connection physical1 = physical.get(0);
+        c1.close();
+        Thread.sleep(5);
+
+        Connection c2 = ds.getConnection();
+        verify(physical1).close();
+        assertEquals(2, physical.size());
+        assertEquals(2, ds.getCreatedConnections());
+    }
+
+    @Test
+    public void testValidation() throws SQLException, InterruptedException {
+
+        PoolingDataSource ds = new PoolingDataSource(nonPooling, new PoolingDataSourceParameters());
+
+        Connection c1 = ds.getConnection();
+        Connection physical1 = physical.get(0);
+        when(physical1.isValid(anyInt())).thenReturn(false);
+        c1.close();
+
+        // recently used connections are not validated
+        Thread.sleep(600);
+
+        Connection c2 = ds.getConnection();
+        verify(physical1).close();
+        assertEquals(2, physical.size());
+    }
+
+    @Test
+    public void testReset() throws SQLException {
+
+        PoolingDataSource ds = new PoolingDataSource(nonPooling, new PoolingDataSourceParameters());
+
+        Connection c1 = ds.getConnection();
+        Connection physical1 = physical.get(0);
+
+        // mock connection reports "autoCommit == false"
+        c1.close();
+        verify(physical1).rollback();
+    }
+
+    @Test
+    public void testReset_StateChanged() throws SQLException {
+
+        PoolingDataSource ds = new PoolingDataSource(nonPooling, new PoolingDataSourceParameters());
+
+        Connection c1 = ds.getConnection();
+        Connection physical1 = physical.get(0);
+        c1.setCatalog("x");
+        c1.close();
+
+        verify(physical1).close();
+        assertEquals(0, ds.getIdleConnections());
+        assertEquals(1, ds.getClosedConnections());
+    }
+
+    @Test
+    public void testClosePool() throws SQLException {
+
+        PoolingDataSource ds = new PoolingDataSource(nonPooling, new PoolingDataSourceParameters());
+
+        Connection c1 = ds.getConnection();
+        Connection c2 = ds.getConnection();
+        Connection physical1 = physical.get(0);
+        Connection physical2 = physical.get(1);
+        c1.close();
+
+        ds.close();
+        verify(physical1).close();
+
+        c2.close();
+        verify(physical2).close();
+
+        try {
+            ds.getConnection();
+            fail("Closed pool must not return connections");
+        } catch (SQLException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testClosePool_DuringRelease() throws SQLException {
+
+        PoolingDataSource ds = new PoolingDataSource(nonPooling, new PoolingDataSourceParameters());
+
+        Connection c1 = ds.getConnection();
+        Connection physical1 = physical.get(0);
+
+        // close the pool after the release has checked the "closed" flag, but before the connection is back in the pool
+        doAnswer(i -> {
+            ds.close();
+            return null;
+        }).when(physical1).rollback();
+
+        c1.close();
+
+        verify(physical1).close();
+        assertEquals(0, ds.getIdleConnections());
+        assertEquals(1, ds.getClosedConnections());
+    }
+
+    @Test
+    public void testStatementCache() throws SQLException {
+
+        PoolingDataSource ds = new PoolingDataSource(nonPooling, new PoolingDataSourceParameters().statementCacheSize(5));
+
+        Connection c1 = ds.getConnection();
+        PreparedStatement st1 = c1.prepareStatement("select 1");
+        st1.close();
+        c1.close();
+
+        // the statement must survive the connection return to the pool
+        Connection c2 = ds.getConnection();
+        PreparedStatement st2 = c2.prepareStatement("select 1");
+        assertSame(st1, st2);
+        assertSame(c2, st2.getConnection());
+        st2.close();
+        c2.close();
+
+        verify(physical.get(0), times(1)).prepareStatement("select 1");
+        assertEquals(1, physicalStatements.size());
+        verify(physicalStatements.get(0), never()).close();
+
+        ds.close();
+        verify(physicalStatements.get(0)).close();
+    }
+}
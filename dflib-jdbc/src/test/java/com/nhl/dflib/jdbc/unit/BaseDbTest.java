@@ -21,12 +21,14 @@ public abstract class BaseDbTest {
     protected static Table T1;
     protected static Table T2;
     protected static Table T3;
+    protected static Table T4;
+    protected static Table T5;
     protected static Table T1_AUDIT;
 
     private static DataSource DATA_SOURCE;
 
     @Rule
-    public final TestDataManager dataManager = new TestDataManager(true, T1, T2, T3, T1_AUDIT);
+    public final TestDataManager dataManager = new TestDataManager(true, T1, T2, T3, T4, T5, T1_AUDIT);
 
     @BeforeClass
     public static void initDataSource() {
@@ -35,6 +37,8 @@ public abstract class BaseDbTest {
         T1 = bootstrap.getT1();
         T2 = bootstrap.getT2();
         T3 = bootstrap.getT3();
+        T4 = bootstrap.getT4();
+        T5 = bootstrap.getT5();
         T1_AUDIT = bootstrap.getT1Audit();
     }
 
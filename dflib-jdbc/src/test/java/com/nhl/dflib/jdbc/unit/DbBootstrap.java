@@ -65,4 +65,22 @@ public class DbBootstrap {
                 .initColumnTypesFromDBMetadata()
                 .build();
     }
+
+    public Table getT4() {
+        return runtime.getInstance(DatabaseChannelFactory.class)
+                .getChannel()
+                .newTable("t4")
+                .columnNames("id", "t1_id", "name")
+                .initColumnTypesFromDBMetadata()
+                .build();
+    }
+
+    public Table getT5() {
+        return runtime.getInstance(DatabaseChannelFactory.class)
+                .getChannel()
+                .newTable("t5")
+                .columnNames("id", "name")
+                .initColumnTypesFromDBMetadata()
+                .build();
+    }
 }
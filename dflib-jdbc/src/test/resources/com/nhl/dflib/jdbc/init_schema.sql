@@ -19,6 +19,15 @@ CREATE TABLE "t3" (
     "boolean" boolean not null
 );
 
+/* References "t1" */
+CREATE TABLE "t4" (
+    "id" bigint primary key,
+    "t1_id" bigint not null references "t1"("id"),
+    "name" varchar(100)
+);
+
+/* Non-integer key */
+CREATE TABLE "t5" ("id" decimal(10,2) primary key, "name" varchar(100));
 
 CREATE TABLE "t1_audit" (
     "id" bigint primary key GENERATED ALWAYS AS IDENTITY,